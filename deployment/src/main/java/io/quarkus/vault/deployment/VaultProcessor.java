@@ -3,6 +3,8 @@ package io.quarkus.vault.deployment;
 import org.jboss.jandex.DotName;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -24,13 +26,17 @@ import io.quarkus.vault.runtime.Base64StringDeserializer;
 import io.quarkus.vault.runtime.Base64StringSerializer;
 import io.quarkus.vault.runtime.VaultAppRoleAuthManager;
 import io.quarkus.vault.runtime.VaultAuthManager;
+import io.quarkus.vault.runtime.VaultClientPrewarmer;
 import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultCredentialsPrewarmer;
 import io.quarkus.vault.runtime.VaultCredentialsProvider;
 import io.quarkus.vault.runtime.VaultDynamicCredentialsManager;
 import io.quarkus.vault.runtime.VaultKubernetesAuthManager;
 import io.quarkus.vault.runtime.VaultKvManager;
+import io.quarkus.vault.runtime.VaultNamedClients;
 import io.quarkus.vault.runtime.VaultPKIManager;
 import io.quarkus.vault.runtime.VaultPKIManagerFactory;
+import io.quarkus.vault.runtime.VaultSnapshot;
 import io.quarkus.vault.runtime.VaultSystemBackendManager;
 import io.quarkus.vault.runtime.VaultTOTPManager;
 import io.quarkus.vault.runtime.VaultTransitManager;
@@ -51,6 +57,10 @@ import io.quarkus.vault.runtime.client.secretengine.VaultInternalTransitSecretEn
 import io.quarkus.vault.runtime.config.VaultBuildTimeConfig;
 import io.quarkus.vault.runtime.config.VaultConfigSourceFactoryBuilder;
 import io.quarkus.vault.runtime.health.VaultHealthCheck;
+import io.quarkus.vault.runtime.pki.VaultClientKeyManager;
+import io.quarkus.vault.runtime.pki.VaultHttpServerOptionsCustomizer;
+import io.quarkus.vault.runtime.pki.VaultManagedCertificates;
+import io.quarkus.vault.runtime.pki.VaultPKIRevocationIndexes;
 
 public class VaultProcessor {
 
@@ -102,9 +112,16 @@ public class VaultProcessor {
                 .addBeanClass(PrivateVertxVaultClient.class)
                 .addBeanClass(SharedVertxVaultClient.class)
                 .addBeanClass(VaultConfigHolder.class)
+                .addBeanClass(VaultNamedClients.class)
+                .addBeanClass(VaultClientPrewarmer.class)
+                .addBeanClass(VaultCredentialsPrewarmer.class)
+                .addBeanClass(VaultSnapshot.class)
                 .addBeanClass(VaultPKIManager.class)
                 .addBeanClass(VaultPKISecretEngine.class)
                 .addBeanClass(VaultPKIManagerFactory.class)
+                .addBeanClass(VaultPKIRevocationIndexes.class)
+                .addBeanClass(VaultManagedCertificates.class)
+                .addBeanClass(VaultClientKeyManager.class)
                 .addBeanClass(VaultInternalKvV1SecretEngine.class)
                 .addBeanClass(VaultInternalKvV2SecretEngine.class)
                 .addBeanClass(VaultInternalTransitSecretEngine.class)
@@ -119,6 +136,22 @@ public class VaultProcessor {
                 .build();
     }
 
+    @BuildStep
+    void registerHttpServerCustomizer(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (capabilities.isPresent(Capability.VERTX_HTTP)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(VaultHttpServerOptionsCustomizer.class));
+        }
+    }
+
+    @BuildStep
+    void registerTracing(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (capabilities.isPresent(Capability.OPENTELEMETRY_TRACER)) {
+            // by name, the OpenTelemetry API is an optional dependency of the runtime module
+            additionalBeans.produce(new AdditionalBeanBuildItem.Builder().setUnremovable()
+                    .addBeanClass("io.quarkus.vault.runtime.tracing.VaultOpenTelemetryTracing").build());
+        }
+    }
+
     @BuildStep
     void vaultConfigFactory(BuildProducer<RunTimeConfigBuilderBuildItem> runTimeConfigBuilder) {
         runTimeConfigBuilder.produce(new RunTimeConfigBuilderBuildItem(VaultConfigSourceFactoryBuilder.class.getName()));
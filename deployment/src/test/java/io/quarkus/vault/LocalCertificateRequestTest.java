@@ -0,0 +1,122 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.bouncycastle.asn1.ASN1OctetString;
+import org.bouncycastle.asn1.DERIA5String;
+import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.GeneralName;
+import org.bouncycastle.asn1.x509.GeneralNames;
+import org.bouncycastle.openssl.PEMKeyPair;
+import org.bouncycastle.openssl.PEMParser;
+import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
+import org.bouncycastle.operator.DefaultAlgorithmNameFinder;
+import org.bouncycastle.operator.jcajce.JcaContentVerifierProviderBuilder;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequest;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.pki.CertificateKeyType;
+import io.quarkus.vault.pki.DataFormat;
+import io.quarkus.vault.pki.GenerateCertificateOptions;
+import io.quarkus.vault.pki.PrivateKeyEncoding;
+import io.quarkus.vault.runtime.pki.LocalCertificateRequest;
+
+public class LocalCertificateRequestTest {
+
+    private static final GenerateCertificateOptions OPTIONS = new GenerateCertificateOptions()
+            .setSubjectCommonName("app.example.com")
+            .setSubjectAlternativeNames(List.of("www.example.com", "admin@example.com"))
+            .setIpSubjectAlternativeNames(List.of("10.0.0.1", "::1"))
+            .setUriSubjectAlternativeNames(List.of("spiffe://example.com/app"));
+
+    @Test
+    public void rsa() throws Exception {
+        LocalCertificateRequest request = LocalCertificateRequest.generate(CertificateKeyType.RSA, null, OPTIONS);
+        JcaPKCS10CertificationRequest csr = parse(request);
+        verify(csr, "SHA256WITHRSA");
+        assertEquals(2048, ((RSAPublicKey) csr.getPublicKey()).getModulus().bitLength());
+        assertSameKey(csr.getPublicKey(), request);
+    }
+
+    @Test
+    public void ec() throws Exception {
+        for (int bits : new int[] { 256, 384, 521 }) {
+            LocalCertificateRequest request = LocalCertificateRequest.generate(CertificateKeyType.EC, bits, OPTIONS);
+            JcaPKCS10CertificationRequest csr = parse(request);
+            verify(csr, "SHA" + (bits == 256 ? 256 : bits == 384 ? 384 : 512) + "WITHECDSA");
+            assertSameKey(csr.getPublicKey(), request);
+        }
+    }
+
+    @Test
+    public void noSubjectAlternativeNames() throws Exception {
+        LocalCertificateRequest request = LocalCertificateRequest.generate(CertificateKeyType.EC, null,
+                new GenerateCertificateOptions().setSubjectCommonName("app.example.com"));
+        JcaPKCS10CertificationRequest csr = parse(request);
+        assertEquals("CN=app.example.com", csr.getSubject().toString());
+        assertEquals(0, csr.getAttributes().length);
+        assertTrue(csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(csr.getPublicKey())));
+    }
+
+    @Test
+    public void hostNameAsIpSubjectAlternativeName() {
+        assertThrows(VaultException.class, () -> LocalCertificateRequest.generate(CertificateKeyType.EC, null,
+                new GenerateCertificateOptions().setIpSubjectAlternativeNames(List.of("localhost"))));
+    }
+
+    private static JcaPKCS10CertificationRequest parse(LocalCertificateRequest request) throws Exception {
+        try (PEMParser parser = new PEMParser(new StringReader(request.getPemSigningRequest()))) {
+            return new JcaPKCS10CertificationRequest((PKCS10CertificationRequest) parser.readObject());
+        }
+    }
+
+    private static void verify(JcaPKCS10CertificationRequest csr, String algorithm) throws Exception {
+        assertEquals("CN=app.example.com", csr.getSubject().toString());
+        assertTrue(csr.isSignatureValid(new JcaContentVerifierProviderBuilder().build(csr.getPublicKey())));
+        assertEquals(algorithm, new DefaultAlgorithmNameFinder()
+                .getAlgorithmName(csr.getSignatureAlgorithm()));
+
+        Extensions extensions = Extensions.getInstance(
+                csr.getAttributes(PKCSObjectIdentifiers.pkcs_9_at_extensionRequest)[0].getAttrValues().getObjectAt(0));
+        GeneralNames names = GeneralNames.fromExtensions(extensions, Extension.subjectAlternativeName);
+        Map<String, Integer> sans = new TreeMap<>();
+        for (GeneralName name : names.getNames()) {
+            if (name.getTagNo() == GeneralName.iPAddress) {
+                byte[] address = ASN1OctetString.getInstance(name.getName()).getOctets();
+                sans.put(InetAddress.getByAddress(address).getHostAddress(), name.getTagNo());
+            } else {
+                sans.put(DERIA5String.getInstance(name.getName()).getString(), name.getTagNo());
+            }
+        }
+        assertEquals(Map.of(
+                "www.example.com", GeneralName.dNSName,
+                "admin@example.com", GeneralName.rfc822Name,
+                "10.0.0.1", GeneralName.iPAddress,
+                "0:0:0:0:0:0:0:1", GeneralName.iPAddress,
+                "spiffe://example.com/app", GeneralName.uniformResourceIdentifier), sans);
+    }
+
+    private static void assertSameKey(PublicKey publicKey, LocalCertificateRequest request) throws Exception {
+        // the raw PKCS#1 / SEC 1 encoding holds the public key as well
+        String pem = (String) request.getPrivateKeyData(DataFormat.PEM, PrivateKeyEncoding.RAW).getData();
+        try (PEMParser parser = new PEMParser(new StringReader(pem))) {
+            KeyPair keyPair = new JcaPEMKeyConverter().getKeyPair((PEMKeyPair) parser.readObject());
+            assertArrayEquals(publicKey.getEncoded(), keyPair.getPublic().getEncoded());
+        }
+    }
+}
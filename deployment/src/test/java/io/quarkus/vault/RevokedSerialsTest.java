@@ -0,0 +1,58 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.runtime.pki.RevokedSerials;
+
+public class RevokedSerialsTest {
+
+    @Test
+    public void contains() {
+        BigInteger vaultSerial = new BigInteger("1d2ec6064518600e23d6c51743c0fe46edd150be", 16);
+        List<BigInteger> serials = new ArrayList<>();
+        serials.add(BigInteger.ZERO);
+        serials.add(BigInteger.valueOf(42));
+        serials.add(BigInteger.valueOf(Long.MAX_VALUE));
+        serials.add(vaultSerial);
+        serials.add(vaultSerial);
+
+        RevokedSerials revokedSerials = RevokedSerials.of(serials);
+
+        assertEquals(4, revokedSerials.size());
+        assertTrue(revokedSerials.contains(BigInteger.ZERO));
+        assertTrue(revokedSerials.contains(42L));
+        assertTrue(revokedSerials.contains(BigInteger.valueOf(Long.MAX_VALUE)));
+        assertTrue(revokedSerials.contains(new BigInteger("1d2ec6064518600e23d6c51743c0fe46edd150be", 16)));
+        assertFalse(revokedSerials.contains(BigInteger.ONE));
+        assertFalse(revokedSerials.contains(vaultSerial.add(BigInteger.ONE)));
+        assertFalse(revokedSerials.contains((BigInteger) null));
+    }
+
+    @Test
+    public void many() {
+        List<BigInteger> serials = new ArrayList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            serials.add(BigInteger.valueOf(i * 7L));
+            serials.add(BigInteger.valueOf(i).shiftLeft(100));
+        }
+
+        RevokedSerials revokedSerials = RevokedSerials.of(serials);
+
+        assertEquals(20_000, revokedSerials.size());
+        for (int i = 1; i <= 10_000; i++) {
+            assertTrue(revokedSerials.contains(i * 7L));
+            assertFalse(revokedSerials.contains(i * 7L + 1));
+            assertTrue(revokedSerials.contains(BigInteger.valueOf(i).shiftLeft(100)));
+        }
+        assertFalse(RevokedSerials.EMPTY.contains(7L));
+    }
+
+}
@@ -0,0 +1,177 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.client.VaultEndpoints;
+import io.quarkus.vault.runtime.client.dto.kv.VaultKvSecretJsonV2;
+import io.quarkus.vault.runtime.client.dto.kv.VaultKvSecretV2WriteBody;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalKvV2SecretEngine;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalPKISecretEngine;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.quarkus.vault.sys.VaultHealth;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpServer;
+
+public class VaultClusterTest {
+
+    private static final VaultInternalKvV2SecretEngine kv = new VaultInternalKvV2SecretEngine();
+    private static final VaultInternalPKISecretEngine pki = new VaultInternalPKISecretEngine();
+
+    private Vertx vertx;
+    private final List<Node> nodes = new ArrayList<>();
+    private NamedVertxVaultClient client;
+
+    @BeforeEach
+    public void startCluster() {
+        vertx = Vertx.vertx();
+        nodes.add(new Node(VaultHealth.DEFAULT_INIT_UNSEAL_ACTIVE_STATUS_CODE));
+        nodes.add(new Node(VaultHealth.DEFAULT_PERFORMANCE_STANDBY_STATUS_CODE));
+        nodes.add(new Node(VaultHealth.DEFAULT_UNSEAL_STANDBY_STATUS_CODE));
+        client = new NamedVertxVaultClient("ha", VaultNamedConfigs.load(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.vault.ha.url", nodes.get(0).url(),
+                        "quarkus.vault.ha.cluster.nodes", nodes.get(1).url() + "," + nodes.get(2).url(),
+                        "quarkus.vault.ha.cluster.probe-interval", "PT0.05S",
+                        "quarkus.vault.ha.retry.max-attempts", "1"), "test", 0))
+                .build(), "ha"), vertx, new TlsConfig(), null);
+    }
+
+    @AfterEach
+    public void stopCluster() {
+        client.close();
+        nodes.forEach(Node::stop);
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    public void routing() {
+        awaitRoles(VaultEndpoints.Role.ACTIVE, VaultEndpoints.Role.PERFORMANCE_STANDBY, VaultEndpoints.Role.STANDBY);
+
+        read();
+        write();
+        credentials();
+        rotateCrl();
+
+        assertEquals(List.of("POST /v1/secret/data/foo", "GET /v1/database/creds/app", "GET /v1/pki/crl/rotate"),
+                nodes.get(0).requests);
+        assertEquals(List.of("GET /v1/secret/data/foo"), nodes.get(1).requests);
+        // a standby that is not a performance standby serves nothing
+        assertEquals(List.of(), nodes.get(2).requests);
+    }
+
+    @Test
+    public void failover() {
+        awaitRoles(VaultEndpoints.Role.ACTIVE, VaultEndpoints.Role.PERFORMANCE_STANDBY, VaultEndpoints.Role.STANDBY);
+
+        // the active node goes away, and the standby is elected
+        nodes.get(0).stop();
+        nodes.get(2).health = VaultHealth.DEFAULT_INIT_UNSEAL_ACTIVE_STATUS_CODE;
+        awaitRoles(VaultEndpoints.Role.UNAVAILABLE, VaultEndpoints.Role.PERFORMANCE_STANDBY, VaultEndpoints.Role.ACTIVE);
+
+        write();
+        read();
+        assertEquals(List.of("POST /v1/secret/data/foo"), nodes.get(2).requests);
+        assertEquals(List.of("GET /v1/secret/data/foo"), nodes.get(1).requests);
+    }
+
+    private void read() {
+        VaultKvSecretJsonV2 secret = kv.getSecretJson(client, "token", "secret", "foo").await().indefinitely();
+        assertEquals("bar", secret.data.data.get("foo"));
+    }
+
+    private void write() {
+        VaultKvSecretV2WriteBody body = new VaultKvSecretV2WriteBody();
+        body.data = Map.of("foo", "bar");
+        kv.writeSecret(client, "token", "secret", "foo", body).await().indefinitely();
+    }
+
+    private void credentials() {
+        client.get("VAULT [CREDENTIALS] Generate Database Credentials", "database/creds/app", "token", Object.class)
+                .await().indefinitely();
+    }
+
+    private void rotateCrl() {
+        pki.rotateCertificateRevocationList(client, "token", "pki").await().indefinitely();
+    }
+
+    private void awaitRoles(VaultEndpoints.Role... roles) {
+        // the first request starts the health probes
+        client.get("VAULT [SYS] Warm Up", "sys/mounts", "token", Object.class)
+                .onFailure().recoverWithNull().await().indefinitely();
+        List<VaultEndpoints.Endpoint> endpoints = client.getEndpoints().getEndpoints();
+        await(() -> {
+            for (int i = 0; i < roles.length; i++) {
+                if (endpoints.get(i).getRole() != roles[i]) {
+                    return false;
+                }
+            }
+            return true;
+        });
+        nodes.forEach(node -> node.requests.clear());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private class Node {
+
+        final HttpServer server;
+        final List<String> requests = new CopyOnWriteArrayList<>();
+        volatile int health;
+        boolean stopped;
+
+        Node(int health) {
+            this.health = health;
+            this.server = vertx.createHttpServer()
+                    .requestHandler(request -> {
+                        if (request.path().equals("/v1/sys/health")) {
+                            request.response().setStatusCode(this.health).endAndForget("{}");
+                            return;
+                        }
+                        requests.add(request.method() + " " + request.path());
+                        request.response()
+                                .putHeader("Content-Type", "application/json")
+                                .endAndForget("{\"data\":{\"data\":{\"foo\":\"bar\"}}}");
+                    })
+                    .listen(0, "localhost")
+                    .await().indefinitely();
+        }
+
+        String url() {
+            return "http://localhost:" + server.actualPort();
+        }
+
+        void stop() {
+            if (!stopped) {
+                stopped = true;
+                server.closeAndAwait();
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.runtime.client.VaultClientMetrics;
+import io.quarkus.vault.runtime.client.VaultConcurrencyLimitException;
+import io.quarkus.vault.runtime.client.VaultConcurrencyLimiter;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+public class VaultConcurrencyLimiterTest {
+
+    @Test
+    public void priorities() {
+        VaultConcurrencyLimiter limiter = limiter(2, 10, Duration.ofSeconds(10));
+        List<String> granted = new ArrayList<>();
+        limiter.acquire(VaultRequestPriority.BULK).subscribe().with(ignored -> granted.add("bulk-1"));
+        limiter.acquire(VaultRequestPriority.BULK).subscribe().with(ignored -> granted.add("bulk-2"));
+        limiter.acquire(VaultRequestPriority.BULK).subscribe().with(ignored -> granted.add("bulk-3"));
+        limiter.acquire(VaultRequestPriority.INTERACTIVE).subscribe().with(ignored -> granted.add("interactive"));
+        assertEquals(List.of("bulk-1", "bulk-2"), granted);
+        assertEquals(2, limiter.getQueued());
+
+        limiter.release(1_000_000, false);
+        assertEquals(List.of("bulk-1", "bulk-2", "interactive"), granted);
+        limiter.release(1_000_000, false);
+        assertEquals(List.of("bulk-1", "bulk-2", "interactive", "bulk-3"), granted);
+    }
+
+    @Test
+    public void adaptiveLimit() {
+        VaultConcurrencyLimiter limiter = limiter(10, 10, Duration.ofSeconds(10));
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(VaultRequestPriority.INTERACTIVE).await().indefinitely();
+        }
+        limiter.release(1_000_000, true);
+        assertEquals(9, limiter.getLimit());
+        for (int i = 0; i < 9; i++) {
+            limiter.release(1_000_000, false);
+        }
+        assertTrue(limiter.getLimit() >= 9);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void boundedQueue() {
+        VaultConcurrencyLimiter limiter = limiter(1, 1, Duration.ofMillis(50));
+        limiter.acquire(VaultRequestPriority.INTERACTIVE).await().indefinitely();
+        List<Throwable> failures = new ArrayList<>();
+        limiter.acquire(VaultRequestPriority.INTERACTIVE).subscribe().with(ignored -> {
+        }, failures::add);
+        limiter.acquire(VaultRequestPriority.INTERACTIVE).subscribe().with(ignored -> {
+        }, failures::add);
+        assertEquals(1, failures.size());
+
+        // the queued request times out
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertEquals(2, failures.size());
+        assertTrue(failures.get(1) instanceof VaultConcurrencyLimitException);
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    public void cancelledOnSubscription() {
+        VaultConcurrencyLimiter limiter = limiter(1, 1, Duration.ofSeconds(10));
+        AtomicReference<UniSubscription> subscription = new AtomicReference<>();
+        limiter.acquire(VaultRequestPriority.INTERACTIVE).subscribe().withSubscriber(subscriber(limiter, subscription,
+                true));
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+
+        // the permit is still available
+        limiter.acquire(VaultRequestPriority.INTERACTIVE).await().atMost(Duration.ofSeconds(1));
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void cancelledWhileGranted() throws Exception {
+        VaultConcurrencyLimiter limiter = limiter(1, 1, Duration.ofSeconds(10));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 2000; i++) {
+                AtomicReference<UniSubscription> subscription = new AtomicReference<>();
+                Future<?> acquire = executor.submit(() -> limiter.acquire(VaultRequestPriority.INTERACTIVE)
+                        .subscribe().withSubscriber(subscriber(limiter, subscription, false)));
+                Future<?> cancel = executor.submit(() -> {
+                    // races with the direct grant of the permit
+                    UniSubscription current;
+                    while ((current = subscription.get()) == null) {
+                        Thread.onSpinWait();
+                    }
+                    current.cancel();
+                });
+                acquire.get(10, TimeUnit.SECONDS);
+                cancel.get(10, TimeUnit.SECONDS);
+                assertEquals(0, limiter.getInFlight());
+                assertEquals(0, limiter.getQueued());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Releases the permit once granted, as the client does once the request completes.
+     */
+    private static UniSubscriber<Void> subscriber(VaultConcurrencyLimiter limiter,
+            AtomicReference<UniSubscription> subscription, boolean cancelOnSubscribe) {
+        return new UniSubscriber<>() {
+            @Override
+            public void onSubscribe(UniSubscription s) {
+                subscription.set(s);
+                if (cancelOnSubscribe) {
+                    s.cancel();
+                }
+            }
+
+            @Override
+            public void onItem(Void item) {
+                limiter.release();
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+            }
+        };
+    }
+
+    private static VaultConcurrencyLimiter limiter(int limit, int maxQueueSize, Duration maxQueueWait) {
+        return new VaultConcurrencyLimiter(limit, 1, 100, 0.9, Duration.ofSeconds(1), maxQueueSize, maxQueueWait,
+                new VaultClientMetrics());
+    }
+}
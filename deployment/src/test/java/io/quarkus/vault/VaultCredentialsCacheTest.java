@@ -0,0 +1,63 @@
+package io.quarkus.vault;
+
+import static io.quarkus.credentials.CredentialsProvider.EXPIRATION_TIMESTAMP_PROPERTY_NAME;
+import static io.quarkus.credentials.CredentialsProvider.PASSWORD_PROPERTY_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.runtime.VaultCredentialsCache;
+import io.smallrye.mutiny.Uni;
+
+public class VaultCredentialsCacheTest {
+
+    private static final Duration PERIOD = Duration.ofMinutes(1);
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-01-01T00:00:00Z"));
+    private final AtomicInteger reads = new AtomicInteger();
+    private final VaultCredentialsCache cache = new VaultCredentialsCache(now::get);
+    private final Supplier<Uni<Map<String, String>>> read = () -> Uni.createFrom()
+            .item(() -> Map.of(PASSWORD_PROPERTY_NAME, "password" + reads.incrementAndGet()));
+
+    @Test
+    public void cachePeriod() {
+        Map<String, String> credentials = get();
+        assertEquals("password1", credentials.get(PASSWORD_PROPERTY_NAME));
+        assertEquals("2026-01-01T00:01:00Z", credentials.get(EXPIRATION_TIMESTAMP_PROPERTY_NAME));
+
+        now.set(now.get().plusSeconds(10));
+        assertEquals("password1", get().get(PASSWORD_PROPERTY_NAME));
+        assertEquals(1, reads.get());
+
+        // past half of the period, the cached value is returned and refreshed
+        now.set(now.get().plusSeconds(25));
+        assertEquals("password1", get().get(PASSWORD_PROPERTY_NAME));
+        assertEquals(2, reads.get());
+        assertEquals("password2", get().get(PASSWORD_PROPERTY_NAME));
+        assertEquals("2026-01-01T00:01:35Z", get().get(EXPIRATION_TIMESTAMP_PROPERTY_NAME));
+
+        // expired, read again
+        now.set(now.get().plus(PERIOD));
+        assertEquals("password3", get().get(PASSWORD_PROPERTY_NAME));
+        assertEquals(3, reads.get());
+    }
+
+    @Test
+    public void disabled() {
+        cache.get("db", Duration.ZERO, read).await().indefinitely();
+        Map<String, String> credentials = cache.get("db", Duration.ZERO, read).await().indefinitely();
+        assertEquals("password2", credentials.get(PASSWORD_PROPERTY_NAME));
+        assertEquals(null, credentials.get(EXPIRATION_TIMESTAMP_PROPERTY_NAME));
+    }
+
+    private Map<String, String> get() {
+        return cache.get("db", PERIOD, read).await().indefinitely();
+    }
+}
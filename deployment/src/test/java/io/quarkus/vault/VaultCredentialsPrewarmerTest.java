@@ -0,0 +1,119 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultCredentialsPrewarmer;
+import io.quarkus.vault.runtime.VaultCredentialsProvider;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.mutiny.Uni;
+
+public class VaultCredentialsPrewarmerTest {
+
+    private static final Map<String, String> CREDENTIALS = Map.of("user", "app", "password", "secret");
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Test
+    public void concurrent() {
+        VaultCredentialsPrewarmer prewarmer = prewarmer(Map.of("a", "warn", "b", "warn", "c", "warn"), "PT1S",
+                name -> Uni.createFrom().item(CREDENTIALS).onItem().delayIt().by(Duration.ofMillis(200)));
+        assertFalse(prewarmer.isReady());
+
+        // startup does not wait for the providers that only log a warning
+        long start = System.nanoTime();
+        prewarmer.prewarm();
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 200);
+        assertFalse(prewarmer.isReady());
+
+        await(prewarmer::isReady);
+        assertEquals(3, maxInFlight.get());
+    }
+
+    @Test
+    public void timeout() {
+        VaultCredentialsPrewarmer prewarmer = prewarmer(Map.of("a", "warn", "slow", "warn"), "PT0.1S",
+                name -> name.equals("slow") ? Uni.createFrom().nothing() : Uni.createFrom().item(CREDENTIALS));
+        prewarmer.prewarm();
+        // a provider not resolved in time does not keep the application unready
+        await(prewarmer::isReady);
+    }
+
+    @Test
+    public void failurePolicy() {
+        Function<String, Uni<Map<String, String>>> credentials = name -> name.startsWith("broken")
+                ? Uni.createFrom().failure(new VaultException("permission denied"))
+                : Uni.createFrom().item(CREDENTIALS);
+
+        VaultCredentialsPrewarmer warn = prewarmer(Map.of("a", "fail", "broken", "warn"), "PT1S", credentials);
+        warn.prewarm();
+        await(warn::isReady);
+
+        VaultCredentialsPrewarmer fail = prewarmer(Map.of("a", "warn", "broken-orders", "fail"), "PT1S", credentials);
+        VaultException e = assertThrows(VaultException.class, fail::prewarm);
+        assertEquals("unable to resolve credentials providers [broken-orders] on startup", e.getMessage());
+    }
+
+    @Test
+    public void failurePolicyTimeout() {
+        VaultCredentialsPrewarmer prewarmer = prewarmer(Map.of("slow", "fail"), "PT0.1S",
+                name -> Uni.createFrom().nothing());
+        long start = System.nanoTime();
+        assertThrows(VaultException.class, prewarmer::prewarm);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 5000);
+    }
+
+    private VaultCredentialsPrewarmer prewarmer(Map<String, String> failurePolicies, String timeout,
+            Function<String, Uni<Map<String, String>>> credentials) {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("quarkus.vault.test.url", "http://localhost:8200");
+        properties.put("quarkus.vault.test.prewarm.credentials-providers", "true");
+        properties.put("quarkus.vault.test.prewarm.credentials-providers-timeout", timeout);
+        failurePolicies.forEach((name, policy) -> {
+            properties.put("quarkus.vault.test.credentials-provider." + name + ".credentials-role", name);
+            properties.put("quarkus.vault.test.credentials-provider." + name + ".prewarm-failure", policy);
+        });
+        VaultConfigHolder holder = new VaultConfigHolder().setVaultRuntimeConfig(VaultNamedConfigs.load(
+                new SmallRyeConfigBuilder()
+                        .withSources(new PropertiesConfigSource(properties, "test", 0))
+                        .build(),
+                "test"));
+        return new VaultCredentialsPrewarmer(holder, new VaultCredentialsProvider() {
+            @Override
+            public Uni<Map<String, String>> getCredentialsAsync(String credentialsProviderName) {
+                return Uni.createFrom().deferred(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return credentials.apply(credentialsProviderName);
+                }).onTermination().invoke(inFlight::decrementAndGet);
+            }
+        });
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
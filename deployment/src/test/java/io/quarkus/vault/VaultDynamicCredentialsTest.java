@@ -0,0 +1,181 @@
+package io.quarkus.vault;
+
+import static io.quarkus.credentials.CredentialsProvider.USER_PROPERTY_NAME;
+import static io.quarkus.vault.runtime.VaultDynamicCredentialsManager.PREVIOUS_EXPIRATION_TIMESTAMP_PROPERTY_NAME;
+import static io.quarkus.vault.runtime.VaultDynamicCredentialsManager.PREVIOUS_USER_PROPERTY_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.VaultAuthManager;
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultDynamicCredentialsManager;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.client.backend.VaultInternalSystemBackend;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalDynamicCredentialsSecretEngine;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpServer;
+import io.vertx.mutiny.core.http.HttpServerRequest;
+
+public class VaultDynamicCredentialsTest {
+
+    // the lease of new credentials, and what is left of it once renewed
+    private static final int TTL = 3;
+    private static final int RENEWED_TTL = 2;
+
+    private Vertx vertx;
+    private HttpServer vault;
+    private NamedVertxVaultClient client;
+    private final AtomicInteger creates = new AtomicInteger();
+    private final AtomicInteger renews = new AtomicInteger();
+    private final List<String> revoked = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void startVault() {
+        vertx = Vertx.vertx();
+        vault = vertx.createHttpServer()
+                .requestHandler(this::handle)
+                .listen(0, "localhost")
+                .await().indefinitely();
+    }
+
+    @AfterEach
+    public void stopVault() {
+        if (client != null) {
+            client.close();
+        }
+        vault.closeAndAwait();
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    public void rotation() throws InterruptedException {
+        VaultDynamicCredentialsManager manager = manager("PT2S");
+        Map<String, String> first = credentials(manager, "PT1S");
+        assertEquals("user-1", first.get(USER_PROPERTY_NAME));
+        assertFalse(first.containsKey(PREVIOUS_USER_PROPERTY_NAME));
+
+        // past the renew grace period, the renewed lease is too short for the overlap: concurrent callers share
+        // a single rotation
+        Thread.sleep(1200);
+        List<Map<String, String>> rotated = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            manager.getDynamicCredentials("database", "creds", "app", Optional.of(Duration.ofSeconds(1)))
+                    .subscribe().with(rotated::add);
+        }
+        await(() -> rotated.size() == 3);
+        assertEquals(2, creates.get());
+        assertEquals(1, renews.get());
+        rotated.forEach(properties -> {
+            assertEquals("user-2", properties.get(USER_PROPERTY_NAME));
+            assertEquals("user-1", properties.get(PREVIOUS_USER_PROPERTY_NAME));
+            assertTrue(properties.containsKey(PREVIOUS_EXPIRATION_TIMESTAMP_PROPERTY_NAME));
+        });
+
+        // the previous lease is revoked at the end of the overlap, before its own expiration
+        assertEquals(List.of(), revoked);
+        await(() -> !revoked.isEmpty());
+        assertEquals(List.of("database/creds/app/1"), revoked);
+    }
+
+    @Test
+    public void overlapCappedByLeaseDuration() {
+        VaultDynamicCredentialsManager manager = manager("PT2S");
+        // grace period + overlap exceeds the lease duration, the overlap is capped instead of rotating on each call
+        for (int i = 0; i < 5; i++) {
+            assertEquals("user-1", credentials(manager, "PT10S").get(USER_PROPERTY_NAME));
+        }
+        assertEquals(1, creates.get());
+    }
+
+    private Map<String, String> credentials(VaultDynamicCredentialsManager manager, String overlap) {
+        return manager.getDynamicCredentials("database", "creds", "app", Optional.of(Duration.parse(overlap)))
+                .await().atMost(Duration.ofSeconds(10));
+    }
+
+    private VaultDynamicCredentialsManager manager(String renewGracePeriod) {
+        Map<String, String> properties = Map.of(
+                "quarkus.vault.dynamic.url", "http://localhost:" + vault.actualPort(),
+                "quarkus.vault.dynamic.authentication.client-token", "token",
+                "quarkus.vault.dynamic.renew-grace-period", renewGracePeriod);
+        client = new NamedVertxVaultClient("dynamic", VaultNamedConfigs.load(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "test", 0))
+                .build(), "dynamic"), vertx, new TlsConfig(), null);
+        VaultConfigHolder holder = new VaultConfigHolder().setVaultRuntimeConfig(VaultNamedConfigs.load(
+                new SmallRyeConfigBuilder()
+                        .withSources(new PropertiesConfigSource(properties, "test", 0))
+                        .build(),
+                "dynamic"));
+        VaultInternalSystemBackend systemBackend = new VaultInternalSystemBackend();
+        return new VaultDynamicCredentialsManager(client, holder,
+                new VaultAuthManager(holder, systemBackend, null, null, null, null), systemBackend,
+                new VaultInternalDynamicCredentialsSecretEngine());
+    }
+
+    private void handle(HttpServerRequest request) {
+        request.response().putHeader("Content-Type", "application/json");
+        switch (request.path()) {
+            case "/v1/database/creds/app":
+                int generation = creates.incrementAndGet();
+                // slow enough for concurrent callers to overlap
+                vertx.setTimer(100, ignored -> request.response().endAndForget(new JsonObject()
+                        .put("lease_id", "database/creds/app/" + generation)
+                        .put("renewable", true)
+                        .put("lease_duration", TTL)
+                        .put("data", new JsonObject()
+                                .put("username", "user-" + generation)
+                                .put("password", "password-" + generation))
+                        .encode()));
+                break;
+            case "/v1/sys/leases/lookup":
+                request.response().endAndForget("{}");
+                break;
+            case "/v1/sys/leases/renew":
+                renews.incrementAndGet();
+                request.bodyHandler(body -> request.response().endAndForget(new JsonObject()
+                        .put("lease_id", body.toJsonObject().getString("lease_id"))
+                        .put("renewable", true)
+                        .put("lease_duration", RENEWED_TTL)
+                        .encode()));
+                break;
+            case "/v1/sys/leases/revoke":
+                request.bodyHandler(body -> {
+                    revoked.add(body.toJsonObject().getString("lease_id"));
+                    request.response().setStatusCode(204).endAndForget();
+                });
+                break;
+            default:
+                request.response().setStatusCode(404).endAndForget("{\"errors\":[]}");
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.runtime.client.VaultCircuitBreaker;
+import io.quarkus.vault.runtime.client.VaultEndpoints;
+import io.quarkus.vault.runtime.client.VaultEndpoints.Endpoint;
+import io.quarkus.vault.runtime.client.VaultRequest;
+import io.quarkus.vault.sys.VaultHealth;
+import io.vertx.core.http.HttpMethod;
+
+public class VaultEndpointsTest {
+
+    @Test
+    public void routing() throws MalformedURLException {
+        VaultEndpoints endpoints = cluster(true);
+        Endpoint standby1 = endpoints.getEndpoints().get(0);
+        Endpoint active = endpoints.getEndpoints().get(1);
+        Endpoint standby2 = endpoints.getEndpoints().get(2);
+        endpoints.probed(standby1, new VaultHealth(VaultHealth.DEFAULT_PERFORMANCE_STANDBY_STATUS_CODE));
+        endpoints.probed(active, new VaultHealth(VaultHealth.DEFAULT_INIT_UNSEAL_ACTIVE_STATUS_CODE));
+        endpoints.probed(standby2, new VaultHealth(VaultHealth.DEFAULT_PERFORMANCE_STANDBY_STATUS_CODE));
+
+        assertEquals(active, endpoints.select(new VaultRequest("VAULT [KV (v2)] Write Secret", HttpMethod.POST, "x")));
+        assertEquals(active, endpoints.select(new VaultRequest("VAULT [CREDENTIALS] Generate", HttpMethod.GET, "x")));
+
+        // the least loaded standby serves reads
+        endpoints.started(standby1);
+        assertEquals(standby2, endpoints.select(new VaultRequest("VAULT [KV (v2)] Get Secret", HttpMethod.GET, "x")));
+        assertEquals(standby2, endpoints.select(new VaultRequest("VAULT [TRANSIT] Decrypt Key", HttpMethod.POST, "x")));
+        endpoints.started(standby2);
+        endpoints.started(standby2);
+        assertEquals(standby1, endpoints.select(true));
+    }
+
+    @Test
+    public void standbyReadsDisabled() throws MalformedURLException {
+        VaultEndpoints endpoints = cluster(false);
+        endpoints.probed(endpoints.getEndpoints().get(0), new VaultHealth(VaultHealth.DEFAULT_PERFORMANCE_STANDBY_STATUS_CODE));
+        endpoints.probed(endpoints.getEndpoints().get(1), new VaultHealth(VaultHealth.DEFAULT_INIT_UNSEAL_ACTIVE_STATUS_CODE));
+
+        assertEquals(endpoints.getEndpoints().get(1), endpoints.select(true));
+    }
+
+    @Test
+    public void failover() throws MalformedURLException {
+        VaultEndpoints endpoints = cluster(true);
+        Endpoint first = endpoints.getEndpoints().get(0);
+        Endpoint second = endpoints.getEndpoints().get(1);
+        Endpoint third = endpoints.getEndpoints().get(2);
+
+        // roles unknown until probed
+        assertEquals(first, endpoints.select(false));
+
+        endpoints.probed(first, new VaultHealth(VaultHealth.DEFAULT_INIT_UNSEAL_ACTIVE_STATUS_CODE));
+        endpoints.probed(second, new VaultHealth(VaultHealth.DEFAULT_UNSEAL_STANDBY_STATUS_CODE));
+        endpoints.probeFailed(third);
+        assertTrue(third.isEjected());
+
+        endpoints.started(first);
+        endpoints.failed(first);
+        assertTrue(first.isEjected());
+        assertEquals(second, endpoints.select(false));
+        assertEquals(second, endpoints.select(true));
+
+        // leader election
+        endpoints.probed(second, new VaultHealth(VaultHealth.DEFAULT_INIT_UNSEAL_ACTIVE_STATUS_CODE));
+        endpoints.probed(first, new VaultHealth(VaultHealth.DEFAULT_UNSEAL_STANDBY_STATUS_CODE));
+        assertFalse(first.isEjected());
+        assertEquals(second, endpoints.select(false));
+
+        endpoints.probed(second, new VaultHealth(VaultHealth.DEFAULT_SEALED_STATUS_CODE));
+        assertEquals(first, endpoints.select(false));
+    }
+
+    @Test
+    public void singleNode() throws MalformedURLException {
+        VaultEndpoints endpoints = new VaultEndpoints(List.of(new URL("http://vault:8200")), true);
+        Endpoint node = endpoints.getEndpoints().get(0);
+        endpoints.started(node);
+        endpoints.failed(node);
+
+        assertFalse(node.isEjected());
+        assertEquals(node, endpoints.select(true));
+    }
+
+    @Test
+    public void circuitBreaker() throws MalformedURLException, InterruptedException {
+        VaultEndpoints endpoints = new VaultEndpoints(List.of(new URL("http://vault-0:8200"),
+                new URL("http://vault-1:8200")), false,
+                () -> new VaultCircuitBreaker(4, 4, 0.5, Duration.ofSeconds(1), 1, Duration.ofMillis(50), 1), () -> null);
+        Endpoint first = endpoints.getEndpoints().get(0);
+        Endpoint second = endpoints.getEndpoints().get(1);
+        VaultCircuitBreaker breaker = first.getCircuitBreaker();
+
+        breaker.record(false, 1_000_000);
+        breaker.record(true, 1_000_000);
+        breaker.record(false, 1_000_000);
+        assertEquals(VaultCircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.record(true, 1_000_000);
+        assertEquals(VaultCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(second, endpoints.select(false));
+
+        // a single probe request is let through once the open duration has elapsed
+        Thread.sleep(60);
+        assertEquals(first, endpoints.select(false));
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.record(true, 1_000_000);
+        assertEquals(VaultCircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquire());
+        breaker.record(false, 1_000_000);
+        assertEquals(VaultCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private static VaultEndpoints cluster(boolean standbyReads) throws MalformedURLException {
+        return new VaultEndpoints(List.of(new URL("http://vault-0:8200"), new URL("http://vault-1:8200"),
+                new URL("http://vault-2:8200")), standbyReads);
+    }
+}
@@ -0,0 +1,112 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.quarkus.vault.runtime.jfr.VaultAuthEvent;
+import io.quarkus.vault.runtime.jfr.VaultEvent;
+import io.quarkus.vault.runtime.jfr.VaultRequestEvent;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class VaultEventTest {
+
+    @Test
+    public void disabledByDefault() {
+        assertFalse(new VaultRequestEvent().isEnabled());
+        assertFalse(new VaultAuthEvent("login", "kubernetes").isEnabled());
+    }
+
+    @Test
+    public void record() throws IOException {
+        Path file = Files.createTempFile("vault", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.quarkus.vault.Auth");
+            recording.start();
+            assertEquals(3600L, VaultEvent.record(() -> new VaultAuthEvent("login", "approle"),
+                    Uni.createFrom().item(3600L), (event, ttl) -> event.leaseDuration = ttl).await().indefinitely());
+            assertThrows(VaultException.class, () -> VaultEvent.record(() -> new VaultAuthEvent("renew", "approle"),
+                    Uni.createFrom().failure(new VaultException("denied")), null).await().indefinitely());
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(2, events.size());
+            assertEquals("login", events.get(0).getString("action"));
+            assertEquals("approle", events.get(0).getString("authenticationType"));
+            assertEquals(Duration.ofHours(1), events.get(0).getDuration("leaseDuration"));
+            assertNull(events.get(0).getString("failure"));
+            assertEquals("renew", events.get(1).getString("action"));
+            assertEquals(VaultException.class.getName() + ": denied", events.get(1).getString("failure"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void request() throws IOException {
+        Vertx vertx = Vertx.vertx();
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer vault = vertx.createHttpServer()
+                .requestHandler(request -> request.response()
+                        .setStatusCode(requests.incrementAndGet() == 1 ? 503 : 200)
+                        .putHeader("Content-Type", "application/json")
+                        .endAndForget("{\"data\":{\"foo\":\"bar\"}}"))
+                .listen(0, "localhost")
+                .await().indefinitely();
+        String url = "http://localhost:" + vault.actualPort();
+        NamedVertxVaultClient client = new NamedVertxVaultClient("jfr", VaultNamedConfigs.load(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.vault.jfr.url", url,
+                        "quarkus.vault.jfr.retry.max-attempts", "2",
+                        "quarkus.vault.jfr.retry.initial-backoff", "PT0.01S"), "test", 0))
+                .build(), "jfr"), vertx, new TlsConfig(), null);
+        Path file = Files.createTempFile("vault", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.quarkus.vault.Request");
+            recording.start();
+            client.get("VAULT [SECRETS] Read", "secret/foo", "token", Object.class).await().indefinitely();
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("VAULT [SECRETS] Read", event.getString("operation"));
+            assertEquals("GET", event.getString("method"));
+            assertEquals("secret/foo", event.getString("path"));
+            // the 503 is retried
+            assertEquals(2, event.getInt("attempts"));
+            assertEquals(200, event.getInt("status"));
+            assertEquals(url, event.getString("node"));
+            assertEquals(22, event.getLong("responseSize"));
+            assertNull(event.getString("failure"));
+        } finally {
+            Files.deleteIfExists(file);
+            client.close();
+            vault.closeAndAwait();
+            vertx.closeAndAwait();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultCredentialsPrewarmer;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.quarkus.vault.runtime.health.VaultHealthCheck;
+import io.quarkus.vault.sys.VaultHealth;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+public class VaultHealthCheckTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<Supplier<Uni<VaultHealth>>> health = new AtomicReference<>(
+            () -> Uni.createFrom().item(new VaultHealth(VaultHealth.DEFAULT_INIT_UNSEAL_ACTIVE_STATUS_CODE)));
+
+    @Test
+    public void cached() throws InterruptedException {
+        VaultHealthCheck check = healthCheck("0", "PT0.2S");
+        assertEquals(HealthCheckResponse.Status.UP, call(check).getStatus());
+        assertEquals(HealthCheckResponse.Status.UP, call(check).getStatus());
+        assertEquals(1, calls.get());
+
+        Thread.sleep(300);
+        assertEquals(HealthCheckResponse.Status.UP, call(check).getStatus());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void stale() throws InterruptedException {
+        // the background poll is on time, the latest status is served even past the cache ttl
+        VaultHealthCheck check = healthCheck("10S", "PT0.1S");
+        call(check);
+        Thread.sleep(200);
+        HealthCheckResponse response = call(check);
+        assertEquals(1, calls.get());
+        assertEquals(HealthCheckResponse.Status.UP, response.getStatus());
+        assertTrue(((Number) data(response).get("staleness-ms")).longValue() >= 200);
+    }
+
+    @Test
+    public void concurrentProbes() {
+        List<UniEmitter<? super VaultHealth>> pending = new CopyOnWriteArrayList<>();
+        health.set(() -> Uni.createFrom().emitter(pending::add));
+        VaultHealthCheck check = healthCheck("0", "1S");
+
+        List<HealthCheckResponse> responses = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            check.call().subscribe().with(responses::add);
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, pending.size());
+
+        pending.get(0).complete(new VaultHealth(VaultHealth.DEFAULT_SEALED_STATUS_CODE));
+        assertEquals(3, responses.size());
+        responses.forEach(response -> {
+            assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+            assertEquals("Sealed", data(response).get("reason"));
+        });
+    }
+
+    @Test
+    public void failure() {
+        health.set(() -> Uni.createFrom().failure(new VaultException("connection refused")));
+        HealthCheckResponse response = call(healthCheck("0", "1S"));
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+        assertEquals("connection refused", data(response).get("reason"));
+    }
+
+    @Test
+    public void notConfigured() {
+        HealthCheckResponse response = call(healthCheck(new VaultConfigHolder()));
+        assertEquals(HealthCheckResponse.Status.DOWN, response.getStatus());
+        assertEquals("Vault url is not configured", data(response).get("reason"));
+        assertEquals(0, calls.get());
+    }
+
+    private VaultHealthCheck healthCheck(String pollInterval, String cacheTtl) {
+        return healthCheck(new VaultConfigHolder().setVaultRuntimeConfig(VaultNamedConfigs.load(
+                new SmallRyeConfigBuilder()
+                        .withSources(new PropertiesConfigSource(Map.of(
+                                "quarkus.vault.test.url", "http://localhost:8200",
+                                "quarkus.vault.test.health.poll-interval", pollInterval,
+                                "quarkus.vault.test.health.cache-ttl", cacheTtl), "test", 0))
+                        .build(),
+                "test")));
+    }
+
+    private VaultHealthCheck healthCheck(VaultConfigHolder holder) {
+        VaultSystemBackendReactiveEngine engine = (VaultSystemBackendReactiveEngine) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { VaultSystemBackendReactiveEngine.class },
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("health")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    return Uni.createFrom().deferred(() -> {
+                        calls.incrementAndGet();
+                        return health.get().get();
+                    });
+                });
+        return new VaultHealthCheck(engine, holder, new VaultCredentialsPrewarmer(holder, null));
+    }
+
+    private static HealthCheckResponse call(VaultHealthCheck check) {
+        return check.call().await().indefinitely();
+    }
+
+    private static Map<String, Object> data(HealthCheckResponse response) {
+        return response.getData().orElseThrow();
+    }
+}
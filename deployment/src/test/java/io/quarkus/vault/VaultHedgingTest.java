@@ -0,0 +1,115 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpServer;
+import io.vertx.mutiny.core.http.HttpServerRequest;
+
+public class VaultHedgingTest {
+
+    private Vertx vertx;
+    private HttpServer vault;
+    private NamedVertxVaultClient client;
+    private final List<String> paths = new CopyOnWriteArrayList<>();
+    // requests without a response yet, while the server is held
+    private final List<HttpServerRequest> held = new CopyOnWriteArrayList<>();
+    private volatile boolean hold;
+
+    @BeforeEach
+    public void startVault() {
+        vertx = Vertx.vertx();
+        vault = vertx.createHttpServer()
+                .requestHandler(this::handle)
+                .listen(0, "localhost")
+                .await().indefinitely();
+        client = new NamedVertxVaultClient("hedging", VaultNamedConfigs.load(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.vault.hedging.url", "http://localhost:" + vault.actualPort(),
+                        "quarkus.vault.hedging.retry.max-attempts", "1",
+                        // the held requests neither time out nor leave the queue on their own
+                        "quarkus.vault.hedging.read-timeout", "PT1M",
+                        "quarkus.vault.hedging.concurrency-limit.max-queue-wait", "PT1M",
+                        "quarkus.vault.hedging.hedging.enabled", "true",
+                        "quarkus.vault.hedging.hedging.min-delay", "PT0.05S",
+                        "quarkus.vault.hedging.concurrency-limit.enabled", "true",
+                        "quarkus.vault.hedging.concurrency-limit.initial-limit", "1",
+                        "quarkus.vault.hedging.concurrency-limit.min-limit", "1",
+                        "quarkus.vault.hedging.concurrency-limit.max-limit", "1"), "test", 0))
+                .build(), "hedging"), vertx, new TlsConfig(), null);
+    }
+
+    @AfterEach
+    public void stopVault() {
+        client.close();
+        vault.closeAndAwait();
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    public void bulkLane() {
+        // latencies of the operation, so that its requests are hedged
+        for (int i = 0; i < 48; i++) {
+            client.get("VAULT [SECRETS] Read", "secret/seed", "token").await().indefinitely();
+        }
+        hold = true;
+        client.get("VAULT [SYS] Busy", "sys/busy", "token").subscribe().with(ignored -> {
+        });
+        await(() -> held.size() == 1);
+
+        // queued behind the busy request, the hedge is queued once the hedge delay has elapsed
+        client.get("VAULT [SECRETS] Read", "secret/bulk", "token")
+                .subscribe().with(VaultRequestPriority.BULK.context(), ignored -> {
+                });
+        await(() -> client.getMetrics().getHedgedRequests() == 1);
+        client.get("VAULT [SYS] Interactive", "sys/interactive", "token").subscribe().with(ignored -> {
+        });
+        await(() -> client.getMetrics().getConcurrencyLimitQueued() == 3);
+
+        // both attempts of the bulk request are queued in the bulk lane, behind the interactive request
+        paths.clear();
+        hold = false;
+        held.forEach(request -> request.response().endAndForget("{}"));
+        // the hedge may be sent too, once the primary attempt releases its permit
+        await(() -> paths.size() >= 2);
+        assertEquals(List.of("/v1/sys/interactive", "/v1/secret/bulk"), List.copyOf(paths).subList(0, 2));
+    }
+
+    private void handle(HttpServerRequest request) {
+        paths.add(request.path());
+        if (hold) {
+            held.add(request);
+        } else {
+            request.response().endAndForget("{}");
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
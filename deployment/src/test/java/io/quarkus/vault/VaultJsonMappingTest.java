@@ -0,0 +1,156 @@
+package io.quarkus.vault;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.quarkus.vault.runtime.Base64String;
+import io.quarkus.vault.runtime.client.VertxVaultClient;
+import io.quarkus.vault.runtime.client.dto.kv.VaultKvSecretJsonV2;
+import io.quarkus.vault.runtime.client.dto.transit.VaultTransitEncrypt;
+import io.quarkus.vault.runtime.client.dto.transit.VaultTransitEncryptBatchInput;
+import io.quarkus.vault.runtime.client.dto.transit.VaultTransitEncryptBody;
+
+/**
+ * Checks that the client mapper maps the model DTOs like a plain mapper.
+ * <p>
+ * The benchmark compares the client's reused readers and writer with the per call mapping it replaced, and is only
+ * run with {@code -Dvault.benchmark=true}:
+ *
+ * <pre>
+ * mvn -pl deployment test -Dtest=VaultJsonMappingTest -Dvault.benchmark=true
+ * </pre>
+ */
+public class VaultJsonMappingTest {
+
+    private static final int BATCH_SIZE = 20;
+
+    private final ObjectMapper plain = plainMapper();
+    private final ObjectMapper client = VertxVaultClient.createObjectMapper();
+    // keeps the results alive
+    private volatile long blackhole;
+
+    @Test
+    public void sameJson() throws Exception {
+        assertArrayEquals(plain.writeValueAsBytes(encryptBody()), client.writeValueAsBytes(encryptBody()));
+
+        VaultKvSecretJsonV2 secret = client.readValue(kvResponse(), VaultKvSecretJsonV2.class);
+        assertEquals(plain.writeValueAsString(plain.readValue(kvResponse(), VaultKvSecretJsonV2.class)),
+                client.writeValueAsString(secret));
+        assertEquals("value-3", secret.data.data.get("key-3"));
+        assertEquals(7, secret.data.metadata.version);
+
+        VaultTransitEncrypt encrypt = client.readValue(encryptResponse(), VaultTransitEncrypt.class);
+        assertEquals(BATCH_SIZE, encrypt.data.batchResults.size());
+        assertEquals("vault:v1:ciphertext-19", encrypt.data.batchResults.get(19).ciphertext);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "vault.benchmark", matches = "true")
+    public void benchmark() throws Exception {
+        int iterations = 200_000;
+        for (int round = 1; round <= 3; round++) {
+            long perCallNanos = perCallRound(iterations);
+            long reusedNanos = reusedRound(iterations);
+            System.out.printf("round %d: per call %.2f us/op, reused %.2f us/op (%+.1f%%)%n", round,
+                    perCallNanos / 1000.0 / iterations, reusedNanos / 1000.0 / iterations,
+                    (reusedNanos - perCallNanos) * 100.0 / perCallNanos);
+        }
+    }
+
+    /**
+     * The mapping of the client before its readers and writers were reused: a string for each body, and a
+     * (de)serializer lookup for each call.
+     */
+    private long perCallRound(int iterations) throws Exception {
+        VaultTransitEncryptBody body = encryptBody();
+        String kv = new String(kvResponse(), StandardCharsets.UTF_8);
+        String encrypt = new String(encryptResponse(), StandardCharsets.UTF_8);
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += plain.writeValueAsString(body).length();
+            sink += plain.readValue(kv, VaultKvSecretJsonV2.class).data.data.size();
+            sink += plain.readValue(encrypt, VaultTransitEncrypt.class).data.batchResults.size();
+        }
+        long elapsed = System.nanoTime() - start;
+        blackhole = sink;
+        return elapsed;
+    }
+
+    /**
+     * The mapping of the client: a writer and a reader per type, from and to bytes.
+     */
+    private long reusedRound(int iterations) throws Exception {
+        VaultTransitEncryptBody body = encryptBody();
+        byte[] kv = kvResponse();
+        byte[] encrypt = encryptResponse();
+        ObjectWriter writer = client.writer();
+        ObjectReader kvReader = client.readerFor(VaultKvSecretJsonV2.class);
+        ObjectReader encryptReader = client.readerFor(VaultTransitEncrypt.class);
+        long sink = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += writer.writeValueAsBytes(body).length;
+            sink += kvReader.<VaultKvSecretJsonV2> readValue(kv).data.data.size();
+            sink += encryptReader.<VaultTransitEncrypt> readValue(encrypt).data.batchResults.size();
+        }
+        long elapsed = System.nanoTime() - start;
+        blackhole = sink;
+        return elapsed;
+    }
+
+    private static VaultTransitEncryptBody encryptBody() {
+        VaultTransitEncryptBody body = new VaultTransitEncryptBody();
+        body.keyVersion = 2;
+        body.batchInput = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            body.batchInput.add(new VaultTransitEncryptBatchInput(Base64String.from("plaintext-" + i),
+                    Base64String.from("context-" + i)));
+        }
+        return body;
+    }
+
+    private static byte[] kvResponse() {
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            entries.add("\"key-" + i + "\":\"value-" + i + "\"");
+        }
+        return ("{\"request_id\":\"689b9e3e-90cc-e22a-4b6f-ecc3e76b1ad8\",\"lease_id\":\"\",\"renewable\":false,"
+                + "\"lease_duration\":0,\"data\":{\"data\":{" + String.join(",", entries) + "},"
+                + "\"metadata\":{\"created_time\":\"2019-07-07T07:43:59.907576701Z\",\"deletion_time\":\"\","
+                + "\"destroyed\":false,\"version\":7}},\"wrap_info\":null,\"warnings\":null,\"auth\":null}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encryptResponse() {
+        List<String> results = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            results.add("{\"ciphertext\":\"vault:v1:ciphertext-" + i + "\"}");
+        }
+        return ("{\"request_id\":\"2f9c4c5e-be6d-3bb1-14e8-332a83a08453\",\"lease_id\":\"\",\"renewable\":false,"
+                + "\"lease_duration\":0,\"data\":{\"batch_results\":[" + String.join(",", results) + "]},"
+                + "\"wrap_info\":null,\"warnings\":null,\"auth\":null}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ObjectMapper plainMapper() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        mapper.configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        return mapper;
+    }
+}
@@ -0,0 +1,211 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.VaultAuthManager;
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultKubernetesJwt;
+import io.quarkus.vault.runtime.VaultToken;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.client.VaultClient;
+import io.quarkus.vault.runtime.client.VaultClientException;
+import io.quarkus.vault.runtime.client.authmethod.VaultInternalKubernetesAuthMethod;
+import io.quarkus.vault.runtime.client.dto.auth.VaultKubernetesAuth;
+import io.quarkus.vault.runtime.client.dto.auth.VaultKubernetesAuthAuth;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+
+public class VaultKubernetesJwtTest {
+
+    @TempDir
+    Path dir;
+
+    private Path token;
+    private Vertx vertx;
+    private NamedVertxVaultClient client;
+    private VaultKubernetesJwt jwt;
+    private final AtomicInteger rotations = new AtomicInteger();
+    // jwts the fake kubernetes auth method has seen, and the ones it rejects
+    private final List<String> logins = new CopyOnWriteArrayList<>();
+    private volatile Set<String> rejected = Set.of();
+    private volatile long leaseDuration = 1;
+
+    @BeforeEach
+    public void writeToken() throws IOException {
+        token = dir.resolve("token");
+        Files.writeString(token, "a");
+    }
+
+    @AfterEach
+    public void close() {
+        if (jwt != null) {
+            jwt.close();
+        }
+        if (client != null) {
+            client.close();
+            vertx.closeAndAwait();
+        }
+    }
+
+    @Test
+    public void cached() throws IOException {
+        jwt = jwt(Duration.ofHours(1));
+        assertEquals("a", jwt.get().await().indefinitely());
+        // kept in memory until the next check
+        rotate("b", false);
+        assertEquals("a", jwt.get().await().indefinitely());
+        assertEquals("b", jwt.reload().await().indefinitely());
+        assertEquals("b", jwt.get().await().indefinitely());
+        // a reload is made by the caller that logs in, it is not reported as a rotation
+        assertEquals(0, rotations.get());
+    }
+
+    @Test
+    public void rotationByModificationTime() throws IOException {
+        jwt = jwt(Duration.ofMillis(50));
+        assertEquals("a", jwt.get().await().indefinitely());
+        rotate("b", false);
+        await(() -> rotations.get() == 1);
+        assertEquals("b", jwt.get().await().indefinitely());
+    }
+
+    @Test
+    public void rotationByInode() throws IOException {
+        jwt = jwt(Duration.ofMillis(50));
+        assertEquals("a", jwt.get().await().indefinitely());
+        // the kubelet swaps in a new file, possibly with the same modification time
+        rotate("b", true);
+        await(() -> rotations.get() == 1);
+        assertEquals("b", jwt.get().await().indefinitely());
+    }
+
+    @Test
+    public void noCheckInterval() throws IOException {
+        jwt = jwt(Duration.ZERO);
+        assertEquals("a", jwt.get().await().indefinitely());
+        // without background checks, the file is checked on each login
+        rotate("b", false);
+        assertEquals("b", jwt.get().await().indefinitely());
+        assertEquals(0, rotations.get());
+    }
+
+    @Test
+    public void loginOnRotation() throws IOException {
+        leaseDuration = 3600;
+        VaultAuthManager authManager = authManager("PT0.05S");
+        assertEquals("vault-a", authManager.getClientToken(client).await().indefinitely());
+        rotate("b", false);
+        // logged in again in the background with the new jwt
+        await(() -> logins.size() == 2);
+        assertEquals(List.of("a", "b"), logins);
+        await(() -> "vault-b".equals(authManager.getClientToken(client).await().indefinitely()));
+        assertEquals(2, logins.size());
+    }
+
+    @Test
+    public void loginFailure() throws Exception {
+        VaultAuthManager authManager = authManager("PT1H");
+        assertEquals("vault-a", authManager.getClientToken(client).await().indefinitely());
+
+        // the vault token expires, and the jwt in memory has been rotated since the last check
+        Thread.sleep(1100);
+        rotate("b", false);
+        rejected = Set.of("a");
+        assertEquals("vault-b", authManager.getClientToken(client).await().indefinitely());
+        assertEquals(List.of("a", "a", "b"), logins);
+
+        // the file is read again, but still holds the rejected jwt
+        Thread.sleep(1100);
+        rejected = Set.of("a", "b");
+        assertThrows(VaultClientException.class, () -> authManager.getClientToken(client).await().indefinitely());
+        assertEquals(List.of("a", "a", "b", "b"), logins);
+    }
+
+    private VaultKubernetesJwt jwt(Duration checkInterval) {
+        return new VaultKubernetesJwt(token.toString(), checkInterval, rotations::incrementAndGet);
+    }
+
+    private VaultAuthManager authManager(String checkInterval) {
+        Map<String, String> properties = Map.of(
+                "quarkus.vault.k8s.url", "http://localhost:8200",
+                "quarkus.vault.k8s.authentication.kubernetes.role", "app",
+                "quarkus.vault.k8s.authentication.kubernetes.jwt-token-path", token.toString(),
+                "quarkus.vault.k8s.authentication.kubernetes.jwt-token-check-interval", checkInterval);
+        VaultConfigHolder holder = new VaultConfigHolder().setVaultRuntimeConfig(VaultNamedConfigs.load(
+                new SmallRyeConfigBuilder()
+                        .withSources(new PropertiesConfigSource(properties, "test", 0))
+                        .build(),
+                "k8s"));
+        vertx = Vertx.vertx();
+        client = new NamedVertxVaultClient("k8s", holder.getVaultRuntimeConfig(), vertx, new TlsConfig(), null);
+        VaultInternalKubernetesAuthMethod kubernetes = new VaultInternalKubernetesAuthMethod() {
+            @Override
+            public Uni<VaultKubernetesAuth> login(VaultClient vaultClient, String role, String jwt) {
+                logins.add(jwt);
+                if (rejected.contains(jwt)) {
+                    return Uni.createFrom().failure(new VaultClientException("VAULT [AUTH (k8s)] Login",
+                            "auth/kubernetes/login", 403, "{\"errors\":[\"permission denied\"]}"));
+                }
+                // a batch token, which is neither looked up nor renewed
+                VaultKubernetesAuth auth = new VaultKubernetesAuth();
+                auth.auth = new VaultKubernetesAuthAuth();
+                auth.auth.clientToken = "vault-" + jwt;
+                auth.auth.leaseDurationSecs = leaseDuration;
+                auth.auth.tokenType = VaultToken.BATCH_TOKEN_TYPE;
+                return Uni.createFrom().item(auth);
+            }
+        };
+        return new VaultAuthManager(holder, null, null, kubernetes, null, null);
+    }
+
+    private void rotate(String content, boolean newFile) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(token);
+        if (newFile) {
+            Path next = dir.resolve("token.next");
+            Files.writeString(next, content, StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(next, lastModified);
+            Files.move(next, token, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            Files.writeString(token, content, StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(token, FileTime.fromMillis(lastModified.toMillis() + 10_000));
+        }
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
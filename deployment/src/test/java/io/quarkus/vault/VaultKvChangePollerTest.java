@@ -0,0 +1,202 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.VaultIOException;
+import io.quarkus.vault.runtime.VaultKvChangePoller;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalKvV2SecretEngine;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.secrets.kv.SecretChange;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpServer;
+import io.vertx.mutiny.core.http.HttpServerRequest;
+
+public class VaultKvChangePollerTest {
+
+    private static final String METADATA = "/v1/secret/metadata/";
+    private static final String DATA = "/v1/secret/data/";
+
+    private Vertx vertx;
+    private HttpServer vault;
+    private NamedVertxVaultClient client;
+    private VaultRuntimeConfig config;
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+    // paths whose current version is soft deleted
+    private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger polls = new AtomicInteger();
+
+    @BeforeEach
+    public void startVault() {
+        vertx = Vertx.vertx();
+        vault = vertx.createHttpServer()
+                .requestHandler(this::handle)
+                .listen(0, "localhost")
+                .await().indefinitely();
+        config = VaultNamedConfigs.load(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.vault.stub.url", "http://localhost:" + vault.actualPort(),
+                        "quarkus.vault.stub.kv-watch.min-interval", "PT0.05S",
+                        "quarkus.vault.stub.kv-watch.max-interval", "PT0.1S",
+                        "quarkus.vault.stub.kv-watch.jitter", "0"), "test", 0))
+                .build(), "stub");
+        client = new NamedVertxVaultClient("stub", config, vertx, new TlsConfig(), null);
+    }
+
+    @AfterEach
+    public void stopVault() {
+        client.close();
+        vault.closeAndAwait();
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    public void changes() {
+        versions.put("app/a", 1);
+        versions.put("app/b", 3);
+        versions.put("other", 1);
+        versions.put("unwatched", 1);
+
+        List<SecretChange> changes = new CopyOnWriteArrayList<>();
+        Cancellable subscription = VaultKvChangePoller.create(List.of("app/", "other"), client,
+                () -> Uni.createFrom().item("token"), new VaultInternalKvV2SecretEngine(), "secret", config.kvWatch())
+                .subscribe().with(changes::add);
+        try {
+            // the first poll only records the versions
+            await(() -> polls.get() >= 2);
+            assertTrue(changes.isEmpty());
+
+            versions.put("app/a", 2);
+            versions.put("app/c", 1);
+            versions.put("unwatched", 2);
+            await(() -> changes.size() >= 2);
+            assertEquals(Map.of("app/a", 2, "app/c", 1), versionsOf(changes));
+            assertEquals("a-2", changes.stream().filter(change -> change.getPath().equals("app/a")).findFirst()
+                    .get().getData().get("value"));
+
+            changes.clear();
+            versions.remove("app/b");
+            await(() -> !changes.isEmpty());
+            assertEquals("app/b", changes.get(0).getPath());
+            assertTrue(changes.get(0).isDeleted());
+            assertNull(changes.get(0).getData());
+            // the metadata is gone as well
+            assertEquals(0, changes.get(0).getVersion());
+
+            changes.clear();
+            deleted.add("app/c");
+            await(() -> !changes.isEmpty());
+            assertEquals("app/c", changes.get(0).getPath());
+            assertTrue(changes.get(0).isDeleted());
+            // the deleted version
+            assertEquals(1, changes.get(0).getVersion());
+        } finally {
+            subscription.cancel();
+        }
+
+        int cancelled = polls.get();
+        sleep(300);
+        assertTrue(polls.get() <= cancelled + 1, "polling must stop after the cancellation");
+    }
+
+    @Test
+    public void backOffOnFailure() {
+        VaultRuntimeConfig backOff = VaultNamedConfigs.load(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.vault.stub.url", "http://localhost:" + vault.actualPort(),
+                        "quarkus.vault.stub.kv-watch.min-interval", "PT0.05S",
+                        "quarkus.vault.stub.kv-watch.max-interval", "PT0.4S",
+                        "quarkus.vault.stub.kv-watch.jitter", "0"), "test", 0))
+                .build(), "stub");
+        AtomicInteger attempts = new AtomicInteger();
+        Cancellable subscription = VaultKvChangePoller.create(List.of("app/"), client,
+                () -> Uni.createFrom().failure(() -> {
+                    attempts.incrementAndGet();
+                    return new VaultIOException("connection refused");
+                }), new VaultInternalKvV2SecretEngine(), "secret", backOff.kvWatch())
+                .subscribe().with(change -> {
+                });
+        try {
+            // polls at 0, 100 and 300 ms, rather than every 50 ms
+            sleep(600);
+            assertTrue(attempts.get() <= 4, attempts.get() + " polls");
+        } finally {
+            subscription.cancel();
+        }
+    }
+
+    private void handle(HttpServerRequest request) {
+        String path = request.path();
+        String body;
+        if (path.startsWith(METADATA) && path.endsWith("/")) {
+            polls.incrementAndGet();
+            String prefix = path.substring(METADATA.length());
+            body = "{\"data\":{\"keys\":[" + versions.keySet().stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .map(key -> "\"" + key.substring(prefix.length()) + "\"")
+                    .reduce((a, b) -> a + "," + b).orElse("") + "]}}";
+        } else if (path.startsWith(METADATA) && versions.containsKey(path.substring(METADATA.length()))) {
+            String key = path.substring(METADATA.length());
+            int version = versions.get(key);
+            String deletionTime = deleted.contains(key) ? "2020-01-01T00:00:00Z" : "";
+            body = "{\"data\":{\"current_version\":" + version + ",\"versions\":{\"" + version
+                    + "\":{\"deletion_time\":\"" + deletionTime + "\",\"destroyed\":false,\"version\":" + version
+                    + "}}}}";
+        } else if (path.startsWith(DATA) && versions.containsKey(path.substring(DATA.length()))) {
+            String key = path.substring(DATA.length());
+            int version = versions.get(key);
+            body = "{\"data\":{\"data\":{\"value\":\"" + key.substring(key.lastIndexOf('/') + 1) + "-" + version
+                    + "\"},\"metadata\":{\"deletion_time\":\"\",\"destroyed\":false,\"version\":" + version + "}}}";
+        } else {
+            request.response().setStatusCode(404).putHeader("Content-Type", "application/json")
+                    .endAndForget("{\"errors\":[]}");
+            return;
+        }
+        request.response().putHeader("Content-Type", "application/json").endAndForget(body);
+    }
+
+    private static Map<String, Integer> versionsOf(List<SecretChange> changes) {
+        Map<String, Integer> versions = new TreeMap<>();
+        changes.forEach(change -> versions.put(change.getPath(), change.getVersion()));
+        return versions;
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            sleep(10);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.mutiny.core.Vertx;
+
+public class VaultNamedClientsTest {
+
+    // the test class is loaded again by the application class loader, the stub server is started once
+    private static final String VAULT_URL_PROPERTY = "vault.named-clients-test.url";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.vault.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.vault.regional.url", vaultUrl())
+            .overrideConfigKey("quarkus.vault.regional.authentication.client-token", "regional-token")
+            .overrideConfigKey("quarkus.vault.mtls.url", vaultUrl())
+            .overrideConfigKey("quarkus.vault.mtls.pki.certificate.client.role", "app")
+            .overrideConfigKey("quarkus.vault.mtls.pki.certificate.client.vault-client", "true");
+
+    @Inject
+    @VaultClientName("regional")
+    VaultKVSecretEngine kvSecretEngine;
+
+    @Inject
+    @VaultClientName("regional")
+    VaultTransitSecretEngine transitSecretEngine;
+
+    @Inject
+    @Any
+    Instance<VaultKVSecretEngine> kvSecretEngines;
+
+    @Test
+    public void namedUrl() {
+        // the stub server answers with the request it received
+        Map<String, String> secret = kvSecretEngine.readSecret("foo");
+        assertEquals("GET /v1/secret/data/foo", secret.get("request"));
+        assertEquals("regional-token", secret.get("token"));
+
+        assertEquals("vault:v1:POST /v1/transit/encrypt/my-key", transitSecretEngine.encrypt("my-key", "plaintext"));
+    }
+
+    @Test
+    public void managedClientCertificate() {
+        // only the default client presents the managed certificate
+        VaultException e = assertThrows(VaultException.class,
+                () -> kvSecretEngines.select(VaultClientName.Literal.of("mtls")).get().readSecret("foo"));
+        assertEquals("managed certificates [client] of vault client mtls cannot be used for vault-client, "
+                + "only the default client presents a managed certificate", e.getMessage());
+    }
+
+    private static synchronized String vaultUrl() {
+        String url = System.getProperty(VAULT_URL_PROPERTY);
+        if (url == null) {
+            int port = Vertx.vertx().createHttpServer()
+                    .requestHandler(request -> {
+                        String received = request.method() + " " + request.path();
+                        request.response()
+                                .putHeader("Content-Type", "application/json")
+                                .endAndForget(new JsonObject()
+                                        .put("data", new JsonObject()
+                                                .put("batch_results", new JsonArray()
+                                                        .add(new JsonObject().put("ciphertext", "vault:v1:" + received)))
+                                                .put("data", new JsonObject()
+                                                        .put("request", received)
+                                                        .put("token", request.getHeader("X-Vault-Token"))))
+                                        .encode());
+                    })
+                    .listen(0, "localhost")
+                    .await().indefinitely()
+                    .actualPort();
+            url = "http://localhost:" + port;
+            System.setProperty(VAULT_URL_PROPERTY, url);
+        }
+        return url;
+    }
+}
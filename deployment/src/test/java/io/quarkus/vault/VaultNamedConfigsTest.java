@@ -0,0 +1,72 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.runtime.LogConfidentialityLevel;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class VaultNamedConfigsTest {
+
+    private final Config config = new SmallRyeConfigBuilder()
+            .withSources(new PropertiesConfigSource(Map.of(
+                    "quarkus.vault.url", "http://localhost:8200",
+                    "quarkus.vault.kv-secret-engine-mount-path", "kv",
+                    "quarkus.vault.regional.url", "https://vault.eu-west-1:8200",
+                    "quarkus.vault.regional.enterprise.namespace", "eu",
+                    "quarkus.vault.regional.connect-timeout", "1S",
+                    "quarkus.vault.\"team.a\".url", "https://vault.team-a:8200",
+                    "quarkus.vault.authentication.kubernetes.url", "ignored"), "test", 0))
+            .build();
+
+    @Test
+    public void names() {
+        assertEquals(Set.of("regional", "team.a"), VaultNamedConfigs.names(config));
+    }
+
+    @Test
+    public void load() {
+        VaultRuntimeConfig regional = VaultNamedConfigs.load(config, "regional");
+        assertEquals("https://vault.eu-west-1:8200", regional.url().get().toString());
+        assertEquals(Optional.of("eu"), regional.enterprise().namespace());
+        assertEquals(Duration.ofSeconds(1), regional.connectTimeout());
+        // defaults are not inherited from the default client
+        assertEquals("secret", regional.kvSecretEngineMountPath());
+        assertEquals(LogConfidentialityLevel.MEDIUM, regional.logConfidentialityLevel());
+
+        VaultRuntimeConfig teamA = VaultNamedConfigs.load(config, "team.a");
+        assertEquals("https://vault.team-a:8200", teamA.url().get().toString());
+        assertTrue(teamA.enterprise().namespace().isEmpty());
+
+        assertThrows(VaultException.class, () -> VaultNamedConfigs.load(config, "unknown"));
+    }
+
+    @Test
+    public void buildTimeHealthConfig() {
+        // mapped on its own by the config source factory, unknown properties are rejected
+        VaultRuntimeConfig runtimeConfig = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.vault.url", "http://localhost:8200",
+                        "quarkus.vault.health.enabled", "true",
+                        "quarkus.vault.health.stand-by-ok", "true",
+                        "quarkus.vault.health.performance-stand-by-ok", "true",
+                        "quarkus.vault.health.poll-interval", "5S"), "test", 0))
+                .withMapping(VaultRuntimeConfig.class)
+                .build()
+                .getConfigMapping(VaultRuntimeConfig.class);
+        assertEquals(Duration.ofSeconds(5), runtimeConfig.health().pollInterval());
+        assertEquals(Duration.ofSeconds(1), runtimeConfig.health().cacheTtl());
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.quarkus.vault.runtime.VaultBlocking;
+import io.quarkus.vault.runtime.client.VaultRequest;
+import io.quarkus.vault.runtime.client.VaultTracing;
+import io.quarkus.vault.runtime.config.VaultTracingConfig;
+import io.quarkus.vault.runtime.tracing.VaultOpenTelemetryTracing;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.http.HttpMethod;
+
+public class VaultOpenTelemetryTracingTest {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final OpenTelemetrySdk openTelemetry = OpenTelemetrySdk.builder()
+            .setTracerProvider(SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build())
+            .build();
+
+    @AfterEach
+    public void close() {
+        openTelemetry.getSdkTracerProvider().close();
+    }
+
+    @Test
+    public void nestedSpans() {
+        VaultTracing tracing = new VaultOpenTelemetryTracing(openTelemetry).create(config(1));
+        VaultRequest lookup = new VaultRequest("VAULT [AUTH] Lookup Self", HttpMethod.GET, "auth/token/lookup-self");
+        VaultRequest read = new VaultRequest("VAULT [KV (v2)] Get Secret", HttpMethod.GET, "secret/data/app/db");
+
+        Span caller = openTelemetry.getTracer("test").spanBuilder("caller").startSpan();
+        try (Scope ignored = caller.makeCurrent()) {
+            // the read is subscribed on another thread once the token has been validated, like on an event loop
+            String result = VaultBlocking.await(tracing.trace("vault token validate", null,
+                    tracing.trace(lookup.getOperationName(), lookup, Uni.createFrom().item("token")))
+                    .emitOn(Infrastructure.getDefaultWorkerPool())
+                    .flatMap(token -> tracing.trace(read.getOperationName(), read, Uni.createFrom().item("secret"))));
+            assertEquals("secret", result);
+        } finally {
+            caller.end();
+        }
+
+        Map<String, SpanData> spans = exporter.getFinishedSpanItems().stream()
+                .collect(Collectors.toMap(SpanData::getName, span -> span));
+        assertEquals(4, spans.size());
+        String callerId = spans.get("caller").getSpanId();
+        SpanData validate = spans.get("vault token validate");
+        assertEquals(callerId, validate.getParentSpanId());
+        assertEquals(SpanKind.INTERNAL, validate.getKind());
+        assertEquals(validate.getSpanId(), spans.get("VAULT [AUTH] Lookup Self").getParentSpanId());
+        SpanData get = spans.get("VAULT [KV (v2)] Get Secret");
+        assertEquals(callerId, get.getParentSpanId());
+        assertEquals(SpanKind.CLIENT, get.getKind());
+        assertEquals("KV (v2)", get.getAttributes().get(AttributeKey.stringKey("vault.engine")));
+        assertEquals("secret", get.getAttributes().get(AttributeKey.stringKey("vault.mount")));
+        assertEquals("db", get.getAttributes().get(AttributeKey.stringKey("vault.key")));
+        assertEquals("auth/token", spans.get("VAULT [AUTH] Lookup Self").getAttributes()
+                .get(AttributeKey.stringKey("vault.mount")));
+    }
+
+    @Test
+    public void sampling() {
+        VaultTracing tracing = new VaultOpenTelemetryTracing(openTelemetry).create(config(0));
+        VaultRequest read = new VaultRequest("VAULT [KV (v2)] Get Secret", HttpMethod.GET, "secret/data/app");
+        VaultBlocking.await(tracing.trace("vault login", null,
+                tracing.trace(read.getOperationName(), read, Uni.createFrom().item("secret"))));
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertTrue(spans.isEmpty(), spans::toString);
+    }
+
+    private static VaultTracingConfig config(double sampleRatio) {
+        return new VaultTracingConfig() {
+            @Override
+            public boolean enabled() {
+                return true;
+            }
+
+            @Override
+            public double sampleRatio() {
+                return sampleRatio;
+            }
+        };
+    }
+}
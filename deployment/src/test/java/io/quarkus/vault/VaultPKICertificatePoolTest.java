@@ -0,0 +1,162 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.pki.CertificateData;
+import io.quarkus.vault.pki.CertificatePoolOptions;
+import io.quarkus.vault.pki.CertificatePoolStatistics;
+import io.quarkus.vault.pki.GeneratedCertificate;
+import io.quarkus.vault.runtime.pki.VaultPKICertificatePool;
+import io.smallrye.mutiny.Uni;
+
+public class VaultPKICertificatePoolTest {
+
+    private static final KeyPair KEY_PAIR = keyPair();
+
+    private final AtomicInteger generated = new AtomicInteger();
+    private final AtomicReference<Duration> validity = new AtomicReference<>(Duration.ofHours(1));
+    // whether the generator throws, rather than returning a failed Uni
+    private volatile boolean throwing;
+
+    @Test
+    public void refill() throws Exception {
+        VaultPKICertificatePool pool = pool(3, Duration.ofMinutes(5));
+        assertEquals(3, pool.available());
+
+        assertNotNull(pool.take().await().indefinitely());
+        assertEquals(3, pool.available());
+        assertEquals(4, generated.get());
+
+        CertificatePoolStatistics statistics = pool.getStatistics();
+        assertEquals(1, statistics.hits);
+        assertEquals(0, statistics.misses);
+        assertEquals(4, statistics.refills);
+    }
+
+    @Test
+    public void evictExpired() throws Exception {
+        validity.set(Duration.ofSeconds(4));
+        VaultPKICertificatePool pool = pool(3, Duration.ofSeconds(2));
+        assertEquals(3, generated.get());
+
+        // the pool is idle while its certificates go below the min remaining validity
+        validity.set(Duration.ofHours(1));
+        Thread.sleep(2500);
+        assertEquals(3, pool.available());
+        assertEquals(3, pool.getStatistics().discarded);
+        assertEquals(6, generated.get());
+
+        GeneratedCertificate certificate = pool.take().await().indefinitely();
+        Instant notAfter = certificate.certificate.getCertificate().getNotAfter().toInstant();
+        assertTrue(notAfter.isAfter(Instant.now().plus(Duration.ofMinutes(30))));
+    }
+
+    @Test
+    public void generatorThrows() {
+        throwing = true;
+        VaultPKICertificatePool pool = pool(3, Duration.ofMinutes(5));
+        // a single attempt on each refill, rather than generating again right away
+        assertEquals(1, pool.getStatistics().refillFailures);
+        assertEquals(0, pool.available());
+        assertEquals(2, pool.getStatistics().refillFailures);
+
+        // the failed refill released its slot
+        throwing = false;
+        assertNotNull(pool.take().await().indefinitely());
+        assertEquals(3, pool.available());
+    }
+
+    @Test
+    public void concurrentTake() throws Exception {
+        VaultPKICertificatePool pool = pool(5, Duration.ofMinutes(5));
+        int threads = 8;
+        int takes = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    List<String> serials = new ArrayList<>();
+                    for (int j = 0; j < takes; j++) {
+                        serials.add(pool.take().await().indefinitely().serialNumber);
+                    }
+                    return serials;
+                }));
+            }
+            List<String> serials = new ArrayList<>();
+            for (Future<List<String>> result : results) {
+                serials.addAll(result.get(30, TimeUnit.SECONDS));
+            }
+            // a certificate is never handed out twice
+            assertEquals(threads * takes, serials.stream().distinct().count());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CertificatePoolStatistics statistics = pool.getStatistics();
+        assertEquals(threads * takes, statistics.hits + statistics.misses);
+        assertTrue(pool.available() <= 5);
+    }
+
+    private VaultPKICertificatePool pool(int size, Duration minRemainingValidity) {
+        return new VaultPKICertificatePool("pki/test", () -> {
+            if (throwing) {
+                throw new IllegalStateException("generator failure");
+            }
+            return Uni.createFrom().item(this::generate);
+        },
+                new CertificatePoolOptions()
+                        .setSize(size)
+                        .setMaxConcurrentRefills(size)
+                        .setMinRemainingValidity(minRemainingValidity));
+    }
+
+    private GeneratedCertificate generate() {
+        try {
+            int serial = generated.incrementAndGet();
+            Instant now = Instant.now();
+            X500Name name = new X500Name("CN=test");
+            byte[] der = new JcaX509v3CertificateBuilder(name, BigInteger.valueOf(serial), Date.from(now.minusSeconds(60)),
+                    Date.from(now.plus(validity.get())), name, KEY_PAIR.getPublic())
+                    .build(new JcaContentSignerBuilder("SHA256withECDSA").build(KEY_PAIR.getPrivate()))
+                    .getEncoded();
+            return new GeneratedCertificate()
+                    .setSerialNumber(String.valueOf(serial))
+                    .setCertificate(new CertificateData.DER(der));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static KeyPair keyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(256);
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
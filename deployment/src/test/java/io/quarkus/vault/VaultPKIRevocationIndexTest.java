@@ -0,0 +1,49 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.pki.CRLData;
+import io.quarkus.vault.runtime.pki.VaultPKIRevocationIndex;
+import io.smallrye.mutiny.Uni;
+
+public class VaultPKIRevocationIndexTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final VaultPKIRevocationIndex index = new VaultPKIRevocationIndex("pki", () -> {
+        loads.incrementAndGet();
+        return Uni.createFrom().item(new CRLData.DER(new byte[0]));
+    });
+
+    @Test
+    public void unsubscribedReady() {
+        index.ready();
+        assertEquals(0, loads.get());
+
+        // a lookup still triggers the download
+        assertFalse(index.isRevoked(BigInteger.ONE));
+        assertEquals(1, loads.get());
+        assertNotNull(index.getThisUpdate());
+    }
+
+    @Test
+    public void sharedLoad() {
+        Uni<?> ready = index.ready();
+        ready.await().indefinitely();
+        assertEquals(1, loads.get());
+
+        // loaded and fresh, no download
+        index.ready().await().indefinitely();
+        assertEquals(1, loads.get());
+
+        index.invalidate();
+        index.isRevoked(BigInteger.ONE);
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,55 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.runtime.client.VaultClientMetrics;
+import io.quarkus.vault.runtime.client.VaultRequest;
+import io.quarkus.vault.runtime.client.VaultRequestCoalescer;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.http.HttpMethod;
+
+public class VaultRequestCoalescerTest {
+
+    @Test
+    public void coalescing() {
+        VaultClientMetrics metrics = new VaultClientMetrics();
+        VaultRequestCoalescer coalescer = new VaultRequestCoalescer(true, 10, metrics);
+        AtomicInteger sent = new AtomicInteger();
+        List<UniEmitter<? super Object>> pending = new ArrayList<>();
+        Uni<Object> send = Uni.createFrom().emitter(emitter -> {
+            sent.incrementAndGet();
+            pending.add(emitter);
+        });
+
+        VaultRequest read = new VaultRequest("VAULT [KV (v2)] Get Secret", HttpMethod.GET, "secret/data/a");
+        Object[] results = new Object[3];
+        coalescer.apply(read, Object.class, () -> send).subscribe().with(item -> results[0] = item);
+        coalescer.apply(read, Object.class, () -> send).subscribe().with(item -> results[1] = item);
+        // different path
+        coalescer.apply(new VaultRequest("VAULT [KV (v2)] Get Secret", HttpMethod.GET, "secret/data/b"), Object.class,
+                () -> send).subscribe().with(item -> results[2] = item);
+        // not a read
+        coalescer.apply(new VaultRequest("VAULT [KV (v2)] Write Secret", HttpMethod.POST, "secret/data/a"),
+                Object.class, () -> send).subscribe().with(item -> {
+                });
+        assertEquals(3, sent.get());
+        assertEquals(2, coalescer.getInFlight());
+
+        Object result = new Object();
+        pending.get(0).complete(result);
+        assertSame(result, results[0]);
+        assertSame(result, results[1]);
+        assertEquals(1, coalescer.getInFlight());
+        assertEquals(1, metrics.getCoalescedRequests());
+        assertEquals(2, metrics.getCoalescingLeaders());
+        assertEquals(0.33, metrics.getCoalescingRatio(), 0.01);
+    }
+}
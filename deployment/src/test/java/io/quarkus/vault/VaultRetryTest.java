@@ -0,0 +1,114 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.VaultIOException;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpServer;
+import io.vertx.mutiny.core.http.HttpServerRequest;
+
+public class VaultRetryTest {
+
+    private Vertx vertx;
+    private HttpServer vault;
+    private NamedVertxVaultClient client;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile Failure failure = Failure.CLOSE;
+
+    enum Failure {
+        CLOSE,
+        NO_RESPONSE
+    }
+
+    @BeforeEach
+    public void startVault() {
+        vertx = Vertx.vertx();
+        vault = vertx.createHttpServer()
+                .requestHandler(this::handle)
+                .listen(0, "localhost")
+                .await().indefinitely();
+    }
+
+    @AfterEach
+    public void stopVault() {
+        if (client != null) {
+            client.close();
+        }
+        vault.closeAndAwait();
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    public void connectionClosed() {
+        failure = Failure.CLOSE;
+        client = client("http://localhost:" + vault.actualPort());
+        assertEquals("ok", client.get("VAULT [SECRETS] Read", "secret/foo", "token").await().indefinitely()
+                .toString());
+        assertEquals(2, requests.get());
+        assertEquals(1, client.getMetrics().getRetries());
+    }
+
+    @Test
+    public void timeout() {
+        failure = Failure.NO_RESPONSE;
+        client = client("http://localhost:" + vault.actualPort());
+        assertEquals("ok", client.get("VAULT [SECRETS] Read", "secret/foo", "token").await().indefinitely()
+                .toString());
+        assertEquals(2, requests.get());
+        assertEquals(1, client.getMetrics().getRetries());
+    }
+
+    @Test
+    public void nonIdempotentRead() {
+        failure = Failure.CLOSE;
+        client = client("http://localhost:" + vault.actualPort());
+        // rotating the crl twice is not harmless
+        assertThrows(VaultIOException.class, () -> client.get("VAULT [PKI] Rotate CRL", "pki/crl/rotate", "token")
+                .await().indefinitely());
+        assertEquals(1, requests.get());
+        assertEquals(0, client.getMetrics().getRetries());
+    }
+
+    @Test
+    public void unreachable() {
+        int port = vault.actualPort();
+        vault.closeAndAwait();
+        client = client("http://localhost:" + port);
+        assertThrows(VaultIOException.class,
+                () -> client.get("VAULT [SECRETS] Read", "secret/foo", "token").await().indefinitely());
+        assertEquals(2, client.getMetrics().getRetries());
+        assertEquals(1, client.getMetrics().getRetriesExhausted());
+    }
+
+    private NamedVertxVaultClient client(String url) {
+        return new NamedVertxVaultClient("retry", VaultNamedConfigs.load(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.vault.retry.url", url,
+                        "quarkus.vault.retry.read-timeout", "PT0.5S",
+                        "quarkus.vault.retry.retry.max-attempts", "3",
+                        "quarkus.vault.retry.retry.initial-backoff", "PT0.01S"), "test", 0))
+                .build(), "retry"), vertx, new TlsConfig(), null);
+    }
+
+    private void handle(HttpServerRequest request) {
+        if (requests.incrementAndGet() > 1) {
+            request.response().endAndForget("ok");
+        } else if (failure == Failure.CLOSE) {
+            request.connection().closeAndForget();
+        }
+        // otherwise the first request never gets a response
+    }
+}
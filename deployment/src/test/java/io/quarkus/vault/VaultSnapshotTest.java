@@ -0,0 +1,213 @@
+package io.quarkus.vault;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultIOException;
+import io.quarkus.vault.runtime.VaultSnapshot;
+import io.quarkus.vault.runtime.client.VaultClientException;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.quarkus.vault.transit.ClearData;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.mutiny.Uni;
+
+public class VaultSnapshotTest {
+
+    private static final Map<String, String> VALUES = Map.of("user", "app", "password", "secret");
+
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger encryptions = new AtomicInteger();
+    private final AtomicInteger decryptions = new AtomicInteger();
+    // how the fake transit engine answers decryptions, which unwraps the key by default
+    private volatile Function<String, Uni<ClearData>> decrypt = VaultSnapshotTest::unwrap;
+
+    @Test
+    public void roundTrip() {
+        snapshot("24H").put("config", VALUES);
+        awaitWritten();
+
+        assertEquals(VALUES, get(snapshot("24H"), "config"));
+        assertNull(get(snapshot("24H"), "other"));
+        assertEquals(1, encryptions.get());
+    }
+
+    @Test
+    public void maxStaleness() throws InterruptedException {
+        VaultSnapshot snapshot = snapshot("PT0.2S");
+        snapshot.put("config", VALUES);
+        await(() -> get(snapshot, "config") != null);
+        Thread.sleep(300);
+        assertNull(get(snapshot, "config"));
+    }
+
+    @Test
+    public void tamperedValues() throws IOException {
+        snapshot("24H").put("config", VALUES);
+        awaitWritten();
+        byte[] bytes = Files.readAllBytes(path());
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path(), bytes);
+
+        assertDiscarded();
+    }
+
+    @Test
+    public void tamperedKey() throws IOException {
+        snapshot("24H").put("config", VALUES);
+        awaitWritten();
+        // another ciphertext of the same key, which does not match the one the values are bound to
+        String content = Files.readString(path(), ISO_8859_1);
+        Files.writeString(path(), content.replace("vault:v1:", "vault:v2:"), ISO_8859_1);
+
+        assertDiscarded();
+    }
+
+    @Test
+    public void invalidCiphertext() {
+        snapshot("24H").put("config", VALUES);
+        awaitWritten();
+        decrypt = ciphertext -> Uni.createFrom().failure(new VaultClientException("VAULT [TRANSIT] Decrypt",
+                "transit/decrypt/snapshot", 400, "{\"errors\":[\"invalid ciphertext: unable to decrypt\"]}"));
+
+        assertDiscarded();
+    }
+
+    @Test
+    public void unavailable() throws IOException {
+        snapshot("24H").put("config", VALUES);
+        awaitWritten();
+        byte[] written = Files.readAllBytes(path());
+
+        for (VaultException failure : new VaultException[] {
+                new VaultIOException("connection refused"),
+                new VaultClientException("VAULT [TRANSIT] Decrypt", "transit/decrypt/snapshot", 403,
+                        "{\"errors\":[\"permission denied\"]}"),
+                new VaultClientException("VAULT [TRANSIT] Decrypt", "transit/decrypt/snapshot", 503,
+                        "{\"errors\":[\"Vault is sealed\"]}") }) {
+            decrypt = ciphertext -> Uni.createFrom().failure(failure);
+            VaultSnapshot snapshot = snapshot("24H");
+            assertThrows(failure.getClass(), () -> snapshot.get("config").await().indefinitely());
+            // neither discarded nor overwritten
+            assertArrayEquals(written, Files.readAllBytes(path()));
+            assertEquals(1, encryptions.get());
+
+            // opened again once Vault is back
+            decrypt = VaultSnapshotTest::unwrap;
+            assertEquals(VALUES, get(snapshot, "config"));
+        }
+    }
+
+    @Test
+    public void truncated() throws IOException {
+        Files.write(path(), new byte[] { 'Q', 'V', 'S', '1', 0, 0 });
+        assertNull(get(snapshot("24H"), "config"));
+        assertEquals(0, decryptions.get());
+        assertEquals(1, encryptions.get());
+
+        Files.write(path(), new byte[] { 'Q', 'V', 'S', '1', 0, 0, 0, 100, 'v' });
+        assertNull(get(snapshot("24H"), "config"));
+        assertEquals(0, decryptions.get());
+    }
+
+    @Test
+    public void unknownFormat() throws IOException {
+        Files.writeString(path(), "QVS9 a future format", US_ASCII);
+        assertNull(get(snapshot("24H"), "config"));
+        assertEquals(0, decryptions.get());
+        assertEquals(1, encryptions.get());
+    }
+
+    /**
+     * The snapshot is started over with a new key, and replaces the file on the next write.
+     */
+    private void assertDiscarded() {
+        VaultSnapshot snapshot = snapshot("24H");
+        assertNull(get(snapshot, "config"));
+        assertEquals(2, encryptions.get());
+
+        decrypt = VaultSnapshotTest::unwrap;
+        snapshot.put("other", VALUES);
+        await(() -> get(snapshot("24H"), "other") != null);
+        assertNull(get(snapshot("24H"), "config"));
+    }
+
+    private Map<String, String> get(VaultSnapshot snapshot, String key) {
+        return snapshot.get(key).await().atMost(Duration.ofSeconds(10));
+    }
+
+    private Path path() {
+        return dir.resolve("vault.snapshot");
+    }
+
+    private void awaitWritten() {
+        await(() -> Files.exists(path()));
+    }
+
+    private VaultSnapshot snapshot(String maxStaleness) {
+        VaultConfigHolder holder = new VaultConfigHolder().setVaultRuntimeConfig(VaultNamedConfigs.load(
+                new SmallRyeConfigBuilder()
+                        .withSources(new PropertiesConfigSource(Map.of(
+                                "quarkus.vault.test.url", "http://localhost:8200",
+                                "quarkus.vault.test.snapshot.enabled", "true",
+                                "quarkus.vault.test.snapshot.path", path().toString(),
+                                "quarkus.vault.test.snapshot.transit-key", "snapshot",
+                                "quarkus.vault.test.snapshot.max-staleness", maxStaleness), "test", 0))
+                        .build(),
+                "test"));
+        VaultTransitSecretReactiveEngine transit = (VaultTransitSecretReactiveEngine) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { VaultTransitSecretReactiveEngine.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("encrypt")) {
+                        encryptions.incrementAndGet();
+                        byte[] key = ((ClearData) args[1]).getValue();
+                        return Uni.createFrom().item("vault:v1:" + Base64.getEncoder().encodeToString(key));
+                    } else if (method.getName().equals("decrypt")) {
+                        decryptions.incrementAndGet();
+                        return decrypt.apply((String) args[1]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new VaultSnapshot(holder, transit);
+    }
+
+    private static Uni<ClearData> unwrap(String ciphertext) {
+        String key = ciphertext.substring(ciphertext.indexOf(':', "vault:".length()) + 1);
+        return Uni.createFrom().item(new ClearData(Base64.getDecoder().decode(key)));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.VaultAuthManager;
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultToken;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.client.VaultClient;
+import io.quarkus.vault.runtime.client.authmethod.VaultInternalTokenAuthMethod;
+import io.quarkus.vault.runtime.client.authmethod.VaultInternalUserpassAuthMethod;
+import io.quarkus.vault.runtime.client.dto.auth.VaultLookupSelf;
+import io.quarkus.vault.runtime.client.dto.auth.VaultRenewSelf;
+import io.quarkus.vault.runtime.client.dto.auth.VaultRenewSelfAuth;
+import io.quarkus.vault.runtime.client.dto.auth.VaultUserPassAuth;
+import io.quarkus.vault.runtime.client.dto.auth.VaultUserPassAuthAuth;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+
+public class VaultTokenTest {
+
+    private Vertx vertx;
+    private NamedVertxVaultClient client;
+    private final AtomicInteger logins = new AtomicInteger();
+    // lookups and renewals made by the fake token auth method
+    private final List<String> tokenCalls = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    public void close() {
+        if (client != null) {
+            client.close();
+            vertx.closeAndAwait();
+        }
+    }
+
+    @Test
+    public void shouldRelogin() throws InterruptedException {
+        VaultToken token = new VaultToken("token", false, 3, true);
+        assertFalse(token.shouldRelogin(Duration.ofHours(1)));
+        assertFalse(token.shouldRelogin(Duration.ofSeconds(1)));
+        assertFalse(token.shouldRelogin(Duration.ZERO));
+
+        Thread.sleep(2100);
+        // a grace period longer than the ttl waits for two thirds of it
+        assertTrue(token.shouldRelogin(Duration.ofHours(1)));
+        assertTrue(token.shouldRelogin(Duration.ofSeconds(1)));
+        assertFalse(token.shouldRelogin(Duration.ZERO));
+    }
+
+    @Test
+    public void batchToken() throws InterruptedException {
+        VaultAuthManager authManager = authManager(true);
+        assertEquals("token-1", authManager.getClientToken(client).await().indefinitely());
+        assertEquals("token-1", authManager.getClientToken(client).await().indefinitely());
+        assertEquals(1, logins.get());
+        // neither looked up nor renewed
+        assertEquals(List.of(), tokenCalls);
+
+        // logged in again within the grace period
+        Thread.sleep(2100);
+        assertEquals("token-2", authManager.getClientToken(client).await().indefinitely());
+        assertEquals(List.of(), tokenCalls);
+    }
+
+    @Test
+    public void serviceToken() throws InterruptedException {
+        VaultAuthManager authManager = authManager(false);
+        assertEquals("token-1", authManager.getClientToken(client).await().indefinitely());
+        assertEquals("token-1", authManager.getClientToken(client).await().indefinitely());
+        assertEquals(List.of("lookup token-1"), tokenCalls);
+
+        // renewed within the grace period, rather than logged in again
+        Thread.sleep(2100);
+        assertEquals("token-1", authManager.getClientToken(client).await().indefinitely());
+        assertEquals(List.of("lookup token-1", "lookup token-1", "renew token-1"), tokenCalls);
+        assertEquals(1, logins.get());
+    }
+
+    private VaultAuthManager authManager(boolean batch) {
+        VaultConfigHolder holder = new VaultConfigHolder().setVaultRuntimeConfig(VaultNamedConfigs.load(
+                new SmallRyeConfigBuilder()
+                        .withSources(new PropertiesConfigSource(Map.of(
+                                "quarkus.vault.userpass.url", "http://localhost:8200",
+                                "quarkus.vault.userpass.renew-grace-period", "PT1S",
+                                "quarkus.vault.userpass.authentication.userpass.username", "app",
+                                "quarkus.vault.userpass.authentication.userpass.password", "secret"), "test", 0))
+                        .build(),
+                "userpass"));
+        vertx = Vertx.vertx();
+        client = new NamedVertxVaultClient("userpass", holder.getVaultRuntimeConfig(), vertx, new TlsConfig(), null);
+        VaultInternalUserpassAuthMethod userpass = new VaultInternalUserpassAuthMethod() {
+            @Override
+            public Uni<VaultUserPassAuth> login(VaultClient vaultClient, String user, String password) {
+                VaultUserPassAuth auth = new VaultUserPassAuth();
+                auth.auth = new VaultUserPassAuthAuth();
+                auth.auth.clientToken = "token-" + logins.incrementAndGet();
+                auth.auth.renewable = !batch;
+                auth.auth.leaseDurationSecs = 3;
+                auth.auth.tokenType = batch ? VaultToken.BATCH_TOKEN_TYPE : "service";
+                return Uni.createFrom().item(auth);
+            }
+        };
+        VaultInternalTokenAuthMethod token = new VaultInternalTokenAuthMethod() {
+            @Override
+            public Uni<VaultLookupSelf> lookupSelf(VaultClient vaultClient, String token) {
+                tokenCalls.add("lookup " + token);
+                return Uni.createFrom().item(new VaultLookupSelf());
+            }
+
+            @Override
+            public Uni<VaultRenewSelf> renewSelf(VaultClient vaultClient, String token, String increment) {
+                tokenCalls.add("renew " + token);
+                VaultRenewSelf renew = new VaultRenewSelf();
+                renew.auth = new VaultRenewSelfAuth();
+                renew.auth.clientToken = token;
+                renew.auth.renewable = true;
+                renew.auth.leaseDurationSecs = 3;
+                return Uni.createFrom().item(renew);
+            }
+        };
+        return new VaultAuthManager(holder, null, null, null, userpass, token);
+    }
+}
@@ -0,0 +1,91 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.client.dto.kv.VaultKvSecretJsonV2;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalKvV2SecretEngine;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.vertx.core.VertxOptions;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpServer;
+import io.vertx.mutiny.core.net.SocketAddress;
+
+@EnabledOnOs(OS.LINUX)
+public class VaultUnixDomainSocketTest {
+
+    private Vertx vertx;
+    private HttpServer agent;
+    private Path socket;
+    private final AtomicReference<Map<String, String>> received = new AtomicReference<>();
+
+    @BeforeEach
+    public void startAgent() throws IOException {
+        vertx = Vertx.vertx(new VertxOptions().setPreferNativeTransport(true));
+        assumeTrue(vertx.isNativeTransportEnabled());
+        socket = Files.createTempDirectory("vault-agent").resolve("agent.sock");
+        agent = vertx.createHttpServer()
+                .requestHandler(request -> {
+                    received.set(Map.of("uri", request.uri(),
+                            "token", String.valueOf(request.headers().contains("X-Vault-Token"))));
+                    request.response()
+                            .putHeader("Content-Type", "application/json")
+                            .endAndForget("{\"data\":{\"data\":{\"password\":\"s3cr3t\"}}}");
+                })
+                .listen(SocketAddress.domainSocketAddress(socket.toString()))
+                .await().indefinitely();
+    }
+
+    @AfterEach
+    public void stopAgent() throws IOException {
+        if (agent != null) {
+            agent.closeAndAwait();
+        }
+        vertx.closeAndAwait();
+        if (socket != null) {
+            Files.deleteIfExists(socket);
+        }
+    }
+
+    @Test
+    public void agent() {
+        VaultRuntimeConfig config = VaultNamedConfigs.load(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.vault.agent.url", "unix://" + socket,
+                        "quarkus.vault.agent.authentication.agent-auto-auth", "true"), "test", 0))
+                .build(), "agent");
+        assertEquals("unix", config.url().get().getProtocol());
+        assertTrue(config.authentication().agentAutoAuth());
+
+        NamedVertxVaultClient client = new NamedVertxVaultClient("agent", config, vertx, new TlsConfig(), null);
+        try {
+            VaultKvSecretJsonV2 secret = new VaultInternalKvV2SecretEngine()
+                    .getSecretJson(client, null, "secret", "foo")
+                    .await().indefinitely();
+            assertEquals("s3cr3t", secret.data.data.get("password"));
+            assertEquals("/v1/secret/data/foo", received.get().get("uri"));
+            // the agent injects its auto-auth token
+            assertEquals("false", received.get().get("token"));
+        } finally {
+            client.close();
+        }
+    }
+}
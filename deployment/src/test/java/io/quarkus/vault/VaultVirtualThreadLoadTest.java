@@ -0,0 +1,112 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.VaultBlocking;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalKvV2SecretEngine;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.vertx.core.VertxOptions;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.core.http.HttpServer;
+
+/**
+ * Thousands of virtual threads calling a local Vault stub through the blocking path, on two event loops.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+public class VaultVirtualThreadLoadTest {
+
+    private static final int CALLERS = 5_000;
+
+    private Vertx vertx;
+    private HttpServer stub;
+
+    @BeforeEach
+    public void startStub() {
+        vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(2).setWorkerPoolSize(1)
+                .setInternalBlockingPoolSize(1));
+        stub = vertx.createHttpServer()
+                .requestHandler(request -> request.response()
+                        .putHeader("Content-Type", "application/json")
+                        .endAndForget("{\"data\":{\"data\":{\"password\":\"s3cr3t\"}}}"))
+                .listen(0, "localhost")
+                .await().indefinitely();
+    }
+
+    @AfterEach
+    public void stopStub() {
+        stub.closeAndAwait();
+        vertx.closeAndAwait();
+    }
+
+    @Test
+    public void virtualThreadCallers() throws Exception {
+        VaultRuntimeConfig config = VaultNamedConfigs.load(new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(Map.of(
+                        "quarkus.vault.stub.url", "http://localhost:" + stub.actualPort(),
+                        "quarkus.vault.stub.read-timeout", "60S",
+                        "quarkus.vault.stub.authentication.agent-auto-auth", "true"), "test", 0))
+                .build(), "stub");
+        NamedVertxVaultClient client = new NamedVertxVaultClient("stub", config, vertx, new TlsConfig(), null);
+        VaultInternalKvV2SecretEngine engine = new VaultInternalKvV2SecretEngine();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        int threadsBefore = threads.getThreadCount();
+        threads.resetPeakThreadCount();
+        AtomicInteger waiting = new AtomicInteger();
+        AtomicInteger maxWaiting = new AtomicInteger();
+
+        // compiled for Java 11
+        ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    assertTrue(VaultBlocking.isVirtualThread());
+                    maxWaiting.accumulateAndGet(waiting.incrementAndGet(), Math::max);
+                    try {
+                        return VaultBlocking.await(engine.getSecretJson(client, null, "secret", "foo")).data.data
+                                .get("password");
+                    } finally {
+                        waiting.decrementAndGet();
+                    }
+                }));
+            }
+            for (Future<Object> result : results) {
+                assertEquals("s3cr3t", result.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdown();
+            client.close();
+        }
+
+        int extraThreads = threads.getPeakThreadCount() - threadsBefore;
+        assertTrue(maxWaiting.get() > CALLERS / 10, "concurrent callers: " + maxWaiting.get());
+        // carrier threads only, one per core
+        assertTrue(extraThreads <= Runtime.getRuntime().availableProcessors() + 8,
+                "threads started: " + extraThreads);
+    }
+}
@@ -0,0 +1,26 @@
+package io.quarkus.vault.runtime.client.dto.kv;
+
+import io.quarkus.vault.runtime.client.dto.AbstractVaultDTO;
+
+/*
+
+{
+  "data": {
+    "created_time": "2018-03-22T02:24:06.945319214Z",
+    "current_version": 3,
+    "max_versions": 0,
+    "oldest_version": 0,
+    "updated_time": "2018-03-22T02:36:43.986212308Z",
+    "versions": {
+      "1": {
+        "created_time": "2018-03-22T02:24:06.945319214Z",
+        "deletion_time": "",
+        "destroyed": false
+      }
+    }
+  }
+}
+
+*/
+public class VaultKvSecretV2MetadataResult extends AbstractVaultDTO<VaultKvSecretV2MetadataResultData, Object> {
+}
@@ -0,0 +1,15 @@
+package io.quarkus.vault.runtime.client.dto.kv;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.quarkus.vault.runtime.client.dto.VaultModel;
+
+public class VaultKvSecretV2MetadataResultData implements VaultModel {
+
+    @JsonProperty("current_version")
+    public int currentVersion;
+    public Map<String, VaultKvSecretV2Metadata> versions;
+
+}
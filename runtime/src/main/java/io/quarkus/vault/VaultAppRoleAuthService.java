@@ -9,6 +9,7 @@ import io.quarkus.vault.auth.VaultAppRoleAuthRole;
 import io.quarkus.vault.auth.VaultAppRoleSecretId;
 import io.quarkus.vault.auth.VaultAppRoleSecretIdAccessor;
 import io.quarkus.vault.auth.VaultAppRoleSecretIdRequest;
+import io.quarkus.vault.runtime.VaultBlocking;
 import io.quarkus.vault.runtime.client.VaultClientException;
 
 /**
@@ -33,7 +34,7 @@ public class VaultAppRoleAuthService {
      * @return the role names
      */
     public List<String> getAppRoles() {
-        return service.getAppRoles().await().indefinitely();
+        return VaultBlocking.await(service.getAppRoles());
     }
 
     /**
@@ -43,7 +44,7 @@ public class VaultAppRoleAuthService {
      * @param appRole appRole attributes
      */
     public void createOrUpdateAppRole(String name, VaultAppRoleAuthRole appRole) {
-        service.createOrUpdateAppRole(name, appRole).await().indefinitely();
+        VaultBlocking.await(service.createOrUpdateAppRole(name, appRole));
     }
 
     /**
@@ -52,7 +53,7 @@ public class VaultAppRoleAuthService {
      * @param name appRole name to delete
      */
     public void deleteAppRole(String name) {
-        service.deleteAppRole(name).await().indefinitely();
+        VaultBlocking.await(service.deleteAppRole(name));
     }
 
     /**
@@ -62,7 +63,7 @@ public class VaultAppRoleAuthService {
      * @return the vault appRole
      */
     public VaultAppRoleAuthRole getAppRole(String name) {
-        return service.getAppRole(name).await().indefinitely();
+        return VaultBlocking.await(service.getAppRole(name));
     }
 
     /**
@@ -72,7 +73,7 @@ public class VaultAppRoleAuthService {
      * @return the appRole role Id
      */
     public String getAppRoleRoleId(String name) {
-        return service.getAppRoleRoleId(name).await().indefinitely();
+        return VaultBlocking.await(service.getAppRoleRoleId(name));
     }
 
     /**
@@ -83,7 +84,7 @@ public class VaultAppRoleAuthService {
      * @return the new role Id
      */
     public void setAppRoleRoleId(String name, String roleId) {
-        service.setAppRoleRoleId(name, roleId).await().indefinitely();
+        VaultBlocking.await(service.setAppRoleRoleId(name, roleId));
     }
 
     /**
@@ -94,7 +95,7 @@ public class VaultAppRoleAuthService {
      * @return the newly created secretId
      */
     public VaultAppRoleSecretId createNewSecretId(String name, VaultAppRoleSecretIdRequest newSecretIdRequest) {
-        return service.createNewSecretId(name, newSecretIdRequest).await().indefinitely();
+        return VaultBlocking.await(service.createNewSecretId(name, newSecretIdRequest));
     }
 
     /**
@@ -105,7 +106,7 @@ public class VaultAppRoleAuthService {
      * @return the newly created secretId
      */
     public VaultAppRoleSecretId createCustomSecretId(String name, VaultAppRoleSecretIdRequest newSecretIdRequest) {
-        return service.createCustomSecretId(name, newSecretIdRequest).await().indefinitely();
+        return VaultBlocking.await(service.createCustomSecretId(name, newSecretIdRequest));
     }
 
     /**
@@ -115,7 +116,7 @@ public class VaultAppRoleAuthService {
      * @return the secretId accessors keys
      */
     public List<String> getSecretIdAccessors(String name) {
-        return service.getSecretIdAccessors(name).await().indefinitely();
+        return VaultBlocking.await(service.getSecretIdAccessors(name));
     }
 
     /**
@@ -126,7 +127,7 @@ public class VaultAppRoleAuthService {
      * @return the SecretId accessor details
      */
     public VaultAppRoleSecretIdAccessor getSecretIdAccessor(String name, String accessorId) {
-        return service.getSecretIdAccessor(name, accessorId).await().indefinitely();
+        return VaultBlocking.await(service.getSecretIdAccessor(name, accessorId));
     }
 
     /**
@@ -136,7 +137,7 @@ public class VaultAppRoleAuthService {
      * @param accessorId the secret accessor id
      */
     public void deleteSecretIdAccessor(String name, String accessorId) {
-        service.deleteSecretIdAccessor(name, accessorId).await().indefinitely();
+        VaultBlocking.await(service.deleteSecretIdAccessor(name, accessorId));
     }
 
     /**
@@ -148,7 +149,7 @@ public class VaultAppRoleAuthService {
      */
     public VaultAppRoleSecretIdAccessor getSecretId(String name, String secretId) {
         try {
-            return service.getSecretId(name, secretId).await().indefinitely();
+            return VaultBlocking.await(service.getSecretId(name, secretId));
         } catch (VaultClientException e) {
             if (e.getStatus() == 204) {
                 // secretId not found
@@ -165,7 +166,7 @@ public class VaultAppRoleAuthService {
      * @param secretId the secret id
      */
     public void deleteSecretId(String name, String secretId) {
-        service.deleteSecretId(name, secretId).await().indefinitely();
+        VaultBlocking.await(service.deleteSecretId(name, secretId));
     }
 
 }
@@ -0,0 +1,53 @@
+package io.quarkus.vault;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.inject.Qualifier;
+
+/**
+ * Selects the engines and services of a named Vault client, configured under {@code quarkus.vault."name".*}.
+ *
+ * <pre>
+ * &#64;Inject
+ * &#64;VaultClientName("regional")
+ * VaultTransitSecretEngine transitSecretEngine;
+ * </pre>
+ */
+@Qualifier
+@Retention(RUNTIME)
+@Target({ FIELD, PARAMETER, METHOD, TYPE })
+public @interface VaultClientName {
+
+    /**
+     * Name of the Vault client.
+     */
+    @Nonbinding
+    String value();
+
+    class Literal extends AnnotationLiteral<VaultClientName> implements VaultClientName {
+
+        private final String value;
+
+        private Literal(String value) {
+            this.value = value;
+        }
+
+        public static Literal of(String value) {
+            return new Literal(value);
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+    }
+}
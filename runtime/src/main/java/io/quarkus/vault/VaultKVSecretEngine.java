@@ -6,6 +6,7 @@ import java.util.Map;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import io.quarkus.vault.runtime.VaultBlocking;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
 
 /**
@@ -33,7 +34,7 @@ public class VaultKVSecretEngine {
      * @return list of key value pairs stored at 'path' in Vault
      */
     public Map<String, String> readSecret(String path) {
-        return engine.readSecret(path).await().indefinitely();
+        return VaultBlocking.await(engine.readSecret(path));
     }
 
     /**
@@ -43,7 +44,7 @@ public class VaultKVSecretEngine {
      * @return list of key value pairs stored at 'path' in Vault
      */
     public Map<String, Object> readSecretJson(String path) {
-        return engine.readSecretJson(path).await().indefinitely();
+        return VaultBlocking.await(engine.readSecretJson(path));
     }
 
     /**
@@ -54,7 +55,7 @@ public class VaultKVSecretEngine {
      * @param secret to write at path
      */
     public void writeSecret(String path, Map<String, String> secret) {
-        engine.writeSecret(path, secret).await().indefinitely();
+        VaultBlocking.await(engine.writeSecret(path, secret));
     }
 
     /**
@@ -64,7 +65,7 @@ public class VaultKVSecretEngine {
      * @param path to delete
      */
     public void deleteSecret(String path) {
-        engine.deleteSecret(path).await().indefinitely();
+        VaultBlocking.await(engine.deleteSecret(path));
     }
 
     /**
@@ -74,7 +75,7 @@ public class VaultKVSecretEngine {
      * @return list of subpaths
      */
     public List<String> listSecrets(String path) {
-        return engine.listSecrets(path).await().indefinitely();
+        return VaultBlocking.await(engine.listSecrets(path));
     }
 
 }
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Map;
 
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.secrets.kv.SecretChange;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -56,4 +58,19 @@ public interface VaultKVSecretReactiveEngine {
      */
     Uni<List<String>> listSecrets(String path);
 
+    /**
+     * Subscribes to the changes of secrets in a kv version 2 secret engine.
+     * <p>
+     * The metadata of the secrets is polled, and a {@link SecretChange} is emitted with the new data each time the
+     * current version of a secret changes, or with no data when it is deleted. Paths ending with {@code /} are
+     * prefixes, which cover all the secrets below them, including the ones created later. The changes that happen
+     * before the first poll completes are not emitted. Subscriptions to the same set of paths, in any order, share a
+     * single poller, which stops after the last subscriber cancels. Subscriptions to different sets of paths have a
+     * poller each, even when the sets overlap, so prefer a single subscription to all the paths of interest.
+     *
+     * @param paths secrets or prefixes to watch, without the kv engine mount path
+     * @return changes of the secrets
+     */
+    Multi<SecretChange> subscribeChanges(List<String> paths);
+
 }
@@ -7,6 +7,7 @@ import jakarta.inject.Inject;
 
 import io.quarkus.vault.auth.VaultKubernetesAuthConfig;
 import io.quarkus.vault.auth.VaultKubernetesAuthRole;
+import io.quarkus.vault.runtime.VaultBlocking;
 
 /**
  * This service provides programmatic access to the Kubernetes auth method.
@@ -30,7 +31,7 @@ public class VaultKubernetesAuthService {
      * @param config configuration detail
      */
     public void configure(VaultKubernetesAuthConfig config) {
-        service.configure(config).await().indefinitely();
+        VaultBlocking.await(service.configure(config));
     }
 
     /**
@@ -39,7 +40,7 @@ public class VaultKubernetesAuthService {
      * @return the configuration
      */
     public VaultKubernetesAuthConfig getConfig() {
-        return service.getConfig().await().indefinitely();
+        return VaultBlocking.await(service.getConfig());
     }
 
     /**
@@ -49,7 +50,7 @@ public class VaultKubernetesAuthService {
      * @return the Kubernetes vault role
      */
     public VaultKubernetesAuthRole getRole(String name) {
-        return service.getRole(name).await().indefinitely();
+        return VaultBlocking.await(service.getRole(name));
     }
 
     /**
@@ -59,7 +60,7 @@ public class VaultKubernetesAuthService {
      * @param role role attributes
      */
     public void createRole(String name, VaultKubernetesAuthRole role) {
-        service.createRole(name, role).await().indefinitely();
+        VaultBlocking.await(service.createRole(name, role));
     }
 
     /**
@@ -68,7 +69,7 @@ public class VaultKubernetesAuthService {
      * @param name role name to delete
      */
     public void deleteRole(String name) {
-        service.deleteRole(name).await().indefinitely();
+        VaultBlocking.await(service.deleteRole(name));
     }
 
     /**
@@ -77,7 +78,7 @@ public class VaultKubernetesAuthService {
      * @return the role names
      */
     public List<String> getRoles() {
-        return service.getRoles().await().indefinitely();
+        return VaultBlocking.await(service.getRoles());
     }
 
 }
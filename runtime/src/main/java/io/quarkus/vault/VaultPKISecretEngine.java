@@ -9,6 +9,9 @@ import jakarta.inject.Inject;
 import io.quarkus.vault.pki.CAChainData;
 import io.quarkus.vault.pki.CRLData;
 import io.quarkus.vault.pki.CertificateData;
+import io.quarkus.vault.pki.CertificateKeyType;
+import io.quarkus.vault.pki.CertificatePool;
+import io.quarkus.vault.pki.CertificatePoolOptions;
 import io.quarkus.vault.pki.ConfigCRLOptions;
 import io.quarkus.vault.pki.ConfigURLsOptions;
 import io.quarkus.vault.pki.DataFormat;
@@ -18,10 +21,12 @@ import io.quarkus.vault.pki.GenerateRootOptions;
 import io.quarkus.vault.pki.GeneratedCertificate;
 import io.quarkus.vault.pki.GeneratedIntermediateCSRResult;
 import io.quarkus.vault.pki.GeneratedRootCertificate;
+import io.quarkus.vault.pki.RevocationIndex;
 import io.quarkus.vault.pki.RoleOptions;
 import io.quarkus.vault.pki.SignIntermediateCAOptions;
 import io.quarkus.vault.pki.SignedCertificate;
 import io.quarkus.vault.pki.TidyOptions;
+import io.quarkus.vault.runtime.VaultBlocking;
 
 /**
  * A service that interacts with Hashicorp's Vault PKI secret engine to issue certificates & manage certificate
@@ -47,7 +52,7 @@ public class VaultPKISecretEngine {
      * @return Certificate authority certificate.
      */
     public CertificateData.PEM getCertificateAuthority() {
-        return engine.getCertificateAuthority().await().indefinitely();
+        return VaultBlocking.await(engine.getCertificateAuthority());
     }
 
     /**
@@ -57,7 +62,7 @@ public class VaultPKISecretEngine {
      * @return Certificate authority certificate.
      */
     public CertificateData getCertificateAuthority(DataFormat format) {
-        return engine.getCertificateAuthority(format).await().indefinitely();
+        return VaultBlocking.await(engine.getCertificateAuthority(format));
     }
 
     /**
@@ -66,7 +71,7 @@ public class VaultPKISecretEngine {
      * @param pemBundle PEM encoded bundle including the CA, with optional chain, and private key.
      */
     public void configCertificateAuthority(String pemBundle) {
-        engine.configCertificateAuthority(pemBundle).await().indefinitely();
+        VaultBlocking.await(engine.configCertificateAuthority(pemBundle));
     }
 
     /**
@@ -75,7 +80,7 @@ public class VaultPKISecretEngine {
      * @param options URL options.
      */
     public void configURLs(ConfigURLsOptions options) {
-        engine.configURLs(options).await().indefinitely();
+        VaultBlocking.await(engine.configURLs(options));
     }
 
     /**
@@ -84,7 +89,7 @@ public class VaultPKISecretEngine {
      * @return URL options.
      */
     public ConfigURLsOptions readURLsConfig() {
-        return engine.readURLsConfig().await().indefinitely();
+        return VaultBlocking.await(engine.readURLsConfig());
     }
 
     /**
@@ -93,7 +98,7 @@ public class VaultPKISecretEngine {
      * @param options CRL options.
      */
     public void configCRL(ConfigCRLOptions options) {
-        engine.configCRL(options).await().indefinitely();
+        VaultBlocking.await(engine.configCRL(options));
     }
 
     /**
@@ -102,7 +107,7 @@ public class VaultPKISecretEngine {
      * @return URL options.
      */
     public ConfigCRLOptions readCRLConfig() {
-        return engine.readCRLConfig().await().indefinitely();
+        return VaultBlocking.await(engine.readCRLConfig());
     }
 
     /**
@@ -111,7 +116,7 @@ public class VaultPKISecretEngine {
      * @return Certificate authority chain.
      */
     public CAChainData.PEM getCertificateAuthorityChain() {
-        return engine.getCertificateAuthorityChain().await().indefinitely();
+        return VaultBlocking.await(engine.getCertificateAuthorityChain());
     }
 
     /**
@@ -120,7 +125,7 @@ public class VaultPKISecretEngine {
      * @return Certificate revocation list.
      */
     public CRLData.PEM getCertificateRevocationList() {
-        return engine.getCertificateRevocationList().await().indefinitely();
+        return VaultBlocking.await(engine.getCertificateRevocationList());
     }
 
     /**
@@ -130,14 +135,25 @@ public class VaultPKISecretEngine {
      * @return Certificate revocation list.
      */
     public CRLData getCertificateRevocationList(DataFormat format) {
-        return engine.getCertificateRevocationList(format).await().indefinitely();
+        return VaultBlocking.await(engine.getCertificateRevocationList(format));
     }
 
     /**
      * Forces a rotation of the associated CRL.
      */
     public boolean rotateCertificateRevocationList() {
-        return engine.rotateCertificateRevocationList().await().indefinitely();
+        return VaultBlocking.await(engine.rotateCertificateRevocationList());
+    }
+
+    /**
+     * Retrieves a local index of the engine's revoked certificates, built from the engine's CRL.
+     * <p>
+     * The index is shared by all engines targeting the same mount, and keeps itself up to date with the CRL.
+     *
+     * @return Revocation index.
+     */
+    public RevocationIndex getRevocationIndex() {
+        return VaultBlocking.await(engine.getRevocationIndex());
     }
 
     /**
@@ -146,7 +162,7 @@ public class VaultPKISecretEngine {
      * @return List of certificate serialize numbers.
      */
     public List<String> getCertificates() {
-        return engine.getCertificates().await().indefinitely();
+        return VaultBlocking.await(engine.getCertificates());
     }
 
     /**
@@ -156,7 +172,7 @@ public class VaultPKISecretEngine {
      * @return Certificate or null if no certificate exists.
      */
     public CertificateData.PEM getCertificate(String serial) {
-        return engine.getCertificate(serial).await().indefinitely();
+        return VaultBlocking.await(engine.getCertificate(serial));
     }
 
     /**
@@ -168,7 +184,43 @@ public class VaultPKISecretEngine {
      * @return Generated certificate and private key.
      */
     public GeneratedCertificate generateCertificate(String role, GenerateCertificateOptions options) {
-        return engine.generateCertificate(role, options).await().indefinitely();
+        return VaultBlocking.await(engine.generateCertificate(role, options));
+    }
+
+    /**
+     * Generates a certificate issued from the engine's CA, for a key pair generated locally instead of by Vault.
+     * <p>
+     * The key pair is generated on a worker thread, and a Certificate Signing Request built from the options
+     * (common name, subject alternative names, IP and URI subject alternative names) is signed with
+     * {@link #signRequest(String, String, GenerateCertificateOptions)}. This moves the CPU intensive part of
+     * certificate generation from the Vault servers to the application.
+     *
+     * @param role Name of role used to create certificate.
+     * @param options Certificate generation options.
+     * @param keyType Type of the generated key pair, defaults to {@link CertificateKeyType#RSA}.
+     * @param keyBits Size of the generated key pair, defaults to 2048 bits for RSA, and 256 bits for EC.
+     * @return Generated certificate and private key, encoded as requested by the options.
+     */
+    public GeneratedCertificate generateCertificateWithLocalKey(String role, GenerateCertificateOptions options,
+            CertificateKeyType keyType, Integer keyBits) {
+        return VaultBlocking.await(engine.generateCertificateWithLocalKey(role, options, keyType, keyBits));
+    }
+
+    /**
+     * Creates a pool of certificates generated ahead of time with {@link #generateCertificate}, so that taking
+     * a certificate does not wait for Vault to generate a key pair and sign it.
+     * <p>
+     * Each pooled certificate is handed out once. The pool refills itself in the background and discards
+     * certificates that are about to expire.
+     *
+     * @param role Name of role used to create certificates.
+     * @param options Certificate generation options, used as a template for all the pooled certificates.
+     * @param poolOptions Pool sizing and expiration options.
+     * @return Certificate pool, that must be closed when not needed anymore.
+     */
+    public CertificatePool createCertificatePool(String role, GenerateCertificateOptions options,
+            CertificatePoolOptions poolOptions) {
+        return engine.createCertificatePool(role, options, poolOptions);
     }
 
     /**
@@ -180,7 +232,7 @@ public class VaultPKISecretEngine {
      * @return Generated certificate.
      */
     public SignedCertificate signRequest(String role, String pemSigningRequest, GenerateCertificateOptions options) {
-        return engine.signRequest(role, pemSigningRequest, options).await().indefinitely();
+        return VaultBlocking.await(engine.signRequest(role, pemSigningRequest, options));
     }
 
     /**
@@ -190,7 +242,7 @@ public class VaultPKISecretEngine {
      * @return Time of certificates revocation.
      */
     public OffsetDateTime revokeCertificate(String serialNumber) {
-        return engine.revokeCertificate(serialNumber).await().indefinitely();
+        return VaultBlocking.await(engine.revokeCertificate(serialNumber));
     }
 
     /**
@@ -200,7 +252,7 @@ public class VaultPKISecretEngine {
      * @param options Options for role.
      */
     public void updateRole(String role, RoleOptions options) {
-        engine.updateRole(role, options).await().indefinitely();
+        VaultBlocking.await(engine.updateRole(role, options));
     }
 
     /**
@@ -210,7 +262,7 @@ public class VaultPKISecretEngine {
      * @return Options for the role or null if role does not exist.
      */
     public RoleOptions getRole(String role) {
-        return engine.getRole(role).await().indefinitely();
+        return VaultBlocking.await(engine.getRole(role));
     }
 
     /**
@@ -219,7 +271,7 @@ public class VaultPKISecretEngine {
      * @return List of role names.
      */
     public List<String> getRoles() {
-        return engine.getRoles().await().indefinitely();
+        return VaultBlocking.await(engine.getRoles());
     }
 
     /**
@@ -228,7 +280,7 @@ public class VaultPKISecretEngine {
      * @param role Name of role.
      */
     public void deleteRole(String role) {
-        engine.deleteRole(role).await().indefinitely();
+        VaultBlocking.await(engine.deleteRole(role));
     }
 
     /**
@@ -238,14 +290,14 @@ public class VaultPKISecretEngine {
      * @return Generated root certificate.
      */
     public GeneratedRootCertificate generateRoot(GenerateRootOptions options) {
-        return engine.generateRoot(options).await().indefinitely();
+        return VaultBlocking.await(engine.generateRoot(options));
     }
 
     /**
      * Deletes the engine's current CA.
      */
     public void deleteRoot() {
-        engine.deleteRoot().await().indefinitely();
+        VaultBlocking.await(engine.deleteRoot());
     }
 
     /**
@@ -257,7 +309,7 @@ public class VaultPKISecretEngine {
      * @return Generated certificate.
      */
     public SignedCertificate signIntermediateCA(String pemSigningRequest, SignIntermediateCAOptions options) {
-        return engine.signIntermediateCA(pemSigningRequest, options).await().indefinitely();
+        return VaultBlocking.await(engine.signIntermediateCA(pemSigningRequest, options));
     }
 
     /**
@@ -274,7 +326,7 @@ public class VaultPKISecretEngine {
      * @return Generated CSR and, if key export is enabled, private key.
      */
     public GeneratedIntermediateCSRResult generateIntermediateCSR(GenerateIntermediateCSROptions options) {
-        return engine.generateIntermediateCSR(options).await().indefinitely();
+        return VaultBlocking.await(engine.generateIntermediateCSR(options));
     }
 
     /**
@@ -287,7 +339,7 @@ public class VaultPKISecretEngine {
      * @param pemCert Signed certificate (PEM encoded).
      */
     public void setSignedIntermediateCA(String pemCert) {
-        engine.setSignedIntermediateCA(pemCert).await().indefinitely();
+        VaultBlocking.await(engine.setSignedIntermediateCA(pemCert));
     }
 
     /**
@@ -297,7 +349,7 @@ public class VaultPKISecretEngine {
      * @param options Tidy options.
      */
     public void tidy(TidyOptions options) {
-        engine.tidy(options).await().indefinitely();
+        VaultBlocking.await(engine.tidy(options));
     }
 
 }
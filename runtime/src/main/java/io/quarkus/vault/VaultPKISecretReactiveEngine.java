@@ -7,6 +7,9 @@ import io.quarkus.vault.pki.CAChainData;
 import io.quarkus.vault.pki.CRLData;
 import io.quarkus.vault.pki.CertificateData;
 import io.quarkus.vault.pki.CertificateData.PEM;
+import io.quarkus.vault.pki.CertificateKeyType;
+import io.quarkus.vault.pki.CertificatePool;
+import io.quarkus.vault.pki.CertificatePoolOptions;
 import io.quarkus.vault.pki.ConfigCRLOptions;
 import io.quarkus.vault.pki.ConfigURLsOptions;
 import io.quarkus.vault.pki.DataFormat;
@@ -16,6 +19,7 @@ import io.quarkus.vault.pki.GenerateRootOptions;
 import io.quarkus.vault.pki.GeneratedCertificate;
 import io.quarkus.vault.pki.GeneratedIntermediateCSRResult;
 import io.quarkus.vault.pki.GeneratedRootCertificate;
+import io.quarkus.vault.pki.RevocationIndex;
 import io.quarkus.vault.pki.RoleOptions;
 import io.quarkus.vault.pki.SignIntermediateCAOptions;
 import io.quarkus.vault.pki.SignedCertificate;
@@ -107,6 +111,15 @@ public interface VaultPKISecretReactiveEngine {
      */
     Uni<Boolean> rotateCertificateRevocationList();
 
+    /**
+     * Retrieves a local index of the engine's revoked certificates, built from the engine's CRL.
+     * <p>
+     * The index is shared by all engines targeting the same mount, and keeps itself up to date with the CRL.
+     *
+     * @return Revocation index, once it has been loaded.
+     */
+    Uni<RevocationIndex> getRevocationIndex();
+
     /**
      * List all issued certificate serial numbers.
      *
@@ -132,6 +145,38 @@ public interface VaultPKISecretReactiveEngine {
      */
     Uni<GeneratedCertificate> generateCertificate(String role, GenerateCertificateOptions options);
 
+    /**
+     * Generates a certificate issued from the engine's CA, for a key pair generated locally instead of by Vault.
+     * <p>
+     * The key pair is generated on a worker thread, and a Certificate Signing Request built from the options
+     * (common name, subject alternative names, IP and URI subject alternative names) is signed with
+     * {@link #signRequest(String, String, GenerateCertificateOptions)}. This moves the CPU intensive part of
+     * certificate generation from the Vault servers to the application.
+     *
+     * @param role Name of role used to create certificate.
+     * @param options Certificate generation options.
+     * @param keyType Type of the generated key pair, defaults to {@link CertificateKeyType#RSA}.
+     * @param keyBits Size of the generated key pair, defaults to 2048 bits for RSA, and 256 bits for EC.
+     * @return Generated certificate and private key, encoded as requested by the options.
+     */
+    Uni<GeneratedCertificate> generateCertificateWithLocalKey(String role, GenerateCertificateOptions options,
+            CertificateKeyType keyType, Integer keyBits);
+
+    /**
+     * Creates a pool of certificates generated ahead of time with {@link #generateCertificate}, so that taking
+     * a certificate does not wait for Vault to generate a key pair and sign it.
+     * <p>
+     * Each pooled certificate is handed out once. The pool refills itself in the background and discards
+     * certificates that are about to expire.
+     *
+     * @param role Name of role used to create certificates.
+     * @param options Certificate generation options, used as a template for all the pooled certificates.
+     * @param poolOptions Pool sizing and expiration options.
+     * @return Certificate pool, that must be closed when not needed anymore.
+     */
+    CertificatePool createCertificatePool(String role, GenerateCertificateOptions options,
+            CertificatePoolOptions poolOptions);
+
     /**
      * Generates a certificate issued from the engine's CA using the provided Certificate Signing Request and options.
      *
@@ -0,0 +1,38 @@
+package io.quarkus.vault;
+
+import io.smallrye.mutiny.Context;
+
+/**
+ * Priority of the Vault requests of an operation, used when the client side concurrency limit is reached.
+ * <p>
+ * Queued {@link #INTERACTIVE} requests are sent before queued {@link #BULK} ones. Requests are interactive unless
+ * the priority is set in the Mutiny {@link Context} the operation is subscribed with:
+ *
+ * <pre>
+ * kvSecretEngine.listSecrets("app").awaitUsing(VaultRequestPriority.BULK.context()).indefinitely();
+ * </pre>
+ */
+public enum VaultRequestPriority {
+
+    INTERACTIVE,
+    BULK;
+
+    /**
+     * Key of the priority in the Mutiny {@link Context}.
+     */
+    public static final String CONTEXT_KEY = "io.quarkus.vault.request-priority";
+
+    /**
+     * A new Mutiny context with this priority.
+     */
+    public Context context() {
+        return Context.of(CONTEXT_KEY, this);
+    }
+
+    /**
+     * The priority set in a Mutiny context, or {@link #INTERACTIVE}.
+     */
+    public static VaultRequestPriority of(Context context) {
+        return context.getOrElse(CONTEXT_KEY, () -> INTERACTIVE);
+    }
+}
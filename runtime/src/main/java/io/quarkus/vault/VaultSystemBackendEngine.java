@@ -5,6 +5,7 @@ import java.util.List;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import io.quarkus.vault.runtime.VaultBlocking;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
 import io.quarkus.vault.sys.EnableEngineOptions;
 import io.quarkus.vault.sys.VaultHealth;
@@ -39,7 +40,7 @@ public class VaultSystemBackendEngine {
      * @return Vault Init.
      */
     public VaultInit init(int secretShares, int secretThreshold) {
-        return engine.init(secretShares, secretThreshold).await().indefinitely();
+        return VaultBlocking.await(engine.init(secretShares, secretThreshold));
     }
 
     /**
@@ -51,7 +52,7 @@ public class VaultSystemBackendEngine {
      * @return Vault Health Status.
      */
     public VaultHealth health() {
-        return engine.health().await().indefinitely();
+        return VaultBlocking.await(engine.health());
     }
 
     /**
@@ -62,7 +63,7 @@ public class VaultSystemBackendEngine {
      * @return Complete Vault Health Status.
      */
     public VaultHealthStatus healthStatus() {
-        return engine.healthStatus().await().indefinitely();
+        return VaultBlocking.await(engine.healthStatus());
     }
 
     /**
@@ -71,7 +72,7 @@ public class VaultSystemBackendEngine {
      * @return Vault Seal Status.
      */
     public VaultSealStatus sealStatus() {
-        return engine.sealStatus().await().indefinitely();
+        return VaultBlocking.await(engine.sealStatus());
     }
 
     /**
@@ -81,7 +82,7 @@ public class VaultSystemBackendEngine {
      * @return rules of named policy
      */
     public String getPolicyRules(String name) {
-        return engine.getPolicyRules(name).await().indefinitely();
+        return VaultBlocking.await(engine.getPolicyRules(name));
     }
 
     /**
@@ -91,7 +92,7 @@ public class VaultSystemBackendEngine {
      * @param rules policy content
      */
     public void createUpdatePolicy(String name, String rules) {
-        engine.createUpdatePolicy(name, rules).await().indefinitely();
+        VaultBlocking.await(engine.createUpdatePolicy(name, rules));
     }
 
     /**
@@ -100,7 +101,7 @@ public class VaultSystemBackendEngine {
      * @param name policy name
      */
     public void deletePolicy(String name) {
-        engine.deletePolicy(name).await().indefinitely();
+        VaultBlocking.await(engine.deletePolicy(name));
     }
 
     /**
@@ -109,7 +110,7 @@ public class VaultSystemBackendEngine {
      * @return a list of all policy names
      */
     public List<String> getPolicies() {
-        return engine.getPolicies().await().indefinitely();
+        return VaultBlocking.await(engine.getPolicies());
     }
 
     /**
@@ -119,7 +120,7 @@ public class VaultSystemBackendEngine {
      * @return current tune info
      */
     public VaultTuneInfo getTuneInfo(String mount) {
-        return engine.getTuneInfo(mount).await().indefinitely();
+        return VaultBlocking.await(engine.getTuneInfo(mount));
     }
 
     /**
@@ -132,7 +133,7 @@ public class VaultSystemBackendEngine {
      * @return current secret engine info
      */
     public VaultSecretEngineInfo getSecretEngineInfo(String mount) {
-        return engine.getSecretEngineInfo(mount).await().indefinitely();
+        return VaultBlocking.await(engine.getSecretEngineInfo(mount));
     }
 
     /**
@@ -142,7 +143,7 @@ public class VaultSystemBackendEngine {
      * @param tuneInfo Tune info with fields to update
      */
     public void updateTuneInfo(String mount, VaultTuneInfo tuneInfo) {
-        engine.updateTuneInfo(mount, tuneInfo).await().indefinitely();
+        VaultBlocking.await(engine.updateTuneInfo(mount, tuneInfo));
     }
 
     /**
@@ -152,7 +153,7 @@ public class VaultSystemBackendEngine {
      * @return True if an engine is mounted, false otherwise
      */
     public boolean isEngineMounted(String mount) {
-        return engine.isEngineMounted(mount).await().indefinitely();
+        return VaultBlocking.await(engine.isEngineMounted(mount));
     }
 
     /**
@@ -164,7 +165,7 @@ public class VaultSystemBackendEngine {
      * @param options Engine options.
      */
     public void enable(VaultSecretEngine engine, String mount, String description, EnableEngineOptions options) {
-        this.engine.enable(engine, mount, description, options).await().indefinitely();
+        VaultBlocking.await(this.engine.enable(engine, mount, description, options));
     }
 
     /**
@@ -176,7 +177,7 @@ public class VaultSystemBackendEngine {
      * @param options Engine options.
      */
     public void enable(String engineType, String mount, String description, EnableEngineOptions options) {
-        engine.enable(engineType, mount, description, options).await().indefinitely();
+        VaultBlocking.await(engine.enable(engineType, mount, description, options));
     }
 
     /**
@@ -185,7 +186,7 @@ public class VaultSystemBackendEngine {
      * @param mount Engine mount path.
      */
     public void disable(String mount) {
-        engine.disable(mount).await().indefinitely();
+        VaultBlocking.await(engine.disable(mount));
     }
 
 }
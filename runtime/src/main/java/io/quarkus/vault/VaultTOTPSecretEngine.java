@@ -6,6 +6,7 @@ import java.util.Optional;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import io.quarkus.vault.runtime.VaultBlocking;
 import io.quarkus.vault.secrets.totp.CreateKeyParameters;
 import io.quarkus.vault.secrets.totp.KeyConfiguration;
 import io.quarkus.vault.secrets.totp.KeyDefinition;
@@ -34,7 +35,7 @@ public class VaultTOTPSecretEngine {
      * @return Barcode and/or URL of the created OTP key.
      */
     public Optional<KeyDefinition> createKey(String name, CreateKeyParameters createKeyParameters) {
-        return engine.createKey(name, createKeyParameters).await().indefinitely();
+        return VaultBlocking.await(engine.createKey(name, createKeyParameters));
     }
 
     /**
@@ -44,7 +45,7 @@ public class VaultTOTPSecretEngine {
      * @return The key configuration.
      */
     public KeyConfiguration readKey(String name) {
-        return engine.readKey(name).await().indefinitely();
+        return VaultBlocking.await(engine.readKey(name));
     }
 
     /**
@@ -53,7 +54,7 @@ public class VaultTOTPSecretEngine {
      * @return List of available keys.
      */
     public List<String> listKeys() {
-        return engine.listKeys().await().indefinitely();
+        return VaultBlocking.await(engine.listKeys());
     }
 
     /**
@@ -62,7 +63,7 @@ public class VaultTOTPSecretEngine {
      * @param name of the key.
      */
     public void deleteKey(String name) {
-        engine.deleteKey(name).await().indefinitely();
+        VaultBlocking.await(engine.deleteKey(name));
     }
 
     /**
@@ -72,7 +73,7 @@ public class VaultTOTPSecretEngine {
      * @return The Code.
      */
     public String generateCode(String name) {
-        return engine.generateCode(name).await().indefinitely();
+        return VaultBlocking.await(engine.generateCode(name));
     }
 
     /**
@@ -83,6 +84,6 @@ public class VaultTOTPSecretEngine {
      * @return True if valid, false otherwise.
      */
     public boolean validateCode(String name, String code) {
-        return engine.validateCode(name, code).await().indefinitely();
+        return VaultBlocking.await(engine.validateCode(name, code));
     }
 }
@@ -7,6 +7,7 @@ import java.util.Optional;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import io.quarkus.vault.runtime.VaultBlocking;
 import io.quarkus.vault.transit.ClearData;
 import io.quarkus.vault.transit.DecryptionRequest;
 import io.quarkus.vault.transit.EncryptionRequest;
@@ -56,7 +57,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#encrypt-data">encrypt data</a>
      */
     public String encrypt(String keyName, String clearData) {
-        return engine.encrypt(keyName, clearData).await().indefinitely();
+        return VaultBlocking.await(engine.encrypt(keyName, clearData));
     }
 
     /**
@@ -72,7 +73,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#encrypt-data">encrypt data</a>
      */
     public String encrypt(String keyName, ClearData clearData, TransitContext transitContext) {
-        return engine.encrypt(keyName, clearData, transitContext).await().indefinitely();
+        return VaultBlocking.await(engine.encrypt(keyName, clearData, transitContext));
     }
 
     /**
@@ -87,7 +88,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#encrypt-data">encrypt data</a>
      */
     public Map<EncryptionRequest, String> encrypt(String keyName, List<EncryptionRequest> requests) {
-        return engine.encrypt(keyName, requests).await().indefinitely();
+        return VaultBlocking.await(engine.encrypt(keyName, requests));
     }
 
     /**
@@ -99,7 +100,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#decrypt-data">decrypt data</a>
      */
     public ClearData decrypt(String keyName, String ciphertext) {
-        return engine.decrypt(keyName, ciphertext).await().indefinitely();
+        return VaultBlocking.await(engine.decrypt(keyName, ciphertext));
     }
 
     /**
@@ -113,7 +114,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#derived">create key derived attribute</a>
      */
     public ClearData decrypt(String keyName, String ciphertext, TransitContext transitContext) {
-        return engine.decrypt(keyName, ciphertext, transitContext).await().indefinitely();
+        return VaultBlocking.await(engine.decrypt(keyName, ciphertext, transitContext));
     }
 
     /**
@@ -127,7 +128,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#decrypt-data">decrypt data</a>
      */
     public Map<DecryptionRequest, ClearData> decrypt(String keyName, List<DecryptionRequest> requests) {
-        return engine.decrypt(keyName, requests).await().indefinitely();
+        return VaultBlocking.await(engine.decrypt(keyName, requests));
     }
 
     /**
@@ -142,7 +143,7 @@ public class VaultTransitSecretEngine {
      *      management</a>
      */
     public String rewrap(String keyName, String ciphertext) {
-        return engine.rewrap(keyName, ciphertext).await().indefinitely();
+        return VaultBlocking.await(engine.rewrap(keyName, ciphertext));
     }
 
     /**
@@ -158,7 +159,7 @@ public class VaultTransitSecretEngine {
      *      management</a>
      */
     public String rewrap(String keyName, String ciphertext, TransitContext transitContext) {
-        return engine.rewrap(keyName, ciphertext, transitContext).await().indefinitely();
+        return VaultBlocking.await(engine.rewrap(keyName, ciphertext, transitContext));
     }
 
     /**
@@ -175,7 +176,7 @@ public class VaultTransitSecretEngine {
      *      management</a>
      */
     public Map<RewrappingRequest, String> rewrap(String keyName, List<RewrappingRequest> requests) {
-        return engine.rewrap(keyName, requests).await().indefinitely();
+        return VaultBlocking.await(engine.rewrap(keyName, requests));
     }
 
     /**
@@ -187,7 +188,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#sign-data">sign data</a>
      */
     public String sign(String keyName, String input) {
-        return engine.sign(keyName, input).await().indefinitely();
+        return VaultBlocking.await(engine.sign(keyName, input));
     }
 
     /**
@@ -200,7 +201,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#sign-data">sign data</a>
      */
     public String sign(String keyName, SigningInput input, TransitContext transitContext) {
-        return engine.sign(keyName, input, transitContext).await().indefinitely();
+        return VaultBlocking.await(engine.sign(keyName, input, transitContext));
     }
 
     /**
@@ -215,7 +216,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#sign-data">sign data</a>
      */
     public String sign(String keyName, SigningInput input, SignVerifyOptions options, TransitContext transitContext) {
-        return engine.sign(keyName, input, options, transitContext).await().indefinitely();
+        return VaultBlocking.await(engine.sign(keyName, input, options, transitContext));
     }
 
     /**
@@ -229,7 +230,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#sign-data">sign data</a>
      */
     public Map<SigningRequest, String> sign(String keyName, List<SigningRequest> requests) {
-        return engine.sign(keyName, requests).await().indefinitely();
+        return VaultBlocking.await(engine.sign(keyName, requests));
     }
 
     /**
@@ -244,7 +245,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#sign-data">sign data</a>
      */
     public Map<SigningRequest, String> sign(String keyName, List<SigningRequest> requests, SignVerifyOptions options) {
-        return engine.sign(keyName, requests, options).await().indefinitely();
+        return VaultBlocking.await(engine.sign(keyName, requests, options));
     }
 
     /**
@@ -257,7 +258,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#verify-signed-data">verify signed data</a>
      */
     public void verifySignature(String keyName, String signature, String input) {
-        engine.verifySignature(keyName, signature, input).await().indefinitely();
+        VaultBlocking.await(engine.verifySignature(keyName, signature, input));
     }
 
     /**
@@ -271,7 +272,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#verify-signed-data">verify signed data</a>
      */
     public void verifySignature(String keyName, String signature, SigningInput input, TransitContext transitContext) {
-        engine.verifySignature(keyName, signature, input, transitContext).await().indefinitely();
+        VaultBlocking.await(engine.verifySignature(keyName, signature, input, transitContext));
     }
 
     /**
@@ -288,7 +289,7 @@ public class VaultTransitSecretEngine {
      */
     public void verifySignature(String keyName, String signature, SigningInput input, SignVerifyOptions options,
             TransitContext transitContext) {
-        engine.verifySignature(keyName, signature, input, options, transitContext).await().indefinitely();
+        VaultBlocking.await(engine.verifySignature(keyName, signature, input, options, transitContext));
     }
 
     /**
@@ -301,7 +302,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#verify-signed-data">verify signed data</a>
      */
     public void verifySignature(String keyName, List<VerificationRequest> requests) {
-        engine.verifySignature(keyName, requests).await().indefinitely();
+        VaultBlocking.await(engine.verifySignature(keyName, requests));
     }
 
     /**
@@ -316,7 +317,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#verify-signed-data">verify signed data</a>
      */
     public void verifySignature(String keyName, List<VerificationRequest> requests, SignVerifyOptions options) {
-        engine.verifySignature(keyName, requests, options).await().indefinitely();
+        VaultBlocking.await(engine.verifySignature(keyName, requests, options));
     }
 
     // --- admin operations
@@ -329,7 +330,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api-docs/secret/transit#create-key">create key</a>
      */
     public void createKey(String keyName, KeyCreationRequestDetail detail) {
-        engine.createKey(keyName, detail).await().indefinitely();
+        VaultBlocking.await(engine.createKey(keyName, detail));
     }
 
     /**
@@ -340,7 +341,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api-docs/secret/transit#update-key-configuration">update key configuration</a>
      */
     public void updateKeyConfiguration(String keyName, KeyConfigRequestDetail detail) {
-        engine.updateKeyConfiguration(keyName, detail).await().indefinitely();
+        VaultBlocking.await(engine.updateKeyConfiguration(keyName, detail));
     }
 
     /**
@@ -350,7 +351,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api-docs/secret/transit#delete-key">delete key</a>
      */
     public void deleteKey(String keyName) {
-        engine.deleteKey(keyName).await().indefinitely();
+        VaultBlocking.await(engine.deleteKey(keyName));
     }
 
     /**
@@ -364,7 +365,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api-docs/secret/transit#export-key">export key</a>
      */
     public VaultTransitKeyExportDetail exportKey(String keyName, VaultTransitExportKeyType keyType, String keyVersion) {
-        return engine.exportKey(keyName, keyType, keyVersion).await().indefinitely();
+        return VaultBlocking.await(engine.exportKey(keyName, keyType, keyVersion));
     }
 
     /**
@@ -375,7 +376,7 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api-docs/secret/transit#read-key">read key</a>
      */
     public Optional<VaultTransitKeyDetail<?>> readKey(String keyName) {
-        return engine.readKey(keyName).await().indefinitely();
+        return VaultBlocking.await(engine.readKey(keyName));
     }
 
     /**
@@ -385,6 +386,6 @@ public class VaultTransitSecretEngine {
      * @see <a href="https://www.vaultproject.io/api-docs/secret/transit#list-keys">list keys</a>
      */
     public List<String> listKeys() {
-        return engine.listKeys().await().indefinitely();
+        return VaultBlocking.await(engine.listKeys());
     }
 }
@@ -0,0 +1,38 @@
+package io.quarkus.vault.pki;
+
+import io.quarkus.vault.VaultPKISecretReactiveEngine;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Pool of certificates issued ahead of time from a role and a {@link GenerateCertificateOptions} template.
+ * <p>
+ * Every certificate is handed out once. The pool refills itself in the background, and falls back to generating
+ * a certificate on the spot when it is empty.
+ *
+ * @see VaultPKISecretReactiveEngine#createCertificatePool(String, GenerateCertificateOptions, CertificatePoolOptions)
+ */
+public interface CertificatePool {
+
+    /**
+     * Takes a certificate from the pool, or generates one if none is available.
+     *
+     * @return Generated certificate and private key.
+     */
+    Uni<GeneratedCertificate> take();
+
+    /**
+     * Number of certificates currently ready in the pool.
+     */
+    int available();
+
+    /**
+     * Pool hits, misses and refill statistics.
+     */
+    CertificatePoolStatistics getStatistics();
+
+    /**
+     * Stops refilling the pool and drops the pooled certificates.
+     */
+    void close();
+
+}
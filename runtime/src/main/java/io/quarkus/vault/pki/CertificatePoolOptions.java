@@ -0,0 +1,40 @@
+package io.quarkus.vault.pki;
+
+import java.time.Duration;
+
+/**
+ * Options for a pool of pre-issued certificates.
+ */
+public class CertificatePoolOptions {
+
+    /**
+     * Number of ready to use certificates the pool keeps. Defaults to 10.
+     */
+    public int size = 10;
+
+    /**
+     * Maximum number of certificates generated concurrently to refill the pool. Defaults to 2.
+     */
+    public int maxConcurrentRefills = 2;
+
+    /**
+     * Pooled certificates expiring within this duration are discarded instead of being handed out.
+     * Defaults to 5 minutes.
+     */
+    public Duration minRemainingValidity = Duration.ofMinutes(5);
+
+    public CertificatePoolOptions setSize(int size) {
+        this.size = size;
+        return this;
+    }
+
+    public CertificatePoolOptions setMaxConcurrentRefills(int maxConcurrentRefills) {
+        this.maxConcurrentRefills = maxConcurrentRefills;
+        return this;
+    }
+
+    public CertificatePoolOptions setMinRemainingValidity(Duration minRemainingValidity) {
+        this.minRemainingValidity = minRemainingValidity;
+        return this;
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkus.vault.pki;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the statistics of a {@link CertificatePool}.
+ */
+public class CertificatePoolStatistics {
+
+    /**
+     * Certificates served from the pool.
+     */
+    public final long hits;
+
+    /**
+     * Certificates generated on the spot because the pool was empty.
+     */
+    public final long misses;
+
+    /**
+     * Pooled certificates discarded because they were too close to their expiration.
+     */
+    public final long discarded;
+
+    /**
+     * Certificates generated in the background to refill the pool.
+     */
+    public final long refills;
+
+    /**
+     * Background generations that failed.
+     */
+    public final long refillFailures;
+
+    /**
+     * Average duration of successful background generations.
+     */
+    public final Duration averageRefillLatency;
+
+    /**
+     * Longest duration of successful background generations.
+     */
+    public final Duration maxRefillLatency;
+
+    public CertificatePoolStatistics(long hits, long misses, long discarded, long refills, long refillFailures,
+            Duration averageRefillLatency, Duration maxRefillLatency) {
+        this.hits = hits;
+        this.misses = misses;
+        this.discarded = discarded;
+        this.refills = refills;
+        this.refillFailures = refillFailures;
+        this.averageRefillLatency = averageRefillLatency;
+        this.maxRefillLatency = maxRefillLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "CertificatePoolStatistics{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", discarded=" + discarded +
+                ", refills=" + refills +
+                ", refillFailures=" + refillFailures +
+                ", averageRefillLatency=" + averageRefillLatency +
+                ", maxRefillLatency=" + maxRefillLatency +
+                '}';
+    }
+}
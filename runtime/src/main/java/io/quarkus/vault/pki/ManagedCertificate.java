@@ -0,0 +1,68 @@
+package io.quarkus.vault.pki;
+
+import javax.net.ssl.X509ExtendedKeyManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.net.KeyCertOptions;
+import io.vertx.core.net.TrustOptions;
+
+/**
+ * Certificate issued from a PKI secret engine, and renewed automatically before it expires.
+ * <p>
+ * The key and trust managers always serve the latest certificate, so TLS servers and clients configured with them
+ * pick up renewed certificates on their next handshakes, without being restarted and without dropping established
+ * connections. The previous certificate stays available to handshakes that were started before the renewal.
+ *
+ * @see ManagedCertificates
+ */
+public interface ManagedCertificate {
+
+    /**
+     * Name of the certificate in the configuration.
+     */
+    String getName();
+
+    /**
+     * Current certificate, or {@code null} if it has not been issued yet.
+     */
+    GeneratedCertificate getCertificate();
+
+    /**
+     * Returns the current certificate, issuing it first if needed.
+     */
+    Uni<GeneratedCertificate> ready();
+
+    /**
+     * Issues a new certificate immediately, and reschedules the next renewal.
+     *
+     * @return The new certificate.
+     */
+    Uni<GeneratedCertificate> renew();
+
+    /**
+     * Key manager serving the current certificate and its private key.
+     */
+    X509ExtendedKeyManager getKeyManager();
+
+    /**
+     * Trust manager trusting the CA chain of the current and previous certificates.
+     */
+    X509ExtendedTrustManager getTrustManager();
+
+    /**
+     * {@link #getKeyManager()} as Vert.x key options, e.g. for {@code HttpServerOptions} or {@code WebClientOptions}.
+     */
+    default KeyCertOptions getKeyCertOptions() {
+        return KeyCertOptions.wrap(getKeyManager());
+    }
+
+    /**
+     * {@link #getTrustManager()} as Vert.x trust options, e.g. for {@code HttpServerOptions} or
+     * {@code WebClientOptions}.
+     */
+    default TrustOptions getTrustOptions() {
+        return TrustOptions.wrap(getTrustManager());
+    }
+
+}
@@ -0,0 +1,17 @@
+package io.quarkus.vault.pki;
+
+/**
+ * Certificates configured with {@code quarkus.vault.pki.certificate.<certificate-name>.*}.
+ */
+public interface ManagedCertificates {
+
+    /**
+     * Returns a configured certificate.
+     *
+     * @param name Name of the certificate in the configuration.
+     * @return The managed certificate.
+     * @throws io.quarkus.vault.VaultException if no certificate is configured with this name.
+     */
+    ManagedCertificate get(String name);
+
+}
@@ -0,0 +1,67 @@
+package io.quarkus.vault.pki;
+
+import java.math.BigInteger;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+
+import io.quarkus.vault.VaultPKISecretReactiveEngine;
+
+/**
+ * Local index of the certificates revoked by an engine's CA, built from its CRL.
+ * <p>
+ * Lookups are answered from memory in constant time and, for {@link BigInteger} and {@link X509Certificate}
+ * arguments, without allocating; which makes the index suitable for use on a TLS handshake path. The index
+ * refreshes itself in the background once the CRL's {@code nextUpdate} has passed, or when the CRL is rotated
+ * or a certificate is revoked through the same engine.
+ *
+ * @see VaultPKISecretReactiveEngine#getRevocationIndex()
+ */
+public interface RevocationIndex {
+
+    /**
+     * Checks if a certificate serial number is revoked.
+     *
+     * @param serialNumber Serial number of certificate.
+     * @return true if the serial number appears in the last loaded CRL.
+     */
+    boolean isRevoked(BigInteger serialNumber);
+
+    /**
+     * Checks if a certificate is revoked.
+     *
+     * @param certificate Certificate to check.
+     * @return true if the certificate serial number appears in the last loaded CRL.
+     */
+    default boolean isRevoked(X509Certificate certificate) {
+        return isRevoked(certificate.getSerialNumber());
+    }
+
+    /**
+     * Checks if a certificate serial number is revoked.
+     * <p>
+     * The serial number is expected in the colon separated hexadecimal format returned by Vault
+     * (e.g. {@code 39:dd:2e:90}). Unlike the other lookups, this one needs to parse its argument.
+     *
+     * @param serialNumber Serial number of certificate.
+     * @return true if the serial number appears in the last loaded CRL.
+     */
+    default boolean isRevoked(String serialNumber) {
+        return isRevoked(new BigInteger(serialNumber.replace(":", "").replace("-", ""), 16));
+    }
+
+    /**
+     * Number of revoked serial numbers in the index.
+     */
+    int size();
+
+    /**
+     * {@code thisUpdate} of the CRL the index was built from, or null if no CRL has been loaded yet.
+     */
+    Instant getThisUpdate();
+
+    /**
+     * {@code nextUpdate} of the CRL the index was built from, or null if the CRL did not specify one.
+     */
+    Instant getNextUpdate();
+
+}
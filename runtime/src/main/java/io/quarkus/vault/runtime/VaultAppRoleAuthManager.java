@@ -32,6 +32,16 @@ public class VaultAppRoleAuthManager implements VaultAppRoleAuthReactiveService
     @Inject
     private VaultInternalAppRoleAuthMethod vaultInternalAppRoleAuthMethod;
 
+    VaultAppRoleAuthManager() {
+    }
+
+    VaultAppRoleAuthManager(VaultClient vaultClient, VaultAuthManager vaultAuthManager,
+            VaultInternalAppRoleAuthMethod vaultInternalAppRoleAuthMethod) {
+        this.vaultClient = vaultClient;
+        this.vaultAuthManager = vaultAuthManager;
+        this.vaultInternalAppRoleAuthMethod = vaultInternalAppRoleAuthMethod;
+    }
+
     @Override
     public Uni<List<String>> getAppRoles() {
         return vaultAuthManager.getClientToken(vaultClient).flatMap(token -> {
@@ -1,19 +1,17 @@
 package io.quarkus.vault.runtime;
 
 import static io.quarkus.vault.runtime.LogConfidentialityLevel.LOW;
+import static io.quarkus.vault.runtime.VaultToken.BATCH_TOKEN_TYPE;
 import static io.quarkus.vault.runtime.config.VaultAuthenticationType.APPROLE;
 import static io.quarkus.vault.runtime.config.VaultAuthenticationType.KUBERNETES;
 import static io.quarkus.vault.runtime.config.VaultAuthenticationType.USERPASS;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
 
 import org.jboss.logging.Logger;
@@ -36,7 +34,10 @@ import io.quarkus.vault.runtime.client.dto.auth.VaultTokenCreate;
 import io.quarkus.vault.runtime.client.dto.kv.VaultKvSecretJsonV1;
 import io.quarkus.vault.runtime.client.dto.kv.VaultKvSecretJsonV2;
 import io.quarkus.vault.runtime.config.VaultAuthenticationType;
+import io.quarkus.vault.runtime.config.VaultKubernetesAuthenticationConfig;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.runtime.jfr.VaultAuthEvent;
+import io.quarkus.vault.runtime.jfr.VaultEvent;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -50,6 +51,8 @@ public class VaultAuthManager {
     public static final String USERPASS_WRAPPING_TOKEN_PASSWORD_KEY = "password";
 
     private AtomicReference<VaultToken> loginCache = new AtomicReference<>(null);
+    private AtomicReference<VaultKubernetesJwt> kubernetesJwt = new AtomicReference<>(null);
+    private volatile VaultClient loginClient;
     private Cache<String, Uni<String>> unwrappingCache = Caffeine.newBuilder().expireAfterWrite(Duration.ofHours(1)).build();
     private VaultConfigHolder vaultConfigHolder;
     private VaultInternalSystemBackend vaultInternalSystemBackend;
@@ -58,7 +61,7 @@ public class VaultAuthManager {
     private VaultInternalUserpassAuthMethod vaultInternalUserpassAuthMethod;
     private VaultInternalTokenAuthMethod vaultInternalTokenAuthMethod;
 
-    VaultAuthManager(
+    public VaultAuthManager(
             VaultConfigHolder vaultConfigHolder,
             VaultInternalSystemBackend vaultInternalSystemBackend,
             VaultInternalAppRoleAuthMethod vaultInternalAppRoleAuthMethod,
@@ -78,6 +81,10 @@ public class VaultAuthManager {
     }
 
     public Uni<String> getClientToken(VaultClient vaultClient) {
+        if (getConfig().authentication().agentAutoAuth()) {
+            // the vault agent injects its auto-auth token in requests that have none
+            return Uni.createFrom().nullItem();
+        }
         return getConfig().authentication().isDirectClientToken() ? getDirectClientToken(vaultClient)
                 : login(vaultClient).map(vaultToken -> vaultToken.clientToken);
     }
@@ -94,7 +101,16 @@ public class VaultAuthManager {
                 VaultTokenCreate.class);
     }
 
+    @PreDestroy
+    void close() {
+        VaultKubernetesJwt jwt = kubernetesJwt.getAndSet(null);
+        if (jwt != null) {
+            jwt.close();
+        }
+    }
+
     private Uni<VaultToken> login(VaultClient vaultClient) {
+        loginClient = vaultClient;
         return login(vaultClient, loginCache.get())
                 .map(vaultToken -> {
                     loginCache.set(vaultToken);
@@ -108,26 +124,36 @@ public class VaultAuthManager {
                 .flatMap(vaultToken -> validate(vaultClient, vaultToken))
                 // extend clientToken if necessary
                 .flatMap(vaultToken -> {
-                    if (vaultToken.isPresent() && vaultToken.get().shouldExtend(getConfig().renewGracePeriod())) {
+                    if (vaultToken.isPresent() && !vaultToken.get().batch
+                            && vaultToken.get().shouldExtend(getConfig().renewGracePeriod())) {
                         return extend(vaultClient, vaultToken.get().clientToken).map(Optional::of);
                     }
                     return Uni.createFrom().item(vaultToken);
                 })
                 // create new clientToken if necessary
                 .flatMap(vaultToken -> {
-                    if (vaultToken.isEmpty() || vaultToken.get().isExpired()
-                            || vaultToken.get().expiresSoon(getConfig().renewGracePeriod())) {
+                    if (vaultToken.isEmpty() || vaultToken.get().isExpired() || shouldRelogin(vaultToken.get())) {
                         return vaultLogin(vaultClient);
                     }
                     return Uni.createFrom().item(vaultToken.get());
                 });
     }
 
+    private boolean shouldRelogin(VaultToken vaultToken) {
+        return vaultToken.batch ? vaultToken.shouldRelogin(getConfig().renewGracePeriod())
+                : vaultToken.expiresSoon(getConfig().renewGracePeriod());
+    }
+
     private Uni<Optional<VaultToken>> validate(VaultClient vaultClient, Optional<VaultToken> vaultToken) {
         if (vaultToken.isEmpty()) {
             return Uni.createFrom().item(Optional.empty());
         }
-        return vaultInternalTokenAuthMethod.lookupSelf(vaultClient, vaultToken.get().clientToken)
+        if (vaultToken.get().batch) {
+            // batch tokens are not persisted, there is nothing to look up
+            return Uni.createFrom().item(vaultToken);
+        }
+        return vaultClient.traced("vault token validate", VaultEvent.record(() -> authEvent("validate"),
+                vaultInternalTokenAuthMethod.lookupSelf(vaultClient, vaultToken.get().clientToken), null))
                 .map(i -> vaultToken)
                 .onFailure(VaultClientException.class).recoverWithUni(e -> {
                     if (((VaultClientException) e).getStatus() == 403) { // forbidden
@@ -140,25 +166,38 @@ public class VaultAuthManager {
     }
 
     private Uni<VaultToken> extend(VaultClient vaultClient, String clientToken) {
-        return vaultInternalTokenAuthMethod.renewSelf(vaultClient, clientToken, null)
-                .map(renew -> {
-                    VaultToken vaultToken = new VaultToken(renew.auth.clientToken, renew.auth.renewable,
-                            renew.auth.leaseDurationSecs);
-                    sanityCheck(vaultToken);
-                    log.debug("extended login token: " + vaultToken.getConfidentialInfo(getConfig().logConfidentialityLevel()));
-                    return vaultToken;
-                });
+        return vaultClient.traced("vault token renew", VaultEvent.record(() -> authEvent("renew"),
+                vaultInternalTokenAuthMethod.renewSelf(vaultClient, clientToken, null)
+                        .map(renew -> {
+                            VaultToken vaultToken = new VaultToken(renew.auth.clientToken, renew.auth.renewable,
+                                    renew.auth.leaseDurationSecs);
+                            sanityCheck(vaultToken);
+                            log.debug("extended login token: "
+                                    + vaultToken.getConfidentialInfo(getConfig().logConfidentialityLevel()));
+                            return vaultToken;
+                        }),
+                VaultAuthManager::leaseDuration));
     }
 
     private Uni<VaultToken> vaultLogin(VaultClient vaultClient) {
-        return login(vaultClient, getConfig().getAuthenticationType())
-                .map(vaultToken -> {
-                    sanityCheck(vaultToken);
-                    log.debug(
-                            "created new login token: "
-                                    + vaultToken.getConfidentialInfo(getConfig().logConfidentialityLevel()));
-                    return vaultToken;
-                });
+        return vaultClient.traced("vault login",
+                VaultEvent.record(() -> authEvent("login"), login(vaultClient, getConfig().getAuthenticationType())
+                        .map(vaultToken -> {
+                            sanityCheck(vaultToken);
+                            log.debug(
+                                    "created new login token: "
+                                            + vaultToken.getConfidentialInfo(getConfig().logConfidentialityLevel()));
+                            return vaultToken;
+                        }), VaultAuthManager::leaseDuration));
+    }
+
+    private VaultAuthEvent authEvent(String action) {
+        VaultAuthenticationType type = getConfig().getAuthenticationType();
+        return new VaultAuthEvent(action, type == null ? null : type.name().toLowerCase());
+    }
+
+    private static void leaseDuration(VaultAuthEvent event, VaultToken vaultToken) {
+        event.leaseDuration = vaultToken.leaseDurationSecs;
     }
 
     private Uni<VaultToken> login(VaultClient vaultClient, VaultAuthenticationType type) {
@@ -179,7 +218,8 @@ public class VaultAuthManager {
             throw new UnsupportedOperationException("unknown authType " + getConfig().getAuthenticationType());
         }
 
-        return authRequest.map(auth -> new VaultToken(auth.clientToken, auth.renewable, auth.leaseDurationSecs));
+        return authRequest.map(auth -> new VaultToken(auth.clientToken, auth.renewable, auth.leaseDurationSecs,
+                BATCH_TOKEN_TYPE.equals(auth.tokenType)));
     }
 
     private Uni<String> getSecretId(VaultClient vaultClient) {
@@ -215,7 +255,7 @@ public class VaultAuthManager {
     private <T> Uni<String> unwrapWrappingTokenOnce(VaultClient vaultClient, String type, String wrappingToken,
             Function<T, String> f, Class<T> clazz) {
         return unwrappingCache.get(wrappingToken, (token) -> {
-            return vaultInternalSystemBackend.unwrap(vaultClient, token, clazz)
+            return vaultClient.traced("vault unwrap", vaultInternalSystemBackend.unwrap(vaultClient, token, clazz))
                     .map(unwrap -> {
                         String wrappedValue = f.apply(unwrap);
 
@@ -241,22 +281,53 @@ public class VaultAuthManager {
     }
 
     private Uni<VaultKubernetesAuthAuth> loginKubernetes(VaultClient vaultClient) {
-        String jwt = new String(read(getConfig().authentication().kubernetes().jwtTokenPath()), StandardCharsets.UTF_8);
-        log.debug("authenticate with jwt at: " + getConfig().authentication().kubernetes().jwtTokenPath() + " => "
+        VaultKubernetesAuthenticationConfig kubernetes = getConfig().authentication().kubernetes();
+        VaultKubernetesJwt kubernetesJwt = getKubernetesJwt(kubernetes);
+        return kubernetesJwt.get().flatMap(jwt -> loginKubernetes(vaultClient, kubernetes, jwt)
+                // the token may have been rotated on disk since the last check
+                .onFailure(VaultClientException.class).recoverWithUni(e -> kubernetesJwt.reload()
+                        .onFailure().transform(ignored -> e)
+                        .flatMap(reloaded -> reloaded.equals(jwt) ? Uni.createFrom().failure(e)
+                                : loginKubernetes(vaultClient, kubernetes, reloaded))));
+    }
+
+    private Uni<VaultKubernetesAuthAuth> loginKubernetes(VaultClient vaultClient,
+            VaultKubernetesAuthenticationConfig kubernetes, String jwt) {
+        log.debug("authenticate with jwt at: " + kubernetes.jwtTokenPath() + " => "
                 + getConfig().logConfidentialityLevel().maskWithTolerance(jwt, LOW));
-        String role = getConfig().authentication().kubernetes().role().get();
+        String role = kubernetes.role().get();
         return vaultInternalKubernetesAuthMethod.login(vaultClient, role, jwt).map(r -> r.auth);
     }
 
-    private byte[] read(String path) {
-        try {
-            return Files.readAllBytes(Paths.get(path));
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    private VaultKubernetesJwt getKubernetesJwt(VaultKubernetesAuthenticationConfig kubernetes) {
+        VaultKubernetesJwt jwt = kubernetesJwt.get();
+        if (jwt != null) {
+            return jwt;
+        }
+        jwt = new VaultKubernetesJwt(kubernetes.jwtTokenPath(), kubernetes.jwtTokenCheckInterval(),
+                this::loginAfterJwtRotation);
+        return kubernetesJwt.compareAndSet(null, jwt) ? jwt : kubernetesJwt.get();
+    }
+
+    /**
+     * Logs in again with the new token, rather than keeping a Vault token obtained with a service account token
+     * that is about to expire.
+     */
+    private void loginAfterJwtRotation() {
+        VaultClient vaultClient = loginClient;
+        if (vaultClient == null || loginCache.get() == null) {
+            return;
         }
+        vaultLogin(vaultClient).subscribe().with(
+                loginCache::set,
+                e -> log.warn("unable to login after the rotation of the kubernetes jwt, keeping the current token: " + e));
     }
 
     private void sanityCheck(VaultToken vaultToken) {
+        if (vaultToken.batch) {
+            // logged in again ahead of expiry, whatever the grace period
+            return;
+        }
         vaultToken.leaseDurationSanityCheck("auth", getConfig().renewGracePeriod());
     }
 
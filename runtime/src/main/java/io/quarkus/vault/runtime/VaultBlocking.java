@@ -0,0 +1,128 @@
+package io.quarkus.vault.runtime;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.LockSupport;
+
+import io.smallrye.mutiny.Context;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.ContextSupport;
+import io.smallrye.mutiny.subscription.UniSubscriber;
+import io.smallrye.mutiny.subscription.UniSubscription;
+
+/**
+ * Waits for the result of the reactive engines on behalf of the blocking facades.
+ * <p>
+ * On a virtual thread the caller parks itself, and the thread completing the request (usually the Vert.x event
+ * loop) unparks it directly, so the carrier thread is released while the request is in flight. Other threads
+ * use Mutiny's blocking await, which also refuses to block an event loop.
+ * <p>
+ * Both subscribe with a Mutiny {@link Context}, so that state such as the tracing context is shared by the successive
+ * requests of a call (e.g. a token renewal and the request that needs the token).
+ */
+public final class VaultBlocking {
+
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+
+    private VaultBlocking() {
+    }
+
+    public static <T> T await(Uni<T> uni) {
+        if (!isVirtualThread()) {
+            return uni.awaitUsing(Context.empty()).indefinitely();
+        }
+        ParkingSubscriber<T> subscriber = new ParkingSubscriber<>(Thread.currentThread());
+        uni.subscribe().withSubscriber(subscriber);
+        return subscriber.await();
+    }
+
+    /**
+     * Whether the current thread is a virtual thread, always {@code false} before Java 21.
+     */
+    public static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle isVirtualHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static class ParkingSubscriber<T> implements UniSubscriber<T>, ContextSupport {
+
+        private final Thread waiter;
+        private final Context context = Context.empty();
+        private volatile UniSubscription subscription;
+        private volatile boolean done;
+        private T item;
+        private Throwable failure;
+
+        ParkingSubscriber(Thread waiter) {
+            this.waiter = waiter;
+        }
+
+        @Override
+        public Context context() {
+            return context;
+        }
+
+        @Override
+        public void onSubscribe(UniSubscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onItem(T item) {
+            this.item = item;
+            complete();
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            this.failure = failure;
+            complete();
+        }
+
+        private void complete() {
+            // item and failure are published by the volatile write
+            done = true;
+            LockSupport.unpark(waiter);
+        }
+
+        T await() {
+            while (!done) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    // the interrupt is kept for the caller, also when the result arrived in the meantime
+                    Thread.currentThread().interrupt();
+                    if (!done) {
+                        UniSubscription subscription = this.subscription;
+                        if (subscription != null) {
+                            subscription.cancel();
+                        }
+                        throw new CompletionException(new InterruptedException());
+                    }
+                }
+            }
+            if (failure == null) {
+                return item;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            throw new CompletionException(failure);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.quarkus.vault.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.vault.runtime.client.VertxVaultClient;
+import io.quarkus.vault.runtime.config.VaultPrewarmConfig;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Opens the connections of the Vault client on startup, and optionally keeps them open.
+ */
+@Singleton
+public class VaultClientPrewarmer {
+
+    private static final Logger log = Logger.getLogger(VaultClientPrewarmer.class.getName());
+
+    private final VaultConfigHolder vaultConfigHolder;
+    private final Instance<VertxVaultClient> vaultClient;
+    private volatile ScheduledFuture<?> keepAlive;
+
+    public VaultClientPrewarmer(VaultConfigHolder vaultConfigHolder, Instance<VertxVaultClient> vaultClient) {
+        this.vaultConfigHolder = vaultConfigHolder;
+        this.vaultClient = vaultClient;
+    }
+
+    void prewarmOnStartup(@Observes StartupEvent event) {
+        // no configuration when vault is not enabled
+        VaultRuntimeConfig vaultRuntimeConfig = vaultConfigHolder.getVaultRuntimeConfig();
+        if (vaultRuntimeConfig == null || vaultRuntimeConfig.url().isEmpty() || !vaultRuntimeConfig.prewarm().enabled()) {
+            return;
+        }
+        VaultPrewarmConfig prewarm = vaultRuntimeConfig.prewarm();
+        VertxVaultClient client = vaultClient.get();
+        long start = System.nanoTime();
+        try {
+            int opened = client.prewarm(prewarm.connections()).await().atMost(prewarm.timeout());
+            log.info("pre-warmed " + opened + " vault connections in "
+                    + Duration.ofNanos(System.nanoTime() - start).toMillis() + "ms");
+        } catch (RuntimeException e) {
+            log.warn("unable to pre-warm vault connections within " + prewarm.timeout() + ": " + e);
+        }
+        prewarm.keepAliveInterval().ifPresent(interval -> keepAlive = Infrastructure.getDefaultWorkerPool()
+                .scheduleAtFixedRate(() -> keepAlive(client, prewarm.connections()), interval.toMillis(),
+                        interval.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    private void keepAlive(VertxVaultClient client, int connections) {
+        client.prewarm(connections).subscribe().with(
+                opened -> log.debug("kept " + opened + " vault connections alive"),
+                e -> log.debug("unable to keep vault connections alive: " + e));
+    }
+
+    @PreDestroy
+    void close() {
+        ScheduledFuture<?> keepAlive = this.keepAlive;
+        if (keepAlive != null) {
+            keepAlive.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkus.vault.runtime;
+
+import static io.quarkus.credentials.CredentialsProvider.EXPIRATION_TIMESTAMP_PROPERTY_NAME;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Credentials of the KV-backed credentials providers, per provider name.
+ * <p>
+ * A value is served from the cache for its cache period, and carries an expiration timestamp at the end of it.
+ * Past half of the period, the first caller triggers a refresh in the background and still gets the cached value,
+ * so that busy pools never wait for Vault, while an idle provider is not read again until it is asked for
+ * credentials. Concurrent callers on a miss share the same read.
+ */
+public class VaultCredentialsCache {
+
+    private static final Logger log = Logger.getLogger(VaultCredentialsCache.class.getName());
+
+    private final Supplier<Instant> clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Uni<Entry>> loading = new ConcurrentHashMap<>();
+
+    public VaultCredentialsCache() {
+        this(Instant::now);
+    }
+
+    public VaultCredentialsCache(Supplier<Instant> clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Credentials of provider {@code name}, read with {@code read} when missing, expired or due for a refresh.
+     */
+    public Uni<Map<String, String>> get(String name, Duration period, Supplier<Uni<Map<String, String>>> read) {
+        if (period.isZero() || period.isNegative()) {
+            return read.get();
+        }
+        return Uni.createFrom().deferred(() -> {
+            Instant now = clock.get();
+            Entry entry = entries.get(name);
+            if (entry == null || !now.isBefore(entry.expires)) {
+                return load(name, period, read).map(Entry::properties);
+            }
+            if (!now.isBefore(entry.refresh)) {
+                load(name, period, read).subscribe().with(
+                        refreshed -> log.debug("refreshed credentials of provider " + name),
+                        e -> log.warn("unable to refresh credentials of provider " + name + ", keeping them until "
+                                + entry.expires, e));
+            }
+            return Uni.createFrom().item(entry.properties());
+        });
+    }
+
+    private Uni<Entry> load(String name, Duration period, Supplier<Uni<Map<String, String>>> read) {
+        Uni<Entry> existing = loading.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        AtomicReference<Uni<Entry>> self = new AtomicReference<>();
+        Uni<Entry> shared = Uni.createFrom().deferred(read::get)
+                .map(properties -> {
+                    Instant fetched = clock.get();
+                    Entry entry = new Entry(properties, fetched.plus(period.dividedBy(2)), fetched.plus(period));
+                    entries.put(name, entry);
+                    return entry;
+                })
+                .onTermination().invoke(() -> loading.remove(name, self.get()))
+                .memoize().indefinitely();
+        self.set(shared);
+        existing = loading.putIfAbsent(name, shared);
+        return existing != null ? existing : shared;
+    }
+
+    private static final class Entry {
+
+        final Map<String, String> properties;
+        final Instant refresh;
+        final Instant expires;
+
+        Entry(Map<String, String> properties, Instant refresh, Instant expires) {
+            this.properties = new HashMap<>(properties);
+            this.properties.put(EXPIRATION_TIMESTAMP_PROPERTY_NAME, expires.toString());
+            this.refresh = refresh;
+            this.expires = expires;
+        }
+
+        // callers are free to modify the map they get
+        Map<String, String> properties() {
+            return new HashMap<>(properties);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.quarkus.vault.runtime;
+
+import static io.quarkus.vault.runtime.config.VaultPrewarmFailure.FAIL;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.vault.VaultException;
+import io.quarkus.vault.runtime.config.CredentialsProviderConfig;
+import io.quarkus.vault.runtime.config.VaultPrewarmConfig;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Resolves all the configured credentials providers concurrently on startup, so that dynamic credentials and
+ * KV-backed credentials are already cached when the pools open their first connections.
+ * <p>
+ * Startup only waits for the providers that fail it when they cannot be resolved. The others are resolved in the
+ * background, and the readiness check reports down until all of them are.
+ */
+@Singleton
+public class VaultCredentialsPrewarmer {
+
+    private static final Logger log = Logger.getLogger(VaultCredentialsPrewarmer.class.getName());
+
+    private final VaultConfigHolder vaultConfigHolder;
+    private final VaultCredentialsProvider vaultCredentialsProvider;
+    private volatile boolean ready;
+
+    public VaultCredentialsPrewarmer(VaultConfigHolder vaultConfigHolder,
+            VaultCredentialsProvider vaultCredentialsProvider) {
+        this.vaultConfigHolder = vaultConfigHolder;
+        this.vaultCredentialsProvider = vaultCredentialsProvider;
+        this.ready = !isEnabled(vaultConfigHolder.getVaultRuntimeConfig());
+    }
+
+    /**
+     * Whether the credentials providers have been resolved, or do not need to be.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    void prewarmOnStartup(@Observes StartupEvent event) {
+        prewarm();
+    }
+
+    /**
+     * Starts resolving the credentials providers, and waits for the ones with a {@code fail} policy.
+     *
+     * @throws VaultException if one of them cannot be resolved
+     */
+    public void prewarm() {
+        VaultRuntimeConfig vaultRuntimeConfig = vaultConfigHolder.getVaultRuntimeConfig();
+        if (!isEnabled(vaultRuntimeConfig)) {
+            return;
+        }
+        VaultPrewarmConfig prewarm = vaultRuntimeConfig.prewarm();
+        Map<String, CredentialsProviderConfig> providers = vaultRuntimeConfig.credentialsProvider();
+        if (providers.isEmpty()) {
+            ready = true;
+            return;
+        }
+        long start = System.nanoTime();
+        List<Uni<Result>> results = new ArrayList<>();
+        List<Uni<Result>> required = new ArrayList<>();
+        providers.forEach((name, config) -> {
+            // shared by the background resolution and the startup wait
+            Uni<Result> result = resolve(name, prewarm.credentialsProvidersTimeout()).memoize().indefinitely();
+            results.add(result);
+            if (config.prewarmFailure() == FAIL) {
+                required.add(result);
+            }
+        });
+
+        Uni.join().all(results).andFailFast().subscribe().with(all -> {
+            long failed = all.stream().filter(result -> result.failure != null).count();
+            for (Result result : all) {
+                if (result.failure != null && providers.get(result.name).prewarmFailure() != FAIL) {
+                    log.warn("unable to resolve credentials provider " + result.name
+                            + ", it will be resolved on first use: " + result.failure);
+                }
+            }
+            log.info("pre-warmed " + (all.size() - failed) + " of " + all.size() + " credentials providers in "
+                    + Duration.ofNanos(System.nanoTime() - start).toMillis() + "ms");
+            ready = true;
+        });
+
+        if (required.isEmpty()) {
+            return;
+        }
+        List<String> fatal = new ArrayList<>();
+        for (Result result : VaultBlocking.await(Uni.join().all(required).andFailFast())) {
+            if (result.failure != null) {
+                log.error("unable to resolve credentials provider " + result.name + ": " + result.failure);
+                fatal.add(result.name);
+            }
+        }
+        if (!fatal.isEmpty()) {
+            throw new VaultException("unable to resolve credentials providers " + fatal + " on startup");
+        }
+    }
+
+    private Uni<Result> resolve(String name, Duration timeout) {
+        return vaultCredentialsProvider.getCredentialsAsync(name)
+                .ifNoItem().after(timeout).fail()
+                .map(ignored -> new Result(name, null))
+                .onFailure().recoverWithItem(e -> new Result(name, e));
+    }
+
+    private static boolean isEnabled(VaultRuntimeConfig vaultRuntimeConfig) {
+        // no configuration when vault is not enabled
+        return vaultRuntimeConfig != null && vaultRuntimeConfig.url().isPresent() && vaultRuntimeConfig.prewarm() != null
+                && vaultRuntimeConfig.prewarm().credentialsProviders();
+    }
+
+    private static class Result {
+
+        final String name;
+        final Throwable failure;
+
+        Result(String name, Throwable failure) {
+            this.name = name;
+            this.failure = failure;
+        }
+    }
+}
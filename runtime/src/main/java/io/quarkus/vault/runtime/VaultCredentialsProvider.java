@@ -12,24 +12,40 @@ import jakarta.inject.Named;
 
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.vault.VaultException;
-import io.quarkus.vault.VaultKVSecretEngine;
+import io.quarkus.vault.VaultKVSecretReactiveEngine;
 import io.quarkus.vault.runtime.config.CredentialsProviderConfig;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 @Named("vault-credentials-provider")
 public class VaultCredentialsProvider implements CredentialsProvider {
 
     @Inject
-    VaultKVSecretEngine vaultKVSecretEngine;
+    VaultKVSecretReactiveEngine vaultKVSecretEngine;
     @Inject
     VaultDynamicCredentialsManager vaultDynamicCredentialsManager;
     @Inject
     VaultConfigHolder vaultConfigHolder;
+    @Inject
+    VaultSnapshot vaultSnapshot;
+
+    private final VaultCredentialsCache kvCache = new VaultCredentialsCache();
 
-    @SuppressWarnings("deprecation")
     @Override
     public Map<String, String> getCredentials(String credentialsProviderName) {
+        return VaultBlocking.await(getCredentialsAsync(credentialsProviderName));
+    }
+
+    /**
+     * Non-blocking variant of {@link #getCredentials(String)}, for reactive clients.
+     */
+    public Uni<Map<String, String>> getCredentialsAsync(String credentialsProviderName) {
+        return Uni.createFrom().deferred(() -> credentials(credentialsProviderName));
+    }
+
+    @SuppressWarnings("deprecation")
+    private Uni<Map<String, String>> credentials(String credentialsProviderName) {
 
         VaultRuntimeConfig vaultConfig = getConfig();
         if (vaultConfig == null) {
@@ -45,21 +61,27 @@ public class VaultCredentialsProvider implements CredentialsProvider {
 
         if (config.databaseCredentialsRole().isPresent()) {
             return vaultDynamicCredentialsManager.getDynamicCredentials(DATABASE_DEFAULT_MOUNT, DEFAULT_REQUEST_PATH,
-                    config.databaseCredentialsRole().get()).await().indefinitely();
+                    config.databaseCredentialsRole().get(), config.credentialsRotationOverlap());
         }
 
         if (config.credentialsRole().isPresent()) {
-            return vaultDynamicCredentialsManager
-                    .getDynamicCredentials(config.credentialsMount(), config.credentialsRequestPath(),
-                            config.credentialsRole().get())
-                    .await().indefinitely();
+            return vaultDynamicCredentialsManager.getDynamicCredentials(config.credentialsMount(),
+                    config.credentialsRequestPath(), config.credentialsRole().get(), config.credentialsRotationOverlap());
         }
 
         if (config.kvPath().isPresent()) {
-            String password = vaultKVSecretEngine.readSecret(config.kvPath().get()).get(config.kvKey());
-            Map<String, String> result = new HashMap<>();
-            result.put(PASSWORD_PROPERTY_NAME, password);
-            return result;
+            String snapshotKey = "credentials-provider." + credentialsProviderName;
+            return kvCache.get(credentialsProviderName, config.kvCachePeriod(),
+                    () -> vaultKVSecretEngine.readSecret(config.kvPath().get())
+                            .map(secret -> {
+                                Map<String, String> result = new HashMap<>();
+                                result.put(PASSWORD_PROPERTY_NAME, secret.get(config.kvKey()));
+                                vaultSnapshot.put(snapshotKey, result);
+                                return result;
+                            })
+                            // vault unreachable, last known credentials if any
+                            .onFailure(VaultIOException.class).recoverWithUni(e -> vaultSnapshot.get(snapshotKey)
+                                    .onItem().ifNull().failWith(e)));
         }
 
         throw new VaultException(
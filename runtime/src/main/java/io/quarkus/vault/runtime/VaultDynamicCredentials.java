@@ -7,6 +7,10 @@ public class VaultDynamicCredentials extends LeaseBase {
 
     public String username;
     public String password;
+    /**
+     * Lease duration when the credentials were created, before renewals shorten it towards the max ttl.
+     */
+    public long ttlSecs;
 
     public VaultDynamicCredentials(LeaseBase lease, String username, String password) {
         super(lease);
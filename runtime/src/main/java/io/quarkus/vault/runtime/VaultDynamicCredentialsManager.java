@@ -4,10 +4,14 @@ import static io.quarkus.credentials.CredentialsProvider.EXPIRATION_TIMESTAMP_PR
 import static io.quarkus.credentials.CredentialsProvider.PASSWORD_PROPERTY_NAME;
 import static io.quarkus.credentials.CredentialsProvider.USER_PROPERTY_NAME;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.inject.Singleton;
 
@@ -18,14 +22,30 @@ import io.quarkus.vault.runtime.client.VaultClientException;
 import io.quarkus.vault.runtime.client.backend.VaultInternalSystemBackend;
 import io.quarkus.vault.runtime.client.secretengine.VaultInternalDynamicCredentialsSecretEngine;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.runtime.jfr.VaultEvent;
+import io.quarkus.vault.runtime.jfr.VaultLeaseEvent;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @Singleton
 public class VaultDynamicCredentialsManager {
 
     private static final Logger log = Logger.getLogger(VaultDynamicCredentialsManager.class.getName());
 
+    /**
+     * User of the previous generation of credentials, while it drains after a rotation.
+     */
+    public static final String PREVIOUS_USER_PROPERTY_NAME = "previous-user";
+
+    /**
+     * Instant at which the previous generation of credentials stops being valid, while it drains after a rotation.
+     */
+    public static final String PREVIOUS_EXPIRATION_TIMESTAMP_PROPERTY_NAME = "previous-expiration-timestamp";
+
     private ConcurrentHashMap<String, VaultDynamicCredentials> credentialsCache = new ConcurrentHashMap<>();
+    private ConcurrentHashMap<String, Draining> drainingCredentials = new ConcurrentHashMap<>();
+    // one refresh at a time per cache key, so that concurrent callers do not rotate the credentials twice
+    private ConcurrentHashMap<String, Uni<VaultDynamicCredentials>> refreshes = new ConcurrentHashMap<>();
     private VaultClient vaultClient;
     private VaultAuthManager vaultAuthManager;
     private VaultConfigHolder vaultConfigHolder;
@@ -64,47 +84,91 @@ public class VaultDynamicCredentialsManager {
     }
 
     public Uni<Map<String, String>> getDynamicCredentials(String mount, String requestPath, String role) {
-        return vaultAuthManager.getClientToken(vaultClient).flatMap(token -> {
-            VaultDynamicCredentials currentCredentials = getCachedCredentials(mount, requestPath, role);
-            return getCredentials(currentCredentials, token, mount, requestPath, role)
-                    .map(credentials -> {
-                        putCachedCredentials(mount, requestPath, role, credentials);
-                        Map<String, String> properties = new HashMap<>();
-                        properties.put(USER_PROPERTY_NAME, credentials.username);
-                        properties.put(PASSWORD_PROPERTY_NAME, credentials.password);
-                        properties.put(EXPIRATION_TIMESTAMP_PROPERTY_NAME, credentials.getExpireInstant().toString());
-                        return properties;
-                    });
+        return getDynamicCredentials(mount, requestPath, role, Optional.empty());
+    }
+
+    /**
+     * Dynamic credentials, rotated {@code rotationOverlap} ahead of their expiration if present. The previous
+     * generation is then revoked at the end of the overlap, and reported until then with
+     * {@link #PREVIOUS_USER_PROPERTY_NAME} and {@link #PREVIOUS_EXPIRATION_TIMESTAMP_PROPERTY_NAME}.
+     * <p>
+     * The overlap is capped to half of the lease duration, and to the lease duration minus the renew grace period.
+     * Concurrent calls for the same credentials share a single refresh.
+     */
+    public Uni<Map<String, String>> getDynamicCredentials(String mount, String requestPath, String role,
+            Optional<Duration> rotationOverlap) {
+        Duration overlap = rotationOverlap.orElse(Duration.ZERO);
+        String key = getCredentialsCacheKey(mount, requestPath, role);
+        return Uni.createFrom().deferred(() -> refreshes.computeIfAbsent(key, ignored -> {
+            AtomicReference<Uni<VaultDynamicCredentials>> self = new AtomicReference<>();
+            Uni<VaultDynamicCredentials> refresh = vaultAuthManager.getClientToken(vaultClient).flatMap(token -> {
+                VaultDynamicCredentials currentCredentials = getCachedCredentials(mount, requestPath, role);
+                return getCredentials(currentCredentials, token, mount, requestPath, role, overlap)
+                        .invoke(credentials -> {
+                            putCachedCredentials(mount, requestPath, role, credentials);
+                            if (!overlap.isZero() && currentCredentials != null && !currentCredentials.isExpired()
+                                    && !currentCredentials.leaseId.equals(credentials.leaseId)) {
+                                drain(currentCredentials, mount, requestPath, role, overlap);
+                            }
+                        });
+            })
+                    .onTermination().invoke(() -> refreshes.remove(key, self.get()))
+                    .memoize().indefinitely();
+            self.set(refresh);
+            return refresh;
+        })).map(credentials -> {
+            Map<String, String> properties = new HashMap<>();
+            properties.put(USER_PROPERTY_NAME, credentials.username);
+            properties.put(PASSWORD_PROPERTY_NAME, credentials.password);
+            properties.put(EXPIRATION_TIMESTAMP_PROPERTY_NAME, credentials.getExpireInstant().toString());
+            Draining draining = drainingCredentials.get(key);
+            if (draining != null) {
+                properties.put(PREVIOUS_USER_PROPERTY_NAME, draining.credentials.username);
+                properties.put(PREVIOUS_EXPIRATION_TIMESTAMP_PROPERTY_NAME, draining.until.toString());
+            }
+            return properties;
         });
     }
 
     public Uni<VaultDynamicCredentials> getCredentials(VaultDynamicCredentials currentCredentials,
             String clientToken, String mount, String requestPath, String role) {
+        return getCredentials(currentCredentials, clientToken, mount, requestPath, role, Duration.ZERO);
+    }
+
+    /**
+     * @param rotationOverlap how long before the renew grace period new credentials are created
+     */
+    public Uni<VaultDynamicCredentials> getCredentials(VaultDynamicCredentials currentCredentials,
+            String clientToken, String mount, String requestPath, String role, Duration rotationOverlap) {
         return Uni.createFrom().item(Optional.ofNullable(currentCredentials))
                 // check lease is still valid
-                .flatMap(credentials -> validate(credentials, clientToken))
+                .flatMap(credentials -> validate(credentials, clientToken, mount, requestPath, role))
                 // extend lease if necessary
                 .flatMap(credentials -> {
                     if (credentials.isPresent() && credentials.get().shouldExtend(getConfig().renewGracePeriod())) {
-                        return extend(credentials.get(), clientToken, mount, requestPath, role).map(Optional::of);
+                        return extend(credentials.get(), clientToken, mount, requestPath, role, rotationOverlap)
+                                .map(Optional::of);
                     }
                     return Uni.createFrom().item(credentials);
                 })
                 // create lease if necessary
                 .flatMap(credentials -> {
                     if (credentials.isEmpty() || credentials.get().isExpired()
-                            || credentials.get().expiresSoon(getConfig().renewGracePeriod())) {
-                        return create(clientToken, mount, requestPath, role);
+                            || credentials.get().expiresSoon(rotationPeriod(credentials.get(), rotationOverlap))) {
+                        return create(clientToken, mount, requestPath, role, rotationOverlap);
                     }
                     return Uni.createFrom().item(credentials.get());
                 });
     }
 
-    private Uni<Optional<VaultDynamicCredentials>> validate(Optional<VaultDynamicCredentials> credentials, String clientToken) {
+    private Uni<Optional<VaultDynamicCredentials>> validate(Optional<VaultDynamicCredentials> credentials, String clientToken,
+            String mount, String requestPath, String role) {
         if (credentials.isEmpty()) {
             return Uni.createFrom().item(Optional.empty());
         }
-        return vaultInternalSystemBackend.lookupLease(vaultClient, clientToken, credentials.get().leaseId)
+        return vaultClient
+                .traced("vault lease validate", VaultEvent.record(() -> leaseEvent("validate", mount, requestPath, role),
+                        vaultInternalSystemBackend.lookupLease(vaultClient, clientToken, credentials.get().leaseId), null))
                 .map(ignored -> credentials)
                 .onFailure(VaultClientException.class).recoverWithUni(e -> {
                     if (((VaultClientException) e).getStatus() == 400) { // bad request
@@ -117,39 +181,119 @@ public class VaultDynamicCredentialsManager {
     }
 
     private Uni<VaultDynamicCredentials> extend(VaultDynamicCredentials currentCredentials, String clientToken,
-            String mount, String requestPath, String role) {
-        return vaultInternalSystemBackend.renewLease(vaultClient, clientToken, currentCredentials.leaseId)
-                .map(vaultRenewLease -> {
-                    LeaseBase lease = new LeaseBase(vaultRenewLease.leaseId,
-                            vaultRenewLease.renewable,
-                            vaultRenewLease.leaseDurationSecs);
-                    VaultDynamicCredentials credentials = new VaultDynamicCredentials(lease, currentCredentials.username,
-                            currentCredentials.password);
-                    sanityCheck(credentials, mount, requestPath, role);
-                    log.debug("extended " + role + "(" + getCredentialsPath(mount, requestPath) + ") credentials:"
-                            + credentials.getConfidentialInfo(getConfig().logConfidentialityLevel()));
-                    return credentials;
-                });
+            String mount, String requestPath, String role, Duration rotationOverlap) {
+        return vaultClient.traced("vault lease renew",
+                VaultEvent.record(() -> leaseEvent("renew", mount, requestPath, role), vaultInternalSystemBackend
+                        .renewLease(vaultClient, clientToken, currentCredentials.leaseId)
+                        .map(vaultRenewLease -> {
+                            LeaseBase lease = new LeaseBase(vaultRenewLease.leaseId,
+                                    vaultRenewLease.renewable,
+                                    vaultRenewLease.leaseDurationSecs);
+                            VaultDynamicCredentials credentials = new VaultDynamicCredentials(lease,
+                                    currentCredentials.username,
+                                    currentCredentials.password);
+                            credentials.ttlSecs = currentCredentials.ttlSecs;
+                            sanityCheck(credentials, mount, requestPath, role, rotationPeriod(credentials, rotationOverlap));
+                            log.debug("extended " + role + "(" + getCredentialsPath(mount, requestPath) + ") credentials:"
+                                    + credentials.getConfidentialInfo(getConfig().logConfidentialityLevel()));
+                            return credentials;
+                        }), VaultDynamicCredentialsManager::leaseDuration));
     }
 
-    private Uni<VaultDynamicCredentials> create(String clientToken, String mount, String requestPath, String role) {
-        return vaultInternalDynamicCredentialsSecretEngine
-                .generateCredentials(vaultClient, clientToken, mount, requestPath, role)
-                .map(vaultDynamicCredentials -> {
-                    LeaseBase lease = new LeaseBase(vaultDynamicCredentials.leaseId, vaultDynamicCredentials.renewable,
-                            vaultDynamicCredentials.leaseDurationSecs);
-                    VaultDynamicCredentials credentials = new VaultDynamicCredentials(lease,
-                            vaultDynamicCredentials.data.username,
-                            vaultDynamicCredentials.data.password);
-                    log.debug("generated " + role + "(" + getCredentialsPath(mount, requestPath) + ") credentials:"
-                            + credentials.getConfidentialInfo(getConfig().logConfidentialityLevel()));
-                    sanityCheck(credentials, mount, requestPath, role);
-                    return credentials;
-                });
+    private Uni<VaultDynamicCredentials> create(String clientToken, String mount, String requestPath, String role,
+            Duration rotationOverlap) {
+        return vaultClient.traced("vault lease create", VaultEvent.record(() -> leaseEvent("create", mount, requestPath, role),
+                vaultInternalDynamicCredentialsSecretEngine
+                        .generateCredentials(vaultClient, clientToken, mount, requestPath, role)
+                        .map(vaultDynamicCredentials -> {
+                            LeaseBase lease = new LeaseBase(vaultDynamicCredentials.leaseId, vaultDynamicCredentials.renewable,
+                                    vaultDynamicCredentials.leaseDurationSecs);
+                            VaultDynamicCredentials credentials = new VaultDynamicCredentials(lease,
+                                    vaultDynamicCredentials.data.username,
+                                    vaultDynamicCredentials.data.password);
+                            credentials.ttlSecs = lease.leaseDurationSecs;
+                            log.debug("generated " + role + "(" + getCredentialsPath(mount, requestPath) + ") credentials:"
+                                    + credentials.getConfidentialInfo(getConfig().logConfidentialityLevel()));
+                            Duration overlap = overlap(credentials, rotationOverlap);
+                            if (overlap.compareTo(rotationOverlap) < 0) {
+                                log.warn("rotation overlap " + rotationOverlap + " of " + role + " ("
+                                        + getCredentialsPath(mount, requestPath) + ") is capped to " + overlap
+                                        + " by the lease duration " + credentials.ttlSecs + "s");
+                            }
+                            sanityCheck(credentials, mount, requestPath, role, rotationPeriod(credentials, rotationOverlap));
+                            return credentials;
+                        }),
+                VaultDynamicCredentialsManager::leaseDuration));
     }
 
-    private void sanityCheck(VaultDynamicCredentials credentials, String mount, String requestPath, String role) {
-        credentials.leaseDurationSanityCheck(role + " (" + getCredentialsPath(mount, requestPath) + ")",
-                getConfig().renewGracePeriod());
+    /**
+     * The overlap, capped to half of the lease duration, and to the lease duration minus the renew grace period, so
+     * that new credentials are not rotated right away.
+     */
+    private Duration overlap(VaultDynamicCredentials credentials, Duration rotationOverlap) {
+        Duration ttl = Duration.ofSeconds(credentials.ttlSecs);
+        Duration cap = ttl.dividedBy(2);
+        Duration available = ttl.minus(getConfig().renewGracePeriod());
+        if (available.compareTo(cap) < 0) {
+            cap = available.isNegative() ? Duration.ZERO : available;
+        }
+        return rotationOverlap.compareTo(cap) > 0 ? cap : rotationOverlap;
+    }
+
+    private Duration rotationPeriod(VaultDynamicCredentials credentials, Duration rotationOverlap) {
+        return getConfig().renewGracePeriod().plus(overlap(credentials, rotationOverlap));
+    }
+
+    private void drain(VaultDynamicCredentials previous, String mount, String requestPath, String role,
+            Duration rotationOverlap) {
+        String key = getCredentialsCacheKey(mount, requestPath, role);
+        Instant end = Instant.now().plus(overlap(previous, rotationOverlap));
+        boolean revoke = end.isBefore(previous.getExpireInstant());
+        Draining draining = new Draining(previous, revoke ? end : previous.getExpireInstant());
+        drainingCredentials.put(key, draining);
+        log.debug("draining " + role + "(" + getCredentialsPath(mount, requestPath) + ") credentials until "
+                + draining.until);
+        Infrastructure.getDefaultWorkerPool().schedule(() -> {
+            drainingCredentials.remove(key, draining);
+            if (revoke) {
+                revoke(previous, mount, requestPath, role);
+            }
+        }, Duration.between(Instant.now(), draining.until).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void revoke(VaultDynamicCredentials credentials, String mount, String requestPath, String role) {
+        vaultAuthManager.getClientToken(vaultClient)
+                .flatMap(token -> vaultClient.traced("vault lease revoke",
+                        VaultEvent.record(() -> leaseEvent("revoke", mount, requestPath, role),
+                                vaultInternalSystemBackend.revokeLease(vaultClient, token, credentials.leaseId), null)))
+                .subscribe().with(
+                        ignored -> log.debug("revoked " + role + "(" + getCredentialsPath(mount, requestPath)
+                                + ") credentials:" + credentials.getConfidentialInfo(getConfig().logConfidentialityLevel())),
+                        e -> log.warn("unable to revoke " + role + "(" + getCredentialsPath(mount, requestPath)
+                                + ") credentials, they will expire on " + credentials.getExpiredDate() + ": " + e));
+    }
+
+    private VaultLeaseEvent leaseEvent(String action, String mount, String requestPath, String role) {
+        return new VaultLeaseEvent(action, getCredentialsPath(mount, requestPath), role);
+    }
+
+    private static void leaseDuration(VaultLeaseEvent event, VaultDynamicCredentials credentials) {
+        event.leaseDuration = credentials.leaseDurationSecs;
+    }
+
+    private void sanityCheck(VaultDynamicCredentials credentials, String mount, String requestPath, String role,
+            Duration rotationPeriod) {
+        credentials.leaseDurationSanityCheck(role + " (" + getCredentialsPath(mount, requestPath) + ")", rotationPeriod);
+    }
+
+    private static class Draining {
+
+        final VaultDynamicCredentials credentials;
+        final Instant until;
+
+        Draining(VaultDynamicCredentials credentials, Instant until) {
+            this.credentials = credentials;
+            this.until = until;
+        }
     }
 }
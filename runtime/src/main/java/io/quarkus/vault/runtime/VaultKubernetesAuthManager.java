@@ -26,6 +26,16 @@ public class VaultKubernetesAuthManager implements VaultKubernetesAuthReactiveSe
     @Inject
     private VaultInternalKubernetesAuthMethod vaultInternalKubernetesAuthMethod;
 
+    VaultKubernetesAuthManager() {
+    }
+
+    VaultKubernetesAuthManager(VaultClient vaultClient, VaultAuthManager vaultAuthManager,
+            VaultInternalKubernetesAuthMethod vaultInternalKubernetesAuthMethod) {
+        this.vaultClient = vaultClient;
+        this.vaultAuthManager = vaultAuthManager;
+        this.vaultInternalKubernetesAuthMethod = vaultInternalKubernetesAuthMethod;
+    }
+
     @Override
     public Uni<Void> configure(VaultKubernetesAuthConfig config) {
         return vaultAuthManager.getClientToken(vaultClient).flatMap(token -> {
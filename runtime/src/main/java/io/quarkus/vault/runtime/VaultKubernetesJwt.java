@@ -0,0 +1,130 @@
+package io.quarkus.vault.runtime;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Kubernetes service account token read from {@code jwt-token-path}, kept in memory.
+ * <p>
+ * The file is only ever read on a worker thread, never on the thread logging in, which may be an event loop.
+ * Projected service account tokens are rotated on disk by the kubelet, so the modification time and inode of the
+ * file are checked in the background, and the token is read again when they change. Without a check interval, the
+ * file is checked on each {@link #get()} instead.
+ */
+public class VaultKubernetesJwt {
+
+    private static final Logger log = Logger.getLogger(VaultKubernetesJwt.class.getName());
+
+    private final Path path;
+    private final Duration checkInterval;
+    private final Runnable onRotation;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean checking = new AtomicBoolean();
+    private volatile ScheduledFuture<?> checker;
+
+    /**
+     * @param onRotation called on a worker thread when the background check finds that the token changed on disk
+     */
+    public VaultKubernetesJwt(String path, Duration checkInterval, Runnable onRotation) {
+        this.path = Paths.get(path);
+        this.checkInterval = checkInterval;
+        this.onRotation = onRotation;
+    }
+
+    public Uni<String> get() {
+        Snapshot current = snapshot.get();
+        if (current != null && isChecking()) {
+            return Uni.createFrom().item(current.jwt);
+        }
+        return reload();
+    }
+
+    /**
+     * Checks the file now, without waiting for the next check. The rotation callback is not called, the caller is
+     * expected to log in with the returned token.
+     */
+    public Uni<String> reload() {
+        return Uni.createFrom().item(() -> load(false).jwt).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    public void close() {
+        ScheduledFuture<?> checker = this.checker;
+        if (checker != null) {
+            checker.cancel(false);
+        }
+    }
+
+    private Snapshot load(boolean notify) {
+        Snapshot current = snapshot.get();
+        try {
+            // follows the symbolic links the kubelet swaps when it rotates the token
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (current != null && current.isSameFile(attributes)) {
+                return current;
+            }
+            Snapshot loaded = new Snapshot(new String(Files.readAllBytes(path), StandardCharsets.UTF_8), attributes);
+            snapshot.set(loaded);
+            startChecking();
+            if (current != null && !current.jwt.equals(loaded.jwt)) {
+                log.debug("kubernetes jwt at " + path + " has been rotated");
+                if (notify) {
+                    onRotation.run();
+                }
+            }
+            return loaded;
+        } catch (IOException e) {
+            throw new VaultIOException("unable to read kubernetes jwt at " + path, e);
+        }
+    }
+
+    private boolean isChecking() {
+        return !checkInterval.isZero() && !checkInterval.isNegative();
+    }
+
+    private void startChecking() {
+        if (!isChecking() || !checking.compareAndSet(false, true)) {
+            return;
+        }
+        long interval = checkInterval.toMillis();
+        checker = Infrastructure.getDefaultWorkerPool().scheduleWithFixedDelay(() -> {
+            try {
+                load(true);
+            } catch (RuntimeException e) {
+                log.warn("unable to check kubernetes jwt, keeping the current one: " + e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private static final class Snapshot {
+
+        final String jwt;
+        final FileTime lastModified;
+        final Object fileKey;
+
+        Snapshot(String jwt, BasicFileAttributes attributes) {
+            this.jwt = jwt;
+            this.lastModified = attributes.lastModifiedTime();
+            this.fileKey = attributes.fileKey();
+        }
+
+        boolean isSameFile(BasicFileAttributes attributes) {
+            return lastModified.equals(attributes.lastModifiedTime()) && Objects.equals(fileKey, attributes.fileKey());
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package io.quarkus.vault.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vault.runtime.client.VaultClient;
+import io.quarkus.vault.runtime.client.VaultClientException;
+import io.quarkus.vault.runtime.client.dto.kv.VaultKvSecretV2Metadata;
+import io.quarkus.vault.runtime.client.dto.kv.VaultKvSecretV2MetadataResultData;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalKvV2SecretEngine;
+import io.quarkus.vault.runtime.config.VaultKvWatchConfig;
+import io.quarkus.vault.secrets.kv.SecretChange;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.MultiEmitter;
+
+/**
+ * Polls the metadata of a set of kv v2 secrets, and emits the secrets whose current version changed.
+ * <p>
+ * A poll reads the metadata of all the paths, a few requests at a time, and only reads the data of the paths whose
+ * version changed. Paths ending with {@code /} are prefixes, listed recursively on every poll. The first poll only
+ * records the versions. The interval doubles after every poll without changes or that failed, up to the max interval,
+ * and goes back to the min interval after a change. It is randomized by the jitter, so that the pods of a deployment spread
+ * their
+ * polls.
+ */
+public class VaultKvChangePoller {
+
+    private static final Logger log = Logger.getLogger(VaultKvChangePoller.class.getName());
+
+    private final List<String> paths;
+    private final VaultClient vaultClient;
+    private final Supplier<Uni<String>> clientToken;
+    private final VaultInternalKvV2SecretEngine vaultInternalKvV2SecretEngine;
+    private final String mount;
+    private final VaultKvWatchConfig config;
+    private final MultiEmitter<? super SecretChange> emitter;
+    // version of each path, negative when the current version is deleted, null until the first poll
+    private Map<String, Integer> versions;
+    private Duration interval;
+    private volatile boolean stopped;
+    private volatile ScheduledFuture<?> next;
+
+    private VaultKvChangePoller(List<String> paths, VaultClient vaultClient, Supplier<Uni<String>> clientToken,
+            VaultInternalKvV2SecretEngine vaultInternalKvV2SecretEngine, String mount, VaultKvWatchConfig config,
+            MultiEmitter<? super SecretChange> emitter) {
+        this.paths = paths;
+        this.vaultClient = vaultClient;
+        this.clientToken = clientToken;
+        this.vaultInternalKvV2SecretEngine = vaultInternalKvV2SecretEngine;
+        this.mount = mount;
+        this.config = config;
+        this.emitter = emitter;
+        this.interval = config.minInterval();
+    }
+
+    /**
+     * Changes of {@code paths}, polled from the first subscription until the cancellation.
+     */
+    public static Multi<SecretChange> create(List<String> paths, VaultClient vaultClient, Supplier<Uni<String>> clientToken,
+            VaultInternalKvV2SecretEngine vaultInternalKvV2SecretEngine, String mount, VaultKvWatchConfig config) {
+        return Multi.createFrom().emitter(emitter -> {
+            VaultKvChangePoller poller = new VaultKvChangePoller(List.copyOf(paths), vaultClient, clientToken,
+                    vaultInternalKvV2SecretEngine, mount, config, emitter);
+            emitter.onTermination(poller::stop);
+            poller.poll();
+        });
+    }
+
+    private void stop() {
+        stopped = true;
+        ScheduledFuture<?> next = this.next;
+        if (next != null) {
+            next.cancel(false);
+        }
+    }
+
+    private void poll() {
+        if (stopped) {
+            return;
+        }
+        clientToken.get()
+                .flatMap(token -> resolve(token)
+                        .flatMap(resolved -> readVersions(token, resolved))
+                        .flatMap(current -> readChanges(token, current)))
+                .subscribe().with(changes -> {
+                    changes.forEach(emitter::emit);
+                    interval = changes.isEmpty() ? backOff() : config.minInterval();
+                    schedule();
+                }, e -> {
+                    log.warn("unable to poll kv secrets " + paths + ": " + e);
+                    // do not keep polling an unavailable Vault at the pace of the last change
+                    interval = backOff();
+                    schedule();
+                });
+    }
+
+    private Duration backOff() {
+        return min(interval.multipliedBy(2), config.maxInterval());
+    }
+
+    private void schedule() {
+        if (stopped) {
+            return;
+        }
+        double jitter = config.jitter() * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        long delay = Math.max(0, (long) (interval.toMillis() * (1 + jitter)));
+        next = Infrastructure.getDefaultWorkerPool().schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private Uni<Set<String>> resolve(String token) {
+        return Multi.createFrom().iterable(paths)
+                .onItem().transformToUni(path -> resolve(token, path)).merge(config.concurrency())
+                .collect().in(TreeSet::new, Set::addAll);
+    }
+
+    private Uni<List<String>> resolve(String token, String path) {
+        if (!path.endsWith("/")) {
+            return Uni.createFrom().item(List.of(path));
+        }
+        return vaultInternalKvV2SecretEngine.listSecrets(vaultClient, token, mount, path)
+                .map(list -> list.data.keys)
+                .onFailure(VaultKvChangePoller::isNotFound).recoverWithItem(List.of())
+                .flatMap(keys -> Multi.createFrom().iterable(keys)
+                        .onItem().transformToUni(key -> resolve(token, path + key)).merge(config.concurrency())
+                        .collect().in(ArrayList::new, List::addAll));
+    }
+
+    private Uni<Map<String, Integer>> readVersions(String token, Set<String> resolved) {
+        return Multi.createFrom().iterable(resolved)
+                .onItem().transformToUni(path -> vaultInternalKvV2SecretEngine
+                        .getSecretMetadata(vaultClient, token, mount, path)
+                        .map(metadata -> Map.entry(path, version(metadata.data)))
+                        .onFailure(VaultKvChangePoller::isNotFound).recoverWithItem(Map.entry(path, 0)))
+                .merge(config.concurrency())
+                .collect().asMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private Uni<List<SecretChange>> readChanges(String token, Map<String, Integer> current) {
+        Map<String, Integer> previous = versions;
+        if (previous == null) {
+            versions = current;
+            return Uni.createFrom().item(List.of());
+        }
+        Set<String> changed = new TreeSet<>();
+        current.forEach((path, version) -> {
+            if (!version.equals(previous.getOrDefault(path, 0))) {
+                changed.add(path);
+            }
+        });
+        previous.forEach((path, version) -> {
+            // no longer under a prefix
+            if (version != 0 && !current.containsKey(path)) {
+                changed.add(path);
+            }
+        });
+        return Multi.createFrom().iterable(changed)
+                .onItem().transformToUni(path -> readChange(token, path, current.getOrDefault(path, 0)))
+                .merge(config.concurrency())
+                .collect().asList()
+                .invoke(changes -> {
+                    Map<String, Integer> updated = new HashMap<>(current);
+                    // the data read may be newer than the metadata
+                    changes.stream().filter(change -> !change.isDeleted())
+                            .forEach(change -> updated.put(change.getPath(), change.getVersion()));
+                    versions = updated;
+                });
+    }
+
+    private Uni<SecretChange> readChange(String token, String path, int version) {
+        if (version <= 0) {
+            return Uni.createFrom().item(new SecretChange(path, -version, null));
+        }
+        return vaultInternalKvV2SecretEngine.getSecretJson(vaultClient, token, mount, path)
+                .map(secret -> new SecretChange(path, secret.data.metadata.version, secret.data.data))
+                .onFailure(VaultKvChangePoller::isNotFound).recoverWithItem(new SecretChange(path, version, null));
+    }
+
+    private static int version(VaultKvSecretV2MetadataResultData metadata) {
+        VaultKvSecretV2Metadata current = metadata.versions == null ? null
+                : metadata.versions.get(String.valueOf(metadata.currentVersion));
+        boolean deleted = current != null && (current.destroyed || current.deletionTime != null
+                && !current.deletionTime.isEmpty() && Instant.parse(current.deletionTime).isBefore(Instant.now()));
+        return deleted ? -metadata.currentVersion : metadata.currentVersion;
+    }
+
+    private static boolean isNotFound(Throwable e) {
+        return e instanceof VaultClientException && ((VaultClientException) e).getStatus() == 404;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
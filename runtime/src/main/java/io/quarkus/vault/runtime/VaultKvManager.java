@@ -2,11 +2,15 @@ package io.quarkus.vault.runtime;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Produces;
 
+import io.quarkus.vault.VaultException;
 import io.quarkus.vault.VaultKVSecretReactiveEngine;
 import io.quarkus.vault.runtime.client.Private;
 import io.quarkus.vault.runtime.client.VaultClient;
@@ -14,6 +18,8 @@ import io.quarkus.vault.runtime.client.dto.kv.VaultKvSecretV2WriteBody;
 import io.quarkus.vault.runtime.client.secretengine.VaultInternalKvV1SecretEngine;
 import io.quarkus.vault.runtime.client.secretengine.VaultInternalKvV2SecretEngine;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.secrets.kv.SecretChange;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
@@ -38,6 +44,7 @@ public class VaultKvManager implements VaultKVSecretReactiveEngine {
     private VaultConfigHolder vaultConfigHolder;
     private VaultInternalKvV1SecretEngine vaultInternalKvV1SecretEngine;
     private VaultInternalKvV2SecretEngine vaultInternalKvV2SecretEngine;
+    private final Map<Set<String>, Multi<SecretChange>> changes = new ConcurrentHashMap<>();
 
     public VaultKvManager(VaultClient vaultClient, VaultAuthManager vaultAuthManager,
             VaultConfigHolder vaultConfigHolder,
@@ -119,6 +126,28 @@ public class VaultKvManager implements VaultKVSecretReactiveEngine {
         });
     }
 
+    @Override
+    public Multi<SecretChange> subscribeChanges(List<String> paths) {
+        if (isV1()) {
+            return Multi.createFrom().failure(new VaultException("changes subscriptions require kv secret engine version 2"));
+        }
+        // one poller per set of paths, started by the first subscriber and stopped after the last one
+        return changes.computeIfAbsent(Set.copyOf(paths), key -> {
+            AtomicReference<Multi<SecretChange>> self = new AtomicReference<>();
+            Multi<SecretChange> shared = VaultKvChangePoller.create(List.copyOf(key),
+                    vaultClient,
+                    () -> vaultAuthManager.getClientToken(vaultClient),
+                    vaultInternalKvV2SecretEngine,
+                    getConfig().kvSecretEngineMountPath(),
+                    getConfig().kvWatch())
+                    // the next subscriber starts a new poller
+                    .onTermination().invoke(() -> changes.remove(key, self.get()))
+                    .broadcast().withCancellationAfterLastSubscriberDeparture().toAtLeast(1);
+            self.set(shared);
+            return shared;
+        });
+    }
+
     private boolean isV1() {
         return getConfig().kvSecretEngineVersion() == 1;
     }
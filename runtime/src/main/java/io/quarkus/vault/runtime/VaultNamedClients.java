@@ -0,0 +1,285 @@
+package io.quarkus.vault.runtime;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.VaultAppRoleAuthReactiveService;
+import io.quarkus.vault.VaultAppRoleAuthService;
+import io.quarkus.vault.VaultClientName;
+import io.quarkus.vault.VaultException;
+import io.quarkus.vault.VaultKVSecretEngine;
+import io.quarkus.vault.VaultKVSecretReactiveEngine;
+import io.quarkus.vault.VaultKubernetesAuthReactiveService;
+import io.quarkus.vault.VaultKubernetesAuthService;
+import io.quarkus.vault.VaultPKISecretEngine;
+import io.quarkus.vault.VaultPKISecretEngineFactory;
+import io.quarkus.vault.VaultPKISecretReactiveEngine;
+import io.quarkus.vault.VaultSystemBackendEngine;
+import io.quarkus.vault.VaultSystemBackendReactiveEngine;
+import io.quarkus.vault.VaultTOTPSecretEngine;
+import io.quarkus.vault.VaultTOTPSecretReactiveEngine;
+import io.quarkus.vault.VaultTransitSecretEngine;
+import io.quarkus.vault.VaultTransitSecretReactiveEngine;
+import io.quarkus.vault.runtime.client.NamedVertxVaultClient;
+import io.quarkus.vault.runtime.client.authmethod.VaultInternalAppRoleAuthMethod;
+import io.quarkus.vault.runtime.client.authmethod.VaultInternalKubernetesAuthMethod;
+import io.quarkus.vault.runtime.client.authmethod.VaultInternalTokenAuthMethod;
+import io.quarkus.vault.runtime.client.authmethod.VaultInternalUserpassAuthMethod;
+import io.quarkus.vault.runtime.client.backend.VaultInternalSystemBackend;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalKvV1SecretEngine;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalKvV2SecretEngine;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalPKISecretEngine;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalTOTPSecretEngine;
+import io.quarkus.vault.runtime.client.secretengine.VaultInternalTransitSecretEngine;
+import io.quarkus.vault.runtime.config.VaultBuildTimeConfig;
+import io.quarkus.vault.runtime.config.VaultNamedConfigs;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.runtime.pki.VaultPKIRevocationIndexes;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Clients of the named Vault clusters and namespaces, configured under {@code quarkus.vault."name".*}, and the
+ * producers of their engines and services for injection points qualified with {@link VaultClientName}.
+ * <p>
+ * Each named client has its own connection pool, configuration and token, and is created on first use. The managed
+ * certificate configured with {@code vault-client=true} is only presented by the default client.
+ */
+@Singleton
+public class VaultNamedClients {
+
+    private static final Logger log = Logger.getLogger(VaultNamedClients.class.getName());
+
+    @Inject
+    Instance<Vertx> vertx;
+    @Inject
+    TlsConfig tlsConfig;
+    @Inject
+    VaultBuildTimeConfig buildTimeConfig;
+    @Inject
+    VaultInternalSystemBackend vaultInternalSystemBackend;
+    @Inject
+    VaultInternalAppRoleAuthMethod vaultInternalAppRoleAuthMethod;
+    @Inject
+    VaultInternalKubernetesAuthMethod vaultInternalKubernetesAuthMethod;
+    @Inject
+    VaultInternalUserpassAuthMethod vaultInternalUserpassAuthMethod;
+    @Inject
+    VaultInternalTokenAuthMethod vaultInternalTokenAuthMethod;
+    @Inject
+    VaultInternalKvV1SecretEngine vaultInternalKvV1SecretEngine;
+    @Inject
+    VaultInternalKvV2SecretEngine vaultInternalKvV2SecretEngine;
+    @Inject
+    VaultInternalTransitSecretEngine vaultInternalTransitSecretEngine;
+    @Inject
+    VaultInternalTOTPSecretEngine vaultInternalTOTPSecretEngine;
+    @Inject
+    VaultInternalPKISecretEngine vaultInternalPKISecretEngine;
+
+    private final Map<String, NamedClient> clients = new ConcurrentHashMap<>();
+
+    public NamedClient get(String name) {
+        return clients.computeIfAbsent(name, this::create);
+    }
+
+    private NamedClient create(String name) {
+        log.debug("creating vault client " + name);
+        VaultRuntimeConfig vaultRuntimeConfig = VaultNamedConfigs.load(ConfigProvider.getConfig(), name);
+        // managed certificates are only issued for the default client
+        List<String> clientCertificates = vaultRuntimeConfig.pki().certificate().entrySet().stream()
+                .filter(e -> e.getValue().vaultClient())
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+        if (!clientCertificates.isEmpty()) {
+            throw new VaultException("managed certificates " + clientCertificates + " of vault client " + name
+                    + " cannot be used for vault-client, only the default client presents a managed certificate");
+        }
+        VaultConfigHolder configHolder = new VaultConfigHolder().setVaultRuntimeConfig(vaultRuntimeConfig);
+        NamedVertxVaultClient client = new NamedVertxVaultClient(name, vaultRuntimeConfig,
+                vertx.isResolvable() ? vertx.get() : null, tlsConfig, null);
+        VaultAuthManager authManager = new VaultAuthManager(configHolder, vaultInternalSystemBackend,
+                vaultInternalAppRoleAuthMethod, vaultInternalKubernetesAuthMethod, vaultInternalUserpassAuthMethod,
+                vaultInternalTokenAuthMethod);
+        return new NamedClient(client, authManager,
+                new VaultKvManager(client, authManager, configHolder, vaultInternalKvV1SecretEngine,
+                        vaultInternalKvV2SecretEngine),
+                new VaultTransitManager(client, authManager, configHolder, vaultInternalTransitSecretEngine),
+                new VaultTOTPManager(client, authManager, vaultInternalTOTPSecretEngine),
+                new VaultSystemBackendManager(client, buildTimeConfig, authManager, vaultInternalSystemBackend),
+                new VaultAppRoleAuthManager(client, authManager, vaultInternalAppRoleAuthMethod),
+                new VaultKubernetesAuthManager(client, authManager, vaultInternalKubernetesAuthMethod),
+                new VaultPKIManagerFactory(client, authManager, vaultInternalPKISecretEngine,
+                        new VaultPKIRevocationIndexes()));
+    }
+
+    @PreDestroy
+    void close() {
+        clients.values().forEach(client -> {
+            client.authManager.close();
+            client.client.close();
+        });
+        clients.clear();
+    }
+
+    private NamedClient get(InjectionPoint injectionPoint) {
+        for (Annotation qualifier : injectionPoint.getQualifiers()) {
+            if (qualifier instanceof VaultClientName) {
+                return get(((VaultClientName) qualifier).value());
+            }
+        }
+        throw new VaultException("missing @" + VaultClientName.class.getSimpleName() + " on " + injectionPoint);
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultKVSecretReactiveEngine kvSecretReactiveEngine(InjectionPoint injectionPoint) {
+        return get(injectionPoint).kv;
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultKVSecretEngine kvSecretEngine(InjectionPoint injectionPoint) {
+        return new VaultKVSecretEngine(get(injectionPoint).kv);
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultTransitSecretReactiveEngine transitSecretReactiveEngine(InjectionPoint injectionPoint) {
+        return get(injectionPoint).transit;
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultTransitSecretEngine transitSecretEngine(InjectionPoint injectionPoint) {
+        return new VaultTransitSecretEngine(get(injectionPoint).transit);
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultTOTPSecretReactiveEngine totpSecretReactiveEngine(InjectionPoint injectionPoint) {
+        return get(injectionPoint).totp;
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultTOTPSecretEngine totpSecretEngine(InjectionPoint injectionPoint) {
+        return new VaultTOTPSecretEngine(get(injectionPoint).totp);
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultSystemBackendReactiveEngine systemBackendReactiveEngine(InjectionPoint injectionPoint) {
+        return get(injectionPoint).systemBackend;
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultSystemBackendEngine systemBackendEngine(InjectionPoint injectionPoint) {
+        return new VaultSystemBackendEngine(get(injectionPoint).systemBackend);
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultAppRoleAuthReactiveService appRoleAuthReactiveService(InjectionPoint injectionPoint) {
+        return get(injectionPoint).appRole;
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultAppRoleAuthService appRoleAuthService(InjectionPoint injectionPoint) {
+        return new VaultAppRoleAuthService(get(injectionPoint).appRole);
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultKubernetesAuthReactiveService kubernetesAuthReactiveService(InjectionPoint injectionPoint) {
+        return get(injectionPoint).kubernetes;
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultKubernetesAuthService kubernetesAuthService(InjectionPoint injectionPoint) {
+        return new VaultKubernetesAuthService(get(injectionPoint).kubernetes);
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultPKISecretEngineFactory pkiSecretEngineFactory(InjectionPoint injectionPoint) {
+        return get(injectionPoint).pki;
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultPKISecretReactiveEngine pkiSecretReactiveEngine(InjectionPoint injectionPoint) {
+        return get(injectionPoint).pki.reactiveEngine(VaultPKIManagerFactory.PKI_ENGINE_NAME);
+    }
+
+    @Produces
+    @Dependent
+    @VaultClientName("")
+    VaultPKISecretEngine pkiSecretEngine(InjectionPoint injectionPoint) {
+        return get(injectionPoint).pki.engine(VaultPKIManagerFactory.PKI_ENGINE_NAME);
+    }
+
+    public static class NamedClient {
+
+        final NamedVertxVaultClient client;
+        final VaultAuthManager authManager;
+        final VaultKvManager kv;
+        final VaultTransitManager transit;
+        final VaultTOTPManager totp;
+        final VaultSystemBackendManager systemBackend;
+        final VaultAppRoleAuthManager appRole;
+        final VaultKubernetesAuthManager kubernetes;
+        final VaultPKIManagerFactory pki;
+
+        NamedClient(NamedVertxVaultClient client, VaultAuthManager authManager, VaultKvManager kv, VaultTransitManager transit,
+                VaultTOTPManager totp,
+                VaultSystemBackendManager systemBackend, VaultAppRoleAuthManager appRole,
+                VaultKubernetesAuthManager kubernetes, VaultPKIManagerFactory pki) {
+            this.client = client;
+            this.authManager = authManager;
+            this.kv = kv;
+            this.transit = transit;
+            this.totp = totp;
+            this.systemBackend = systemBackend;
+            this.appRole = appRole;
+            this.kubernetes = kubernetes;
+            this.pki = pki;
+        }
+
+        public NamedVertxVaultClient getClient() {
+            return client;
+        }
+    }
+}
@@ -27,6 +27,8 @@ import io.quarkus.vault.pki.CertificateData.PEM;
 import io.quarkus.vault.pki.CertificateExtendedKeyUsage;
 import io.quarkus.vault.pki.CertificateKeyType;
 import io.quarkus.vault.pki.CertificateKeyUsage;
+import io.quarkus.vault.pki.CertificatePool;
+import io.quarkus.vault.pki.CertificatePoolOptions;
 import io.quarkus.vault.pki.ConfigCRLOptions;
 import io.quarkus.vault.pki.ConfigURLsOptions;
 import io.quarkus.vault.pki.DataFormat;
@@ -38,6 +40,7 @@ import io.quarkus.vault.pki.GeneratedIntermediateCSRResult;
 import io.quarkus.vault.pki.GeneratedRootCertificate;
 import io.quarkus.vault.pki.PrivateKeyData;
 import io.quarkus.vault.pki.PrivateKeyEncoding;
+import io.quarkus.vault.pki.RevocationIndex;
 import io.quarkus.vault.pki.RoleOptions;
 import io.quarkus.vault.pki.SignIntermediateCAOptions;
 import io.quarkus.vault.pki.SignedCertificate;
@@ -63,7 +66,11 @@ import io.quarkus.vault.runtime.client.dto.pki.VaultPKISignCertificateRequestDat
 import io.quarkus.vault.runtime.client.dto.pki.VaultPKISignIntermediateCABody;
 import io.quarkus.vault.runtime.client.dto.pki.VaultPKITidyBody;
 import io.quarkus.vault.runtime.client.secretengine.VaultInternalPKISecretEngine;
+import io.quarkus.vault.runtime.pki.LocalCertificateRequest;
+import io.quarkus.vault.runtime.pki.VaultPKICertificatePool;
+import io.quarkus.vault.runtime.pki.VaultPKIRevocationIndexes;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @ApplicationScoped
 public class VaultPKIManager implements VaultPKISecretReactiveEngine {
@@ -72,24 +79,28 @@ public class VaultPKIManager implements VaultPKISecretReactiveEngine {
     private final String mount;
     private final VaultAuthManager vaultAuthManager;
     private final VaultInternalPKISecretEngine vaultInternalPKISecretEngine;
+    private final VaultPKIRevocationIndexes revocationIndexes;
 
     @Inject
     public VaultPKIManager(
             VaultClient vaultClient,
             VaultAuthManager vaultAuthManager,
-            VaultInternalPKISecretEngine vaultInternalPKISecretEngine) {
-        this(vaultClient, PKI_ENGINE_NAME, vaultAuthManager, vaultInternalPKISecretEngine);
+            VaultInternalPKISecretEngine vaultInternalPKISecretEngine,
+            VaultPKIRevocationIndexes revocationIndexes) {
+        this(vaultClient, PKI_ENGINE_NAME, vaultAuthManager, vaultInternalPKISecretEngine, revocationIndexes);
     }
 
     VaultPKIManager(
             VaultClient vaultClient,
             String mount,
             VaultAuthManager vaultAuthManager,
-            VaultInternalPKISecretEngine vaultInternalPKISecretEngine) {
+            VaultInternalPKISecretEngine vaultInternalPKISecretEngine,
+            VaultPKIRevocationIndexes revocationIndexes) {
         this.vaultClient = vaultClient;
         this.mount = mount;
         this.vaultAuthManager = vaultAuthManager;
         this.vaultInternalPKISecretEngine = vaultInternalPKISecretEngine;
+        this.revocationIndexes = revocationIndexes;
     }
 
     @Override
@@ -220,11 +231,17 @@ public class VaultPKIManager implements VaultPKISecretReactiveEngine {
                     .map(internalResult -> {
                         checkDataValid(internalResult);
 
+                        revocationIndexes.invalidate(mount);
                         return internalResult.data.success;
                     });
         });
     }
 
+    @Override
+    public Uni<RevocationIndex> getRevocationIndex() {
+        return revocationIndexes.get(mount, () -> getCertificateRevocationList(DataFormat.DER)).ready();
+    }
+
     @Override
     public Uni<List<String>> getCertificates() {
         return vaultAuthManager.getClientToken(vaultClient).flatMap(token -> {
@@ -285,6 +302,35 @@ public class VaultPKIManager implements VaultPKISecretReactiveEngine {
         });
     }
 
+    @Override
+    public Uni<GeneratedCertificate> generateCertificateWithLocalKey(String role, GenerateCertificateOptions options,
+            CertificateKeyType keyType, Integer keyBits) {
+        return Uni.createFrom().deferred(() -> {
+            Uni<LocalCertificateRequest> generate = Uni.createFrom()
+                    .item(() -> LocalCertificateRequest.generate(keyType, keyBits, options));
+            // key generation is CPU intensive, keep it off the event loop, a virtual thread subscribing can do it itself
+            return VaultBlocking.isVirtualThread() ? generate
+                    : generate.runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+        })
+                .flatMap(request -> signRequest(role, request.getPemSigningRequest(), options)
+                        .map(signedCertificate -> {
+                            GeneratedCertificate result = new GeneratedCertificate();
+                            result.certificate = signedCertificate.certificate;
+                            result.issuingCA = signedCertificate.issuingCA;
+                            result.caChain = signedCertificate.caChain;
+                            result.serialNumber = signedCertificate.serialNumber;
+                            result.privateKeyType = request.getKeyType();
+                            result.privateKey = request.getPrivateKeyData(options.format, options.privateKeyEncoding);
+                            return result;
+                        }));
+    }
+
+    @Override
+    public CertificatePool createCertificatePool(String role, GenerateCertificateOptions options,
+            CertificatePoolOptions poolOptions) {
+        return new VaultPKICertificatePool(mount + "/" + role, () -> generateCertificate(role, options), poolOptions);
+    }
+
     @Override
     public Uni<SignedCertificate> signRequest(String role, String pemSigningRequest, GenerateCertificateOptions options) {
         VaultPKISignCertificateRequestBody body = new VaultPKISignCertificateRequestBody();
@@ -325,6 +371,8 @@ public class VaultPKIManager implements VaultPKISecretReactiveEngine {
                     .map(internalResult -> {
                         checkDataValid(internalResult);
 
+                        // vault rebuilds the CRL on revocation
+                        revocationIndexes.invalidate(mount);
                         return internalResult.data.revocationTime;
                     });
         });
@@ -8,6 +8,7 @@ import io.quarkus.vault.VaultPKISecretEngineFactory;
 import io.quarkus.vault.VaultPKISecretReactiveEngine;
 import io.quarkus.vault.runtime.client.VaultClient;
 import io.quarkus.vault.runtime.client.secretengine.VaultInternalPKISecretEngine;
+import io.quarkus.vault.runtime.pki.VaultPKIRevocationIndexes;
 
 @ApplicationScoped
 public class VaultPKIManagerFactory implements VaultPKISecretEngineFactory {
@@ -20,6 +21,19 @@ public class VaultPKIManagerFactory implements VaultPKISecretEngineFactory {
     private VaultAuthManager vaultAuthManager;
     @Inject
     private VaultInternalPKISecretEngine vaultInternalPKISecretEngine;
+    @Inject
+    private VaultPKIRevocationIndexes revocationIndexes;
+
+    VaultPKIManagerFactory() {
+    }
+
+    VaultPKIManagerFactory(VaultClient vaultClient, VaultAuthManager vaultAuthManager,
+            VaultInternalPKISecretEngine vaultInternalPKISecretEngine, VaultPKIRevocationIndexes revocationIndexes) {
+        this.vaultClient = vaultClient;
+        this.vaultAuthManager = vaultAuthManager;
+        this.vaultInternalPKISecretEngine = vaultInternalPKISecretEngine;
+        this.revocationIndexes = revocationIndexes;
+    }
 
     @Override
     public VaultPKISecretEngine engine(String mount) {
@@ -28,6 +42,6 @@ public class VaultPKIManagerFactory implements VaultPKISecretEngineFactory {
 
     @Override
     public VaultPKISecretReactiveEngine reactiveEngine(String mount) {
-        return new VaultPKIManager(vaultClient, mount, vaultAuthManager, vaultInternalPKISecretEngine);
+        return new VaultPKIManager(vaultClient, mount, vaultAuthManager, vaultInternalPKISecretEngine, revocationIndexes);
     }
 }
@@ -0,0 +1,345 @@
+package io.quarkus.vault.runtime;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.vault.VaultException;
+import io.quarkus.vault.VaultTransitSecretReactiveEngine;
+import io.quarkus.vault.runtime.client.Private;
+import io.quarkus.vault.runtime.client.VaultClientException;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.runtime.config.VaultSnapshotConfig;
+import io.quarkus.vault.transit.ClearData;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Encrypted local copy of values read from Vault, which outlives the application.
+ * <p>
+ * The file holds the key of the snapshot encrypted with a transit key, followed by the values encrypted with AES-GCM.
+ * It is opened once, by decrypting its key with Vault transit, and is created with a new key when it does not exist,
+ * when Vault rejects its key as an invalid ciphertext, or when its values fail the GCM authentication. Any other
+ * failure, such as Vault being unreachable or denying access, fails the opening and leaves the file as is. Values are written
+ * back on a worker thread, to a temporary file that atomically
+ * replaces the snapshot, so a crash never leaves a partial snapshot behind.
+ */
+@Singleton
+public class VaultSnapshot {
+
+    private static final Logger log = Logger.getLogger(VaultSnapshot.class.getName());
+
+    private static final byte[] MAGIC = "QVS1".getBytes(US_ASCII);
+    private static final int KEY_LENGTH = 32;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final TypeReference<Map<String, Entry>> ENTRIES = new TypeReference<>() {
+    };
+
+    private final VaultConfigHolder vaultConfigHolder;
+    private final VaultTransitSecretReactiveEngine transit;
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicReference<Uni<Store>> store = new AtomicReference<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
+    public VaultSnapshot(VaultConfigHolder vaultConfigHolder, @Private VaultTransitSecretReactiveEngine transit) {
+        this.vaultConfigHolder = vaultConfigHolder;
+        this.transit = transit;
+    }
+
+    public boolean isEnabled() {
+        VaultRuntimeConfig config = vaultConfigHolder.getVaultRuntimeConfig();
+        return config != null && config.url().isPresent() && config.snapshot() != null && config.snapshot().enabled();
+    }
+
+    /**
+     * Values stored under {@code key}, or {@code null} if there are none or they are older than the max staleness.
+     */
+    public Uni<Map<String, String>> get(String key) {
+        if (!isEnabled()) {
+            return Uni.createFrom().nullItem();
+        }
+        return store().map(store -> {
+            Entry entry = store.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            Duration age = Duration.between(Instant.ofEpochMilli(entry.created), Instant.now());
+            if (age.compareTo(getConfig().maxStaleness()) > 0) {
+                log.debug("ignoring " + key + " from the vault snapshot, stale for " + age);
+                return null;
+            }
+            return new HashMap<>(entry.values);
+        });
+    }
+
+    /**
+     * Stores {@code values} under {@code key}, and writes the snapshot in the background.
+     */
+    public void put(String key, Map<String, String> values) {
+        if (!isEnabled()) {
+            return;
+        }
+        Entry entry = new Entry(Instant.now().toEpochMilli(), new HashMap<>(values));
+        store().subscribe().with(store -> {
+            store.entries.put(key, entry);
+            scheduleWrite(store);
+        }, e -> log.warn("unable to open the vault snapshot, " + key + " is not saved: " + e));
+    }
+
+    @PreDestroy
+    void close() {
+        Uni<Store> current = store.get();
+        if (current != null && writeScheduled.get()) {
+            // best effort to save the latest values, without waiting for Vault if the snapshot is not open yet
+            current.subscribe().with(this::write, e -> {
+            });
+        }
+    }
+
+    private VaultSnapshotConfig getConfig() {
+        return vaultConfigHolder.getVaultRuntimeConfig().snapshot();
+    }
+
+    private Path getPath() {
+        return Paths.get(getConfig().path()
+                .orElseThrow(() -> new VaultException("quarkus.vault.snapshot.path is required")));
+    }
+
+    private String getTransitKey() {
+        return getConfig().transitKey()
+                .orElseThrow(() -> new VaultException("quarkus.vault.snapshot.transit-key is required"));
+    }
+
+    private Uni<Store> store() {
+        Uni<Store> current = store.get();
+        if (current != null) {
+            return current;
+        }
+        AtomicReference<Uni<Store>> self = new AtomicReference<>();
+        Uni<Store> opening = Uni.createFrom().item(this::read)
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .flatMap(stored -> stored == null ? create() : open(stored))
+                // not reachable, try again next time
+                .onFailure().invoke(e -> store.compareAndSet(self.get(), null))
+                .memoize().indefinitely();
+        self.set(opening);
+        return store.compareAndSet(null, opening) ? opening : store.get();
+    }
+
+    private Uni<Store> create() {
+        byte[] key = new byte[KEY_LENGTH];
+        random.nextBytes(key);
+        return transit.encrypt(getTransitKey(), new ClearData(key), null)
+                .map(wrappedKey -> {
+                    log.debug("created vault snapshot " + getPath());
+                    return new Store(wrappedKey, new SecretKeySpec(key, "AES"), new ConcurrentHashMap<>());
+                });
+    }
+
+    private Uni<Store> open(Stored stored) {
+        return transit.decrypt(getTransitKey(), stored.wrappedKey, null)
+                .map(key -> {
+                    SecretKey secretKey = new SecretKeySpec(key.getValue(), "AES");
+                    try {
+                        Cipher cipher = cipher(Cipher.DECRYPT_MODE, secretKey, stored.iv, stored.wrappedKey);
+                        Map<String, Entry> entries = mapper.readValue(cipher.doFinal(stored.ciphertext), ENTRIES);
+                        log.debug("opened vault snapshot " + getPath() + " with " + entries.size() + " entries");
+                        return new Store(stored.wrappedKey, secretKey, new ConcurrentHashMap<>(entries));
+                    } catch (GeneralSecurityException | IOException e) {
+                        throw new VaultException("unable to decrypt vault snapshot " + getPath(), e);
+                    }
+                })
+                .onFailure(VaultSnapshot::isCorrupted).recoverWithUni(e -> {
+                    log.warn("unable to open vault snapshot " + getPath() + ", starting a new one: " + e);
+                    return create();
+                });
+    }
+
+    /**
+     * Whether the snapshot itself is at fault, rather than Vault being unreachable or denying access.
+     */
+    private static boolean isCorrupted(Throwable e) {
+        if (e instanceof VaultClientException) {
+            VaultClientException clientException = (VaultClientException) e;
+            return clientException.getStatus() == 400 && isInvalidCiphertext(clientException.getBody());
+        }
+        if (e instanceof VaultException && e.getCause() instanceof AEADBadTagException) {
+            // tampered with, or stored with another key
+            return true;
+        }
+        // error of the transit batch item
+        return e.getClass() == VaultException.class && e.getCause() == null && isInvalidCiphertext(e.getMessage());
+    }
+
+    private static boolean isInvalidCiphertext(String error) {
+        return error != null && error.contains("invalid ciphertext");
+    }
+
+    private Stored read() {
+        Path path = getPath();
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(MAGIC, magic)) {
+                log.warn("ignoring vault snapshot " + path + " with an unknown format");
+                return null;
+            }
+            String wrappedKey = new String(bytes(buffer, buffer.getInt()), UTF_8);
+            byte[] iv = bytes(buffer, IV_LENGTH);
+            byte[] ciphertext = bytes(buffer, buffer.remaining());
+            return new Stored(wrappedKey, iv, ciphertext);
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            log.warn("ignoring truncated vault snapshot " + path);
+            return null;
+        } catch (IOException e) {
+            throw new VaultIOException("unable to read vault snapshot " + path, e);
+        }
+    }
+
+    private void scheduleWrite(Store store) {
+        if (writeScheduled.compareAndSet(false, true)) {
+            Infrastructure.getDefaultWorkerPool().execute(() -> {
+                writeScheduled.set(false);
+                write(store);
+            });
+        }
+    }
+
+    private synchronized void write(Store store) {
+        Path path = getPath();
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = cipher(Cipher.ENCRYPT_MODE, store.key, iv, store.wrappedKey);
+            byte[] ciphertext = cipher.doFinal(mapper.writeValueAsBytes(store.entries));
+            byte[] wrappedKey = store.wrappedKey.getBytes(UTF_8);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.write(MAGIC);
+            out.writeInt(wrappedKey.length);
+            out.write(wrappedKey);
+            out.write(iv);
+            out.write(ciphertext);
+
+            Path directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                ownerOnly(temp);
+                Files.write(temp, bytes.toByteArray());
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.debug("saved vault snapshot " + path + " with " + store.entries.size() + " entries");
+        } catch (GeneralSecurityException | IOException | RuntimeException e) {
+            log.warn("unable to save vault snapshot " + path + ": " + e);
+        }
+    }
+
+    private static void ownerOnly(Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // not a POSIX file system
+        }
+    }
+
+    private static Cipher cipher(int mode, SecretKey key, byte[] iv, String wrappedKey) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+        // binds the values to the key they were stored with
+        cipher.updateAAD(wrappedKey.getBytes(UTF_8));
+        return cipher;
+    }
+
+    private static byte[] bytes(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static final class Stored {
+
+        final String wrappedKey;
+        final byte[] iv;
+        final byte[] ciphertext;
+
+        Stored(String wrappedKey, byte[] iv, byte[] ciphertext) {
+            this.wrappedKey = wrappedKey;
+            this.iv = iv;
+            this.ciphertext = ciphertext;
+        }
+    }
+
+    private static final class Store {
+
+        final String wrappedKey;
+        final SecretKey key;
+        final Map<String, Entry> entries;
+
+        Store(String wrappedKey, SecretKey key, Map<String, Entry> entries) {
+            this.wrappedKey = wrappedKey;
+            this.key = key;
+            this.entries = entries;
+        }
+    }
+
+    public static final class Entry {
+
+        public long created;
+        public Map<String, String> values;
+
+        public Entry() {
+        }
+
+        Entry(long created, Map<String, String> values) {
+            this.created = created;
+            this.values = values;
+        }
+    }
+}
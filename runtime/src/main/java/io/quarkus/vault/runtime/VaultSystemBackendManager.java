@@ -34,6 +34,17 @@ public class VaultSystemBackendManager implements VaultSystemBackendReactiveEngi
     @Inject
     VaultInternalSystemBackend vaultInternalSystemBackend;
 
+    VaultSystemBackendManager() {
+    }
+
+    VaultSystemBackendManager(VaultClient vaultClient, VaultBuildTimeConfig buildTimeConfig,
+            VaultAuthManager vaultAuthManager, VaultInternalSystemBackend vaultInternalSystemBackend) {
+        this.vaultClient = vaultClient;
+        this.buildTimeConfig = buildTimeConfig;
+        this.vaultAuthManager = vaultAuthManager;
+        this.vaultInternalSystemBackend = vaultInternalSystemBackend;
+    }
+
     @Override
     public Uni<VaultInit> init(int secretShares, int secretThreshold) {
         return vaultInternalSystemBackend.init(vaultClient, secretShares, secretThreshold)
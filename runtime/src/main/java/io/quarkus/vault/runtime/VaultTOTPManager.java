@@ -27,6 +27,16 @@ public class VaultTOTPManager implements VaultTOTPSecretReactiveEngine {
     @Inject
     private VaultInternalTOTPSecretEngine vaultInternalTOTPSecretEngine;
 
+    VaultTOTPManager() {
+    }
+
+    VaultTOTPManager(VaultClient vaultClient, VaultAuthManager vaultAuthManager,
+            VaultInternalTOTPSecretEngine vaultInternalTOTPSecretEngine) {
+        this.vaultClient = vaultClient;
+        this.vaultAuthManager = vaultAuthManager;
+        this.vaultInternalTOTPSecretEngine = vaultInternalTOTPSecretEngine;
+    }
+
     @Override
     public Uni<Optional<KeyDefinition>> createKey(String name, CreateKeyParameters createKeyParameters) {
         VaultTOTPCreateKeyBody body = new VaultTOTPCreateKeyBody();
@@ -2,17 +2,38 @@ package io.quarkus.vault.runtime;
 
 import static io.quarkus.vault.runtime.LogConfidentialityLevel.LOW;
 
+import java.time.Duration;
+
 public class VaultToken extends TimeLimitedBase {
 
+    public static final String BATCH_TOKEN_TYPE = "batch";
+
     public String clientToken;
+    public boolean batch;
 
     public VaultToken(String clientToken, boolean renewable, long leaseDurationSecs) {
+        this(clientToken, renewable, leaseDurationSecs, false);
+    }
+
+    public VaultToken(String clientToken, boolean renewable, long leaseDurationSecs, boolean batch) {
         super(renewable, leaseDurationSecs);
         this.clientToken = clientToken;
+        this.batch = batch;
+    }
+
+    /**
+     * Batch tokens can be neither looked up nor renewed, so a new one is obtained ahead of expiry: within the
+     * grace period, but not before two thirds of the ttl have elapsed, so that a grace period longer than the ttl
+     * does not log in again on each call.
+     */
+    public boolean shouldRelogin(Duration gracePeriod) {
+        long ahead = Math.min(gracePeriod.getSeconds(), leaseDurationSecs / 3);
+        return nowSupplier.get().plusSeconds(ahead).isAfter(getExpireInstant());
     }
 
     public String getConfidentialInfo(LogConfidentialityLevel level) {
-        return "{clientToken: " + level.maskWithTolerance(clientToken, LOW) + ", " + super.info() + "}";
+        return "{clientToken: " + level.maskWithTolerance(clientToken, LOW) + ", batch: " + batch + ", " + super.info()
+                + "}";
     }
 
 }
@@ -18,10 +18,12 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Inject;
 
 import io.quarkus.vault.VaultException;
 import io.quarkus.vault.VaultTransitSecretReactiveEngine;
+import io.quarkus.vault.runtime.client.Private;
 import io.quarkus.vault.runtime.client.VaultClient;
 import io.quarkus.vault.runtime.client.dto.transit.VaultTransitCreateKeyBody;
 import io.quarkus.vault.runtime.client.dto.transit.VaultTransitDecryptBatchInput;
@@ -79,6 +81,15 @@ import io.smallrye.mutiny.Uni;
 @ApplicationScoped
 public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
 
+    @Produces
+    @Private
+    public static VaultTransitManager privateClientManager(@Private VaultClient vaultClient,
+            VaultAuthManager vaultAuthManager,
+            VaultConfigHolder vaultConfigHolder,
+            VaultInternalTransitSecretEngine vaultInternalTransitSecretEngine) {
+        return new VaultTransitManager(vaultClient, vaultAuthManager, vaultConfigHolder, vaultInternalTransitSecretEngine);
+    }
+
     @Inject
     VaultClient vaultClient;
     @Inject
@@ -88,6 +99,17 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
     @Inject
     VaultInternalTransitSecretEngine vaultInternalTransitSecretEngine;
 
+    VaultTransitManager() {
+    }
+
+    VaultTransitManager(VaultClient vaultClient, VaultAuthManager vaultAuthManager, VaultConfigHolder vaultConfigHolder,
+            VaultInternalTransitSecretEngine vaultInternalTransitSecretEngine) {
+        this.vaultClient = vaultClient;
+        this.vaultAuthManager = vaultAuthManager;
+        this.vaultConfigHolder = vaultConfigHolder;
+        this.vaultInternalTransitSecretEngine = vaultInternalTransitSecretEngine;
+    }
+
     private VaultRuntimeConfig getConfig() {
         return vaultConfigHolder.getVaultRuntimeConfig();
     }
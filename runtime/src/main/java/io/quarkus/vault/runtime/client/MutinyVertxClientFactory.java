@@ -3,10 +3,17 @@ package io.quarkus.vault.runtime.client;
 import static io.quarkus.vault.runtime.config.VaultAuthenticationType.KUBERNETES;
 import static io.quarkus.vault.runtime.config.VaultRuntimeConfig.KUBERNETES_CACERT;
 
+import javax.net.ssl.X509KeyManager;
+
 import org.jboss.logging.Logger;
 
 import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.VaultException;
+import io.quarkus.vault.runtime.config.ManagedCertificateConfig;
+import io.quarkus.vault.runtime.config.VaultPrewarmConfig;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.runtime.config.VaultUrlConverter;
+import io.vertx.core.net.KeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.ext.web.client.WebClientOptions;
@@ -17,13 +24,27 @@ public class MutinyVertxClientFactory {
 
     private static final Logger log = Logger.getLogger(MutinyVertxClientFactory.class.getName());
 
-    public static WebClient createHttpClient(Vertx vertx, VaultRuntimeConfig vaultRuntimeConfig, TlsConfig tlsConfig) {
+    public static WebClient createHttpClient(Vertx vertx, VaultRuntimeConfig vaultRuntimeConfig, TlsConfig tlsConfig,
+            X509KeyManager clientKeyManager) {
 
         WebClientOptions options = new WebClientOptions()
                 .setConnectTimeout((int) vaultRuntimeConfig.connectTimeout().toMillis())
                 .setIdleTimeout((int) vaultRuntimeConfig.readTimeout().getSeconds() * 2);
 
-        if (vaultRuntimeConfig.proxyHost().isPresent()) {
+        boolean unixDomainSocket = vaultRuntimeConfig.url().map(VaultUrlConverter::isUnixDomainSocket).orElse(false);
+        if (unixDomainSocket && !vertx.isNativeTransportEnabled()) {
+            throw new VaultException("vault url " + vaultRuntimeConfig.url().get()
+                    + " requires the vert.x native transport: add io.netty:netty-transport-native-epoll"
+                    + " and set quarkus.vertx.prefer-native-transport=true");
+        }
+
+        VaultPrewarmConfig prewarm = vaultRuntimeConfig.prewarm();
+        if (prewarm != null && prewarm.enabled()) {
+            // all the pre-warmed connections must fit in the pool
+            options.setMaxPoolSize(Math.max(options.getMaxPoolSize(), prewarm.connections()));
+        }
+
+        if (vaultRuntimeConfig.proxyHost().isPresent() && !unixDomainSocket) {
             options.setProxyOptions(
                     new ProxyOptions()
                             .setHost(vaultRuntimeConfig.proxyHost().get())
@@ -44,6 +65,10 @@ public class MutinyVertxClientFactory {
             cacert(options, KUBERNETES_CACERT);
         }
 
+        if (vaultRuntimeConfig.pki().certificate().values().stream().anyMatch(ManagedCertificateConfig::vaultClient)) {
+            clientCertificate(options, clientKeyManager);
+        }
+
         return WebClient.create(vertx, options);
     }
 
@@ -52,6 +77,12 @@ public class MutinyVertxClientFactory {
         options.setTrustOptions(new PemTrustOptions().addCertPath(cacert));
     }
 
+    private static void clientCertificate(WebClientOptions options, X509KeyManager clientKeyManager) {
+        log.debug("configure tls with a managed client certificate");
+        // the key manager serves the latest certificate, renewals apply to new connections without recreating the client
+        options.setKeyCertOptions(KeyCertOptions.wrap(clientKeyManager));
+    }
+
     private static void skipVerify(WebClientOptions options) {
         log.debug("configure tls with skip-verify");
         options.setTrustAll(true);
@@ -0,0 +1,63 @@
+package io.quarkus.vault.runtime.client;
+
+import static io.quarkus.vault.runtime.client.MutinyVertxClientFactory.createHttpClient;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.net.ssl.X509KeyManager;
+
+import io.quarkus.runtime.TlsConfig;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.ext.web.client.WebClient;
+
+/**
+ * Client of a named Vault cluster or namespace, with its own connection pool.
+ * <p>
+ * Uses the Quarkus Vert.x instance when there is one, or creates its own otherwise.
+ */
+public class NamedVertxVaultClient extends VertxVaultClient {
+
+    private final String name;
+    private final Vertx privateVertx;
+    private final AtomicReference<WebClient> webClient = new AtomicReference<>();
+
+    public NamedVertxVaultClient(String name, VaultRuntimeConfig vaultRuntimeConfig, Vertx quarkusMutinyVertx,
+            TlsConfig tlsConfig, X509KeyManager clientKeyManager) {
+        super(vaultRuntimeConfig);
+        this.name = name;
+        Vertx vertx;
+        if (quarkusMutinyVertx != null) {
+            this.privateVertx = null;
+            vertx = Vertx.newInstance(quarkusMutinyVertx.getDelegate());
+        } else {
+            this.privateVertx = PrivateVertxVaultClient.createVertxInstance();
+            vertx = privateVertx;
+        }
+        this.webClient.set(createHttpClient(vertx, vaultRuntimeConfig, tlsConfig, clientKeyManager));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    protected WebClient getWebClient() {
+        return webClient.get();
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        try {
+            WebClient webClient = this.webClient.getAndSet(null);
+            if (webClient != null) {
+                webClient.close();
+            }
+        } finally {
+            if (privateVertx != null) {
+                privateVertx.closeAndAwait();
+            }
+        }
+    }
+}
@@ -3,40 +3,99 @@ package io.quarkus.vault.runtime.client;
 import static io.quarkus.vault.runtime.client.MutinyVertxClientFactory.createHttpClient;
 import static io.vertx.core.spi.resolver.ResolverProvider.DISABLE_DNS_RESOLVER_PROP_NAME;
 
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Singleton;
 
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.runtime.StartupEvent;
 import io.quarkus.runtime.TlsConfig;
-import io.quarkus.vault.VaultException;
 import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.pki.VaultClientKeyManager;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.file.FileSystemOptions;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.ext.web.client.WebClient;
 
+/**
+ * Client used before the Quarkus Vert.x instance is available (i.e. by the config source), on a private Vert.x
+ * instance with a single event loop.
+ * <p>
+ * Once the application has started, requests are sent through the connection pool and to the endpoints of the shared
+ * client, and the private Vert.x instance is closed when the requests it was sending are over.
+ */
 @Singleton
 @Private
 public class PrivateVertxVaultClient extends VertxVaultClient {
 
+    private static final Logger log = Logger.getLogger(PrivateVertxVaultClient.class.getName());
+
     private AtomicReference<Vertx> vertx = new AtomicReference<>();
     private AtomicReference<WebClient> webClient = new AtomicReference<>();
+    private volatile SharedVertxVaultClient shared;
+    private volatile ScheduledFuture<?> closing;
     private final TlsConfig tlsConfig;
     private final VaultConfigHolder vaultConfigHolder;
+    private final VaultClientKeyManager clientKeyManager;
 
-    public PrivateVertxVaultClient(VaultConfigHolder vaultConfigHolder, TlsConfig tlsConfig) {
-        super(vaultConfigHolder.getVaultRuntimeConfig().url().orElseThrow(() -> new VaultException("no vault url provided")),
-                vaultConfigHolder.getVaultRuntimeConfig().enterprise().namespace(),
-                vaultConfigHolder.getVaultRuntimeConfig().readTimeout());
+    public PrivateVertxVaultClient(VaultConfigHolder vaultConfigHolder, TlsConfig tlsConfig,
+            VaultClientKeyManager clientKeyManager) {
+        super(vaultConfigHolder.getVaultRuntimeConfig());
         this.vaultConfigHolder = vaultConfigHolder;
         this.tlsConfig = tlsConfig;
+        this.clientKeyManager = clientKeyManager;
+    }
+
+    static void handOverOnStartup(@Observes StartupEvent event, Instance<Vertx> quarkusVertx) {
+        if (!quarkusVertx.isResolvable()) {
+            return;
+        }
+        // only when the private client has been used, typically by the config source
+        ArcContainer container = Arc.container();
+        InjectableBean<PrivateVertxVaultClient> bean = container
+                .select(PrivateVertxVaultClient.class, Private.Literal.INSTANCE).getHandle().getBean();
+        PrivateVertxVaultClient client = container.getActiveContext(Singleton.class).get(bean);
+        if (client != null) {
+            client.handOver((SharedVertxVaultClient) container.select(VertxVaultClient.class, Shared.Literal.INSTANCE)
+                    .get());
+        }
+    }
+
+    /**
+     * Sends the next requests through the connection pool and to the endpoints of the shared client, so that both
+     * clients share the circuit breakers and concurrency limits of the Vault nodes, and closes the private Vert.x
+     * instance once the requests in flight have timed out at the latest.
+     */
+    void handOver(SharedVertxVaultClient shared) {
+        shareEndpoints(shared);
+        this.shared = shared;
+        if (vertx.get() != null) {
+            closing = Infrastructure.getDefaultWorkerPool().schedule(this::closePrivateVertx,
+                    getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        log.debug("private vault client handed over to the shared vert.x instance");
     }
 
     @Override
     protected WebClient getWebClient() {
+        SharedVertxVaultClient shared = this.shared;
+        if (shared != null) {
+            return shared.getWebClient();
+        }
         WebClient webClient = this.webClient.get();
         if (webClient == null) {
-            webClient = createHttpClient(getVertx(), vaultConfigHolder.getVaultRuntimeConfig(), tlsConfig);
+            webClient = createHttpClient(getVertx(), vaultConfigHolder.getVaultRuntimeConfig(), tlsConfig,
+                    clientKeyManager);
             if (!this.webClient.compareAndSet(null, webClient)) {
                 webClient.close();
                 return this.webClient.get();
@@ -57,7 +116,11 @@ public class PrivateVertxVaultClient extends VertxVaultClient {
         return vertx;
     }
 
-    private Vertx createVertxInstance() {
+    /**
+     * Creates a Vert.x instance sized for a Vault client: a single event loop, the smallest worker pools (threads
+     * are only created when used), the native transport when available, and no file caching.
+     */
+    static Vertx createVertxInstance() {
         // We must disable the async DNS resolver as it can cause issues when resolving the Vault instance.
         // This is done using the DISABLE_DNS_RESOLVER_PROP_NAME system property.
         // The DNS resolver used by vert.x is configured during the (synchronous) initialization.
@@ -66,7 +129,15 @@ public class PrivateVertxVaultClient extends VertxVaultClient {
         Vertx vertx;
         try {
             System.setProperty(DISABLE_DNS_RESOLVER_PROP_NAME, "true");
-            vertx = Vertx.vertx(new VertxOptions());
+            // the native transport is also required by unix domain sockets
+            vertx = Vertx.vertx(new VertxOptions()
+                    .setEventLoopPoolSize(1)
+                    .setWorkerPoolSize(1)
+                    .setInternalBlockingPoolSize(1)
+                    .setPreferNativeTransport(true)
+                    .setFileSystemOptions(new FileSystemOptions()
+                            .setFileCachingEnabled(false)
+                            .setClassPathResolvingEnabled(false)));
         } finally {
             // Restore the original value
             if (originalValue == null) {
@@ -81,6 +152,15 @@ public class PrivateVertxVaultClient extends VertxVaultClient {
     @PreDestroy
     @Override
     public void close() {
+        super.close();
+        ScheduledFuture<?> closing = this.closing;
+        if (closing != null) {
+            closing.cancel(false);
+        }
+        closePrivateVertx();
+    }
+
+    private void closePrivateVertx() {
         try {
             WebClient webClient = this.webClient.getAndSet(null);
             if (webClient != null) {
@@ -13,8 +13,8 @@ import jakarta.inject.Singleton;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.runtime.TlsConfig;
-import io.quarkus.vault.VaultException;
 import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.pki.VaultClientKeyManager;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.ext.web.client.WebClient;
 
@@ -36,12 +36,12 @@ public class SharedVertxVaultClient extends VertxVaultClient {
 
     private final AtomicReference<WebClient> webClient = new AtomicReference<>();
 
-    public SharedVertxVaultClient(VaultConfigHolder vaultConfigHolder, Vertx quarkusMutinyVertx, TlsConfig tlsConfig) {
-        super(vaultConfigHolder.getVaultRuntimeConfig().url().orElseThrow(() -> new VaultException("no vault url provided")),
-                vaultConfigHolder.getVaultRuntimeConfig().enterprise().namespace(),
-                vaultConfigHolder.getVaultRuntimeConfig().readTimeout());
+    public SharedVertxVaultClient(VaultConfigHolder vaultConfigHolder, Vertx quarkusMutinyVertx, TlsConfig tlsConfig,
+            VaultClientKeyManager clientKeyManager) {
+        super(vaultConfigHolder.getVaultRuntimeConfig());
         Vertx vertx = Vertx.newInstance(quarkusMutinyVertx.getDelegate());
-        this.webClient.set(createHttpClient(vertx, vaultConfigHolder.getVaultRuntimeConfig(), tlsConfig));
+        this.webClient.set(createHttpClient(vertx, vaultConfigHolder.getVaultRuntimeConfig(), tlsConfig,
+                clientKeyManager));
     }
 
     @Override
@@ -52,6 +52,7 @@ public class SharedVertxVaultClient extends VertxVaultClient {
     @PreDestroy
     @Override
     public void close() {
+        super.close();
         WebClient webClient = this.webClient.getAndSet(null);
         if (webClient != null) {
             webClient.close();
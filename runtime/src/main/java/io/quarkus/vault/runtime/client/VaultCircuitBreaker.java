@@ -0,0 +1,194 @@
+package io.quarkus.vault.runtime.client;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.quarkus.vault.runtime.config.VaultCircuitBreakerConfig;
+
+/**
+ * Count based circuit breaker of a Vault node.
+ * <p>
+ * The outcomes of the most recent requests are kept in a ring. When the breaker is open, requests are rejected
+ * until the open duration has elapsed, after which a limited number of probe requests is let through (half open).
+ */
+public class VaultCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumRequests;
+    private final double failureRateThreshold;
+    private final long slowRequestNanos;
+    private final double slowRequestRateThreshold;
+    private final long openNanos;
+    private final int halfOpenRequests;
+
+    // not a monitor, so that virtual threads contending for it are unmounted rather than pinned
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final boolean[] failures;
+    private final boolean[] slows;
+    private int index;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public VaultCircuitBreaker(VaultCircuitBreakerConfig config) {
+        this(config.windowSize(), config.minimumRequests(), config.failureRateThreshold(), config.slowRequestDuration(),
+                config.slowRequestRateThreshold(), config.openDuration(), config.halfOpenRequests());
+    }
+
+    public VaultCircuitBreaker(int windowSize, int minimumRequests, double failureRateThreshold, Duration slowRequestDuration,
+            double slowRequestRateThreshold, Duration openDuration, int halfOpenRequests) {
+        if (windowSize < 1 || halfOpenRequests < 1) {
+            throw new IllegalArgumentException("circuit breaker window size and half open requests must be positive");
+        }
+        this.windowSize = windowSize;
+        this.minimumRequests = Math.min(minimumRequests, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowRequestNanos = slowRequestDuration.toNanos();
+        this.slowRequestRateThreshold = slowRequestRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenRequests = halfOpenRequests;
+        this.failures = new boolean[windowSize];
+        this.slows = new boolean[windowSize];
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether a request would currently be permitted, without acquiring a permit.
+     */
+    public boolean isAvailable() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    return System.nanoTime() - openedAt >= openNanos;
+                default:
+                    return halfOpenPermits < halfOpenRequests;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires a permit for a request, whose outcome must then be {@link #record recorded} or
+     * {@link #release released}.
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenPermits >= halfOpenRequests) {
+                    return false;
+                }
+                halfOpenPermits++;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back a permit of a request that was cancelled before completing.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+                halfOpenPermits--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void record(boolean failure, long latencyNanos) {
+        lock.lock();
+        try {
+            boolean slow = latencyNanos >= slowRequestNanos;
+            if (state == State.HALF_OPEN) {
+                if (failure || slow) {
+                    open();
+                } else if (++halfOpenSuccesses >= halfOpenRequests) {
+                    close();
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                return;
+            }
+
+            if (recorded == windowSize) {
+                failureCount -= failures[index] ? 1 : 0;
+                slowCount -= slows[index] ? 1 : 0;
+            } else {
+                recorded++;
+            }
+            failures[index] = failure;
+            slows[index] = slow;
+            failureCount += failure ? 1 : 0;
+            slowCount += slow ? 1 : 0;
+            index = (index + 1) % windowSize;
+
+            if (recorded >= minimumRequests
+                    && (failureCount >= failureRateThreshold * recorded || slowCount >= slowRequestRateThreshold * recorded)) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        index = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return state + "(" + failureCount + " failed, " + slowCount + " slow / " + recorded + ")";
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.quarkus.vault.runtime.client;
+
+import io.quarkus.vault.runtime.VaultIOException;
+
+/**
+ * Request rejected without being sent because the circuit breaker of every eligible Vault node is open.
+ */
+public class VaultCircuitBreakerOpenException extends VaultIOException {
+
+    public VaultCircuitBreakerOpenException(String message) {
+        super(message, null, false, false);
+    }
+
+}
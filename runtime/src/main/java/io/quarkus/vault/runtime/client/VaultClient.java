@@ -40,5 +40,11 @@ public interface VaultClient {
 
     Uni<Integer> head(String operation, String path, Map<String, String> queryParams);
 
+    /**
+     * Traces work done on behalf of the caller (login, token renewal, ...) as a span, parent of the spans of the
+     * requests it sends.
+     */
+    <T> Uni<T> traced(String name, Uni<T> operation);
+
     void close();
 }
@@ -0,0 +1,146 @@
+package io.quarkus.vault.runtime.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a {@link VertxVaultClient}.
+ */
+public class VaultClientMetrics {
+
+    final LongAdder requests = new LongAdder();
+    final LongAdder retries = new LongAdder();
+    final LongAdder retriesExhausted = new LongAdder();
+    final LongAdder retryBudgetExhausted = new LongAdder();
+    final LongAdder hedgedRequests = new LongAdder();
+    final LongAdder hedgeWins = new LongAdder();
+    final LongAdder circuitBreakerRejections = new LongAdder();
+    final LongAdder rateLimited = new LongAdder();
+    final LongAdder concurrencyLimitQueued = new LongAdder();
+    final LongAdder concurrencyLimitRejections = new LongAdder();
+    final LongAdder coalescingLeaders = new LongAdder();
+    final LongAdder coalescedRequests = new LongAdder();
+    final AtomicLong timeToFirstSuccess = new AtomicLong(-1);
+
+    /**
+     * HTTP requests sent to Vault, including retries.
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Requests sent again after a transient failure.
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * Requests that still failed after their last attempt.
+     */
+    public long getRetriesExhausted() {
+        return retriesExhausted.sum();
+    }
+
+    /**
+     * Transient failures that were not retried because the retry budget was exhausted.
+     */
+    public long getRetryBudgetExhausted() {
+        return retryBudgetExhausted.sum();
+    }
+
+    /**
+     * Second attempts sent because the first one was slower than usual.
+     */
+    public long getHedgedRequests() {
+        return hedgedRequests.sum();
+    }
+
+    /**
+     * Hedged requests that responded before the first attempt.
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * Requests rejected without being sent because of an open circuit breaker.
+     */
+    public long getCircuitBreakerRejections() {
+        return circuitBreakerRejections.sum();
+    }
+
+    /**
+     * Responses rejected by a Vault rate limit quota ({@code 429}).
+     */
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    /**
+     * Requests that waited for the concurrency limit.
+     */
+    public long getConcurrencyLimitQueued() {
+        return concurrencyLimitQueued.sum();
+    }
+
+    /**
+     * Requests rejected because the concurrency limit queue was full, or they waited too long.
+     */
+    public long getConcurrencyLimitRejections() {
+        return concurrencyLimitRejections.sum();
+    }
+
+    /**
+     * Reads sent while eligible for coalescing, which other identical reads could join.
+     */
+    public long getCoalescingLeaders() {
+        return coalescingLeaders.sum();
+    }
+
+    /**
+     * Reads that joined an identical read in flight instead of being sent.
+     */
+    public long getCoalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+    /**
+     * Share of the coalescing eligible reads that were not sent, between 0 and 1.
+     */
+    public double getCoalescingRatio() {
+        long coalesced = getCoalescedRequests();
+        long total = coalesced + getCoalescingLeaders();
+        return total == 0 ? 0 : (double) coalesced / total;
+    }
+
+    /**
+     * Duration between the creation of the client and its first successful response, or {@code null} when no
+     * request has succeeded yet.
+     */
+    public Duration getTimeToFirstSuccess() {
+        long nanos = timeToFirstSuccess.get();
+        return nanos < 0 ? null : Duration.ofNanos(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "VaultClientMetrics{" +
+                "requests=" + getRequests() +
+                ", retries=" + getRetries() +
+                ", retriesExhausted=" + getRetriesExhausted() +
+                ", retryBudgetExhausted=" + getRetryBudgetExhausted() +
+                ", hedgedRequests=" + getHedgedRequests() +
+                ", hedgeWins=" + getHedgeWins() +
+                ", circuitBreakerRejections=" + getCircuitBreakerRejections() +
+                ", rateLimited=" + getRateLimited() +
+                ", concurrencyLimitQueued=" + getConcurrencyLimitQueued() +
+                ", concurrencyLimitRejections=" + getConcurrencyLimitRejections() +
+                ", coalescingLeaders=" + getCoalescingLeaders() +
+                ", coalescedRequests=" + getCoalescedRequests() +
+                ", timeToFirstSuccess=" + getTimeToFirstSuccess() +
+                '}';
+    }
+}
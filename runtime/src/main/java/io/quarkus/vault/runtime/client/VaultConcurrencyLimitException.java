@@ -0,0 +1,15 @@
+package io.quarkus.vault.runtime.client;
+
+import io.quarkus.vault.runtime.VaultIOException;
+
+/**
+ * Request rejected without being sent because the concurrency limit of its Vault node was reached, and its queue
+ * was full or the request waited too long.
+ */
+public class VaultConcurrencyLimitException extends VaultIOException {
+
+    public VaultConcurrencyLimitException(String message) {
+        super(message, null, false, false);
+    }
+
+}
@@ -0,0 +1,302 @@
+package io.quarkus.vault.runtime.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.quarkus.vault.VaultRequestPriority;
+import io.quarkus.vault.runtime.config.VaultConcurrencyLimitConfig;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Adaptive (additive increase, multiplicative decrease) limit of the requests in flight to a Vault node.
+ * <p>
+ * Requests above the limit wait in one queue per {@link VaultRequestPriority}, and the queues are served in
+ * priority order. A {@code Retry-After} from a rate limit quota holds the queues until it has elapsed.
+ */
+public class VaultConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final int maxQueueSize;
+    private final long maxQueueWaitNanos;
+    private final VaultClientMetrics metrics;
+
+    // not a monitor, so that virtual threads contending for it are unmounted rather than pinned
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final List<ArrayDeque<Waiter>> lanes = new ArrayList<>();
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private long pausedUntil;
+    private ScheduledFuture<?> resume;
+
+    public VaultConcurrencyLimiter(VaultConcurrencyLimitConfig config, VaultClientMetrics metrics) {
+        this(config.initialLimit(), config.minLimit(), config.maxLimit(), config.backoffRatio(),
+                config.latencyThreshold(), config.maxQueueSize(), config.maxQueueWait(), metrics);
+    }
+
+    public VaultConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+            Duration latencyThreshold, int maxQueueSize, Duration maxQueueWait, VaultClientMetrics metrics) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("concurrency limits must be positive, with min limit <= max limit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxQueueSize = maxQueueSize;
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.metrics = metrics;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        for (int i = 0; i < VaultRequestPriority.values().length; i++) {
+            lanes.add(new ArrayDeque<>());
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Emits once the request can be sent, after which {@link #release} must be called exactly once.
+     */
+    public Uni<Void> acquire(VaultRequestPriority priority) {
+        return Uni.createFrom().deferred(() -> {
+            Waiter waiter = new Waiter(priority);
+            return Uni.createFrom().<Void> emitter(emitter -> {
+                // the emitter decides atomically between the grant and a cancellation, the permit is given back
+                // when the grant did not get past the first operator
+                emitter.onTermination(() -> {
+                    if (!waiter.delivered) {
+                        cancel(waiter);
+                    }
+                });
+                enqueue(waiter, emitter);
+            }).invoke(() -> waiter.delivered = true);
+        });
+    }
+
+    private void enqueue(Waiter waiter, UniEmitter<? super Void> emitter) {
+        lock.lock();
+        try {
+            if (waiter.done) {
+                // cancelled on subscription
+                return;
+            }
+            waiter.emitter = emitter;
+            if (queued == 0 && !isPaused() && inFlight < (int) limit) {
+                inFlight++;
+                waiter.done = true;
+                waiter.granted = true;
+            } else if (queued >= maxQueueSize) {
+                waiter.done = true;
+            } else {
+                waiter.timeout = Infrastructure.getDefaultWorkerPool().schedule(() -> expire(waiter),
+                        maxQueueWaitNanos, TimeUnit.NANOSECONDS);
+                lanes.get(waiter.priority.ordinal()).add(waiter);
+                queued++;
+                metrics.concurrencyLimitQueued.increment();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (waiter.granted) {
+            emitter.complete(null);
+        } else {
+            metrics.concurrencyLimitRejections.increment();
+            emitter.fail(new VaultConcurrencyLimitException("vault concurrency limit queue is full"));
+        }
+    }
+
+    /**
+     * Releases the permit of a request that completed, adapting the limit.
+     *
+     * @param overloaded whether the response or failure shows that the node is overloaded
+     */
+    public void release(long latencyNanos, boolean overloaded) {
+        lock.lock();
+        try {
+            if (overloaded || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlight >= limit / 2) {
+                // only grow when the limit is actually used
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    /**
+     * Releases the permit of a request that was cancelled, without adapting the limit.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    /**
+     * Holds queued and new requests for the duration of a {@code Retry-After}.
+     */
+    public void retryAfter(Duration delay) {
+        lock.lock();
+        try {
+            long until = System.nanoTime() + delay.toNanos();
+            if (isPaused() && until - pausedUntil <= 0) {
+                return;
+            }
+            pausedUntil = until;
+            if (resume != null) {
+                resume.cancel(false);
+            }
+            resume = Infrastructure.getDefaultWorkerPool().schedule(this::drain, delay.toNanos(), TimeUnit.NANOSECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isPaused() {
+        return pausedUntil != 0 && pausedUntil - System.nanoTime() > 0;
+    }
+
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        lock.lock();
+        try {
+            while (queued > 0 && !isPaused() && inFlight < (int) limit) {
+                Waiter waiter = poll();
+                queued--;
+                inFlight++;
+                waiter.done = true;
+                waiter.granted = true;
+                granted.add(waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Waiter waiter : granted) {
+            waiter.timeout.cancel(false);
+            waiter.emitter.complete(null);
+        }
+    }
+
+    private Waiter poll() {
+        for (ArrayDeque<Waiter> lane : lanes) {
+            Waiter waiter = lane.poll();
+            if (waiter != null) {
+                return waiter;
+            }
+        }
+        throw new IllegalStateException("no queued request");
+    }
+
+    private void expire(Waiter waiter) {
+        lock.lock();
+        try {
+            if (!remove(waiter)) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        metrics.concurrencyLimitRejections.increment();
+        waiter.emitter.fail(new VaultConcurrencyLimitException(
+                "timed out waiting for the vault concurrency limit after " + Duration.ofNanos(maxQueueWaitNanos)));
+    }
+
+    private void cancel(Waiter waiter) {
+        boolean removed;
+        boolean granted;
+        lock.lock();
+        try {
+            removed = remove(waiter);
+            granted = waiter.granted;
+        } finally {
+            lock.unlock();
+        }
+        if (removed) {
+            waiter.timeout.cancel(false);
+        } else if (granted) {
+            // cancelled before the permit was handed over
+            release();
+        }
+    }
+
+    private boolean remove(Waiter waiter) {
+        if (waiter.done) {
+            return false;
+        }
+        waiter.done = true;
+        if (!lanes.get(waiter.priority.ordinal()).remove(waiter)) {
+            // not enqueued yet
+            return false;
+        }
+        queued--;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return "limit=" + (int) limit + ", inFlight=" + inFlight + ", queued=" + queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class Waiter {
+
+        final VaultRequestPriority priority;
+        UniEmitter<? super Void> emitter;
+        ScheduledFuture<?> timeout;
+        boolean done;
+        boolean granted;
+        boolean delivered;
+
+        Waiter(VaultRequestPriority priority) {
+            this.priority = priority;
+        }
+    }
+}
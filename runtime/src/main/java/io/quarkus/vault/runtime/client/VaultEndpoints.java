@@ -0,0 +1,202 @@
+package io.quarkus.vault.runtime.client;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.quarkus.vault.sys.VaultHealth;
+
+/**
+ * Nodes of a Vault cluster, with their role, health and load.
+ * <p>
+ * Requests go to the active node, and standby reads to the least loaded performance standby. A node that fails
+ * to respond is ejected until a health probe succeeds again. When no node is known to be active, requests go to
+ * the first node that is not ejected, which forwards them to the active node if it is a standby. Nodes whose
+ * circuit breaker is open are skipped like ejected nodes.
+ */
+public class VaultEndpoints {
+
+    static final double LATENCY_SMOOTHING = 0.2;
+
+    public enum Role {
+        ACTIVE,
+        PERFORMANCE_STANDBY,
+        STANDBY,
+        UNAVAILABLE,
+        UNKNOWN
+    }
+
+    public static class Endpoint {
+
+        final URL url;
+        final AtomicInteger inFlight = new AtomicInteger();
+        volatile Role role = Role.UNKNOWN;
+        volatile boolean ejected;
+        volatile double latencyNanos;
+        final VaultCircuitBreaker circuitBreaker;
+        final VaultConcurrencyLimiter concurrencyLimiter;
+
+        Endpoint(URL url, VaultCircuitBreaker circuitBreaker, VaultConcurrencyLimiter concurrencyLimiter) {
+            this.url = url;
+            this.circuitBreaker = circuitBreaker;
+            this.concurrencyLimiter = concurrencyLimiter;
+        }
+
+        public URL getUrl() {
+            return url;
+        }
+
+        public Role getRole() {
+            return role;
+        }
+
+        public boolean isEjected() {
+            return ejected;
+        }
+
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * The circuit breaker of this node, or {@code null} if circuit breakers are disabled.
+         */
+        public VaultCircuitBreaker getCircuitBreaker() {
+            return circuitBreaker;
+        }
+
+        /**
+         * The concurrency limiter of this node, or {@code null} if concurrency limits are disabled.
+         */
+        public VaultConcurrencyLimiter getConcurrencyLimiter() {
+            return concurrencyLimiter;
+        }
+
+        boolean isAvailable() {
+            return !ejected && (circuitBreaker == null || circuitBreaker.isAvailable());
+        }
+
+        double load() {
+            // latency weighted by queue depth, with a floor so that idle nodes without samples are comparable
+            return (inFlight.get() + 1) * (latencyNanos + 1_000_000);
+        }
+
+        @Override
+        public String toString() {
+            return url + "(" + role + (ejected ? ", ejected" : "")
+                    + (circuitBreaker != null ? ", " + circuitBreaker : "")
+                    + (concurrencyLimiter != null ? ", " + concurrencyLimiter : "") + ")";
+        }
+    }
+
+    private final List<Endpoint> endpoints;
+    private final boolean standbyReads;
+
+    public VaultEndpoints(List<URL> urls, boolean standbyReads) {
+        this(urls, standbyReads, () -> null, () -> null);
+    }
+
+    public VaultEndpoints(List<URL> urls, boolean standbyReads, Supplier<VaultCircuitBreaker> circuitBreakers,
+            Supplier<VaultConcurrencyLimiter> concurrencyLimiters) {
+        this.endpoints = urls.stream().map(url -> new Endpoint(url, circuitBreakers.get(), concurrencyLimiters.get()))
+                .collect(Collectors.toUnmodifiableList());
+        this.standbyReads = standbyReads;
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public boolean isCluster() {
+        return endpoints.size() > 1;
+    }
+
+    public Endpoint select(VaultRequest request) {
+        return select(request.isStandbyRead());
+    }
+
+    public Endpoint select(boolean standbyRead) {
+        if (!isCluster()) {
+            return endpoints.get(0);
+        }
+        if (standbyRead && standbyReads) {
+            Endpoint leastLoaded = null;
+            for (Endpoint endpoint : endpoints) {
+                if (endpoint.role == Role.PERFORMANCE_STANDBY && endpoint.isAvailable()
+                        && (leastLoaded == null || endpoint.load() < leastLoaded.load())) {
+                    leastLoaded = endpoint;
+                }
+            }
+            if (leastLoaded != null) {
+                return leastLoaded;
+            }
+        }
+        Endpoint fallback = null;
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isAvailable()) {
+                if (endpoint.role == Role.ACTIVE) {
+                    return endpoint;
+                }
+                if (fallback == null && endpoint.role != Role.UNAVAILABLE) {
+                    fallback = endpoint;
+                }
+            }
+        }
+        return fallback != null ? fallback : endpoints.get(0);
+    }
+
+    public void started(Endpoint endpoint) {
+        endpoint.inFlight.incrementAndGet();
+    }
+
+    public void succeeded(Endpoint endpoint, long latencyNanos) {
+        endpoint.inFlight.decrementAndGet();
+        double previous = endpoint.latencyNanos;
+        endpoint.latencyNanos = previous == 0 ? latencyNanos
+                : previous + LATENCY_SMOOTHING * (latencyNanos - previous);
+    }
+
+    public void failed(Endpoint endpoint) {
+        endpoint.inFlight.decrementAndGet();
+        if (isCluster()) {
+            endpoint.ejected = true;
+        }
+    }
+
+    public void cancelled(Endpoint endpoint) {
+        endpoint.inFlight.decrementAndGet();
+        if (endpoint.circuitBreaker != null) {
+            endpoint.circuitBreaker.release();
+        }
+        if (endpoint.concurrencyLimiter != null) {
+            endpoint.concurrencyLimiter.release();
+        }
+    }
+
+    public void probed(Endpoint endpoint, VaultHealth health) {
+        Role role;
+        if (health.isInitializedUnsealedActive()) {
+            role = Role.ACTIVE;
+        } else if (health.isPerformanceStandby()) {
+            role = Role.PERFORMANCE_STANDBY;
+        } else if (health.isUnsealedStandby()) {
+            role = Role.STANDBY;
+        } else {
+            role = Role.UNAVAILABLE;
+        }
+        endpoint.role = role;
+        endpoint.ejected = role == Role.UNAVAILABLE;
+    }
+
+    public void probeFailed(Endpoint endpoint) {
+        endpoint.role = Role.UNAVAILABLE;
+        endpoint.ejected = true;
+    }
+
+    @Override
+    public String toString() {
+        return endpoints.toString();
+    }
+}
@@ -0,0 +1,176 @@
+package io.quarkus.vault.runtime.client;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.quarkus.vault.runtime.config.VaultHedgingConfig;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.smallrye.mutiny.subscription.UniEmitter;
+
+/**
+ * Sends a second attempt of a request that is safe to send twice, when the first one is slower than a percentile of
+ * the recent latencies of the same operation. The first response wins and the other attempt is cancelled.
+ */
+public class VaultHedging {
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final VaultClientMetrics metrics;
+    private final Map<String, VaultLatencyTracker> latencies = new ConcurrentHashMap<>();
+
+    public VaultHedging(VaultHedgingConfig config, VaultClientMetrics metrics) {
+        this(config.enabled(), config.percentile(), config.minDelay(), metrics);
+    }
+
+    VaultHedging(boolean enabled, double percentile, Duration minDelay, VaultClientMetrics metrics) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayNanos = minDelay == null ? 0 : minDelay.toNanos();
+        this.metrics = metrics;
+    }
+
+    /**
+     * Hedging disabled.
+     */
+    public static VaultHedging none(VaultClientMetrics metrics) {
+        return new VaultHedging(false, 1, Duration.ZERO, metrics);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records the latency of a successful attempt.
+     */
+    public void record(VaultRequest request, long latencyNanos) {
+        if (enabled && request.isIdempotent()) {
+            latencies.computeIfAbsent(request.operationName, name -> new VaultLatencyTracker(percentile))
+                    .record(latencyNanos);
+        }
+    }
+
+    public <T> Uni<T> apply(VaultRequest request, Supplier<Uni<T>> attempt) {
+        if (!enabled || !request.isIdempotent()) {
+            return attempt.get();
+        }
+        VaultLatencyTracker tracker = latencies.get(request.operationName);
+        long delay = tracker == null ? -1 : tracker.getPercentileNanos();
+        if (delay < 0) {
+            return attempt.get();
+        }
+        long hedgeDelay = Math.max(delay, minDelayNanos);
+        return Uni.createFrom().emitter(emitter -> new Race<>(emitter, attempt, hedgeDelay).start());
+    }
+
+    private class Race<T> {
+
+        final UniEmitter<? super T> emitter;
+        final Supplier<Uni<T>> attempt;
+        final long hedgeDelayNanos;
+
+        boolean done;
+        boolean hedged;
+        int outstanding = 1;
+        Cancellable primary;
+        Cancellable hedge;
+        ScheduledFuture<?> timer;
+
+        Race(UniEmitter<? super T> emitter, Supplier<Uni<T>> attempt, long hedgeDelayNanos) {
+            this.emitter = emitter;
+            this.attempt = attempt;
+            this.hedgeDelayNanos = hedgeDelayNanos;
+        }
+
+        void start() {
+            emitter.onTermination(this::cancel);
+            // both attempts are subscribed with the caller's context, which holds e.g. the request priority
+            Cancellable primary = attempt.get().subscribe().with(emitter.context(), item -> item(item, false),
+                    this::failed);
+            ScheduledFuture<?> timer = Infrastructure.getDefaultWorkerPool().schedule(this::hedge, hedgeDelayNanos,
+                    TimeUnit.NANOSECONDS);
+            synchronized (this) {
+                this.primary = primary;
+                this.timer = timer;
+                if (done) {
+                    timer.cancel(false);
+                }
+            }
+        }
+
+        void hedge() {
+            synchronized (this) {
+                if (done || hedged) {
+                    return;
+                }
+                hedged = true;
+                outstanding++;
+            }
+            metrics.hedgedRequests.increment();
+            Cancellable hedge = attempt.get().subscribe().with(emitter.context(), item -> item(item, true),
+                    this::failed);
+            synchronized (this) {
+                this.hedge = hedge;
+                if (!done) {
+                    return;
+                }
+            }
+            hedge.cancel();
+        }
+
+        void item(T item, boolean fromHedge) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            if (fromHedge) {
+                metrics.hedgeWins.increment();
+            }
+            emitter.complete(item);
+        }
+
+        void failed(Throwable failure) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                if (--outstanding > 0) {
+                    // the other attempt may still succeed
+                    return;
+                }
+                done = true;
+            }
+            emitter.fail(failure);
+        }
+
+        void cancel() {
+            Cancellable primary;
+            Cancellable hedge;
+            ScheduledFuture<?> timer;
+            synchronized (this) {
+                done = true;
+                primary = this.primary;
+                hedge = this.hedge;
+                timer = this.timer;
+            }
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            if (primary != null) {
+                primary.cancel();
+            }
+            if (hedge != null) {
+                hedge.cancel();
+            }
+        }
+    }
+}
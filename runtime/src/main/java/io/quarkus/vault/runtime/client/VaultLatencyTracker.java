@@ -0,0 +1,44 @@
+package io.quarkus.vault.runtime.client;
+
+import java.util.Arrays;
+
+/**
+ * Recent latencies of an operation, with a periodically recomputed percentile.
+ */
+class VaultLatencyTracker {
+
+    static final int SAMPLES = 128;
+    static final int MIN_SAMPLES = 20;
+    static final int RECOMPUTE_EVERY = 16;
+
+    private final double percentile;
+    private final long[] samples = new long[SAMPLES];
+    private int index;
+    private int recorded;
+    private volatile long percentileNanos = -1;
+
+    VaultLatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[index] = latencyNanos;
+        index = (index + 1) % SAMPLES;
+        if (recorded < SAMPLES) {
+            recorded++;
+        }
+        if (recorded >= MIN_SAMPLES && index % RECOMPUTE_EVERY == 0) {
+            long[] sorted = Arrays.copyOf(samples, recorded);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile * recorded) - 1;
+            percentileNanos = sorted[Math.max(0, Math.min(recorded - 1, rank))];
+        }
+    }
+
+    /**
+     * The latency percentile, or {@code -1} until enough samples have been recorded.
+     */
+    long getPercentileNanos() {
+        return percentileNanos;
+    }
+}
@@ -0,0 +1,106 @@
+package io.quarkus.vault.runtime.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.vault.runtime.jfr.VaultRequestEvent;
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Description of a request to Vault, independent of the node it is sent to.
+ */
+public class VaultRequest {
+
+    static final HttpMethod LIST = HttpMethod.valueOf("LIST");
+
+    private static final String CREDENTIALS_OPERATION = "[CREDENTIALS]";
+    private static final Set<String> TRANSIT_READS = Set.of(
+            "VAULT [TRANSIT] Encrypt Key",
+            "VAULT [TRANSIT] Decrypt Key",
+            "VAULT [TRANSIT] Rewrap",
+            "VAULT [TRANSIT] Sign",
+            "VAULT [TRANSIT] Verify");
+    // GET requests that change state in Vault
+    private static final Set<String> NON_IDEMPOTENT_READS = Set.of(
+            "VAULT [PKI] Rotate CRL",
+            "VAULT [TOTP] Generate Code");
+
+    final String operationName;
+    final HttpMethod method;
+    final String path;
+    String token;
+    Map<String, String> headers = Map.of();
+    Map<String, String> queryParams;
+    byte[] body;
+    VaultRequestEvent event;
+    VaultTracing.RequestSpan span;
+
+    public VaultRequest(String operationName, HttpMethod method, String path) {
+        this.operationName = operationName;
+        this.method = method;
+        this.path = path;
+    }
+
+    VaultRequest token(String token) {
+        this.token = token;
+        return this;
+    }
+
+    VaultRequest headers(Map<String, String> headers) {
+        if (!headers.isEmpty()) {
+            Map<String, String> merged = new LinkedHashMap<>(this.headers);
+            merged.putAll(headers);
+            this.headers = merged;
+        }
+        return this;
+    }
+
+    VaultRequest queryParams(Map<String, String> queryParams) {
+        this.queryParams = queryParams;
+        return this;
+    }
+
+    VaultRequest body(byte[] body) {
+        this.body = body;
+        return this;
+    }
+
+    public void setSpan(VaultTracing.RequestSpan span) {
+        this.span = span;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Whether a performance standby can serve this request without forwarding it to the active node.
+     */
+    public boolean isStandbyRead() {
+        if (method == HttpMethod.GET || method == HttpMethod.HEAD || method.equals(LIST)) {
+            if (operationName == null) {
+                return true;
+            }
+            // reading dynamic credentials creates a lease
+            return !operationName.contains(CREDENTIALS_OPERATION) && !NON_IDEMPOTENT_READS.contains(operationName);
+        }
+        return TRANSIT_READS.contains(operationName);
+    }
+
+    /**
+     * Whether this request can be sent again after a failure without side effects, e.g. it does not create a lease,
+     * a token or a secret id, or rotate the CRL.
+     */
+    public boolean isIdempotent() {
+        return isStandbyRead();
+    }
+}
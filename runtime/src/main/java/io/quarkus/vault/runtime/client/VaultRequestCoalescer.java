@@ -0,0 +1,124 @@
+package io.quarkus.vault.runtime.client;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import io.quarkus.vault.runtime.config.VaultCoalescingConfig;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Single flight of identical concurrent reads: followers of a request already in flight subscribe to the same
+ * memoized result instead of sending their own.
+ */
+public class VaultRequestCoalescer {
+
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final VaultClientMetrics metrics;
+    private final Map<Key, Uni<?>> inFlight = new ConcurrentHashMap<>();
+
+    public VaultRequestCoalescer(VaultCoalescingConfig config, VaultClientMetrics metrics) {
+        this(config.enabled(), config.maxInFlight(), metrics);
+    }
+
+    public VaultRequestCoalescer(boolean enabled, int maxInFlight, VaultClientMetrics metrics) {
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Coalescing disabled.
+     */
+    public static VaultRequestCoalescer none(VaultClientMetrics metrics) {
+        return new VaultRequestCoalescer(false, 0, metrics);
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Sends a request, or joins the identical request in flight.
+     *
+     * @param result distinguishes requests whose responses are handled differently, e.g. the result class
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Uni<T> apply(VaultRequest request, Object result, Supplier<Uni<T>> send) {
+        if (!enabled || !isReadOnly(request)) {
+            return send.get();
+        }
+        return Uni.createFrom().deferred(() -> {
+            Key key = new Key(request, result);
+            Uni<T> existing = (Uni<T>) inFlight.get(key);
+            if (existing != null) {
+                metrics.coalescedRequests.increment();
+                return existing;
+            }
+            if (inFlight.size() >= maxInFlight) {
+                return send.get();
+            }
+            AtomicReference<Uni<T>> self = new AtomicReference<>();
+            Uni<T> shared = send.get()
+                    .onTermination().invoke(() -> inFlight.remove(key, self.get()))
+                    .memoize().indefinitely();
+            self.set(shared);
+            existing = (Uni<T>) inFlight.putIfAbsent(key, shared);
+            if (existing != null) {
+                metrics.coalescedRequests.increment();
+                return existing;
+            }
+            metrics.coalescingLeaders.increment();
+            return shared;
+        });
+    }
+
+    private static boolean isReadOnly(VaultRequest request) {
+        return (request.method.equals(VaultRequest.LIST) || request.method.name().equals("GET"))
+                && request.isIdempotent();
+    }
+
+    private static final class Key {
+
+        final String method;
+        final String path;
+        final Map<String, String> queryParams;
+        final Map<String, String> headers;
+        final String token;
+        final Object result;
+        final int hash;
+
+        Key(VaultRequest request, Object result) {
+            this.method = request.method.name();
+            this.path = request.path;
+            this.queryParams = request.queryParams;
+            // includes the namespace
+            this.headers = request.headers;
+            this.token = request.token;
+            this.result = result;
+            this.hash = Objects.hash(method, path, queryParams, headers, token, result);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash && method.equals(key.method) && path.equals(key.path)
+                    && Objects.equals(queryParams, key.queryParams) && headers.equals(key.headers)
+                    && Objects.equals(token, key.token) && Objects.equals(result, key.result);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.quarkus.vault.runtime.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.quarkus.vault.runtime.VaultIOException;
+import io.quarkus.vault.runtime.config.VaultRetryConfig;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Retries requests that are safe to retry after a transient failure, with an exponential backoff and jitter.
+ * Retries of rate limited requests also wait for the {@code Retry-After} held by the node's concurrency limiter.
+ * <p>
+ * Retries are limited by a budget: every request deposits {@code budgetRatio} tokens, every retry withdraws
+ * one. The budget starts with, and is capped to, a fixed number of tokens.
+ */
+public class VaultRetryPolicy {
+
+    // budget is kept in thousandths of a token
+    static final long BUDGET_RESERVE = 10_000;
+    static final long BUDGET_CAPACITY = 100_000;
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final long deposit;
+    private final VaultClientMetrics metrics;
+    private final AtomicLong budget = new AtomicLong(BUDGET_RESERVE);
+
+    public VaultRetryPolicy(VaultRetryConfig config, VaultClientMetrics metrics) {
+        this(config.maxAttempts(), config.initialBackoff(), config.maxBackoff(), config.jitter(), config.budgetRatio(),
+                metrics);
+    }
+
+    VaultRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, double jitter, double budgetRatio,
+            VaultClientMetrics metrics) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+        this.deposit = Math.round(budgetRatio * 1000);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Policy that never retries.
+     */
+    public static VaultRetryPolicy none(VaultClientMetrics metrics) {
+        return new VaultRetryPolicy(1, Duration.ZERO, Duration.ZERO, 0, 0, metrics);
+    }
+
+    public <T> Uni<T> apply(VaultRequest request, Uni<T> send) {
+        if (maxAttempts <= 1 || !request.isIdempotent()) {
+            return send;
+        }
+        return Uni.createFrom().deferred(() -> {
+            deposit();
+            AtomicInteger attempts = new AtomicInteger(1);
+            return send
+                    .onFailure(failure -> shouldRetry(failure, attempts))
+                    .retry().withBackOff(initialBackoff, maxBackoff).withJitter(jitter).atMost(maxAttempts - 1)
+                    .onFailure().invoke(failure -> {
+                        if (attempts.get() >= maxAttempts) {
+                            metrics.retriesExhausted.increment();
+                        }
+                    });
+        });
+    }
+
+    public long getBudget() {
+        return budget.get() / 1000;
+    }
+
+    private boolean shouldRetry(Throwable failure, AtomicInteger attempts) {
+        if (!isTransient(failure) || attempts.get() >= maxAttempts) {
+            return false;
+        }
+        if (!withdraw()) {
+            metrics.retryBudgetExhausted.increment();
+            return false;
+        }
+        attempts.incrementAndGet();
+        metrics.retries.increment();
+        return true;
+    }
+
+    static boolean isTransient(Throwable failure) {
+        if (failure instanceof VaultCircuitBreakerOpenException || failure instanceof VaultConcurrencyLimitException) {
+            // no node can take the request, or the client is overloaded already
+            return false;
+        }
+        if (failure instanceof VaultIOException) {
+            return true;
+        }
+        if (failure instanceof VaultClientException) {
+            int status = ((VaultClientException) failure).getStatus();
+            return status == 429 || status == 502 || status == 503 || status == 504;
+        }
+        return false;
+    }
+
+    private void deposit() {
+        budget.accumulateAndGet(deposit, (current, added) -> Math.min(BUDGET_CAPACITY, current + added));
+    }
+
+    private boolean withdraw() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < 1000) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - 1000));
+        return true;
+    }
+}
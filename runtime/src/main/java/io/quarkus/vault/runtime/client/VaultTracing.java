@@ -0,0 +1,42 @@
+package io.quarkus.vault.runtime.client;
+
+import java.net.URL;
+
+import io.quarkus.vault.runtime.config.VaultTracingConfig;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tracing of the requests sent by a {@link VertxVaultClient}, and of the internal work done on behalf of the callers.
+ * <p>
+ * Does nothing unless a {@link Factory} bean is available, which is the case with the OpenTelemetry extension.
+ */
+public abstract class VaultTracing {
+
+    public static final VaultTracing NONE = new VaultTracing() {
+        @Override
+        public <T> Uni<T> trace(String name, VaultRequest request, Uni<T> traced) {
+            return traced;
+        }
+    };
+
+    /**
+     * Traces an operation as a span, a client span of the request if there is one, or an internal span otherwise.
+     */
+    public abstract <T> Uni<T> trace(String name, VaultRequest request, Uni<T> traced);
+
+    /**
+     * Span of a request, told about each attempt to send it.
+     */
+    public interface RequestSpan {
+
+        void attempted(URL node, int status);
+    }
+
+    /**
+     * Creates the tracing of each client.
+     */
+    public interface Factory {
+
+        VaultTracing create(VaultTracingConfig config);
+    }
+}
@@ -1,35 +1,61 @@
 package io.quarkus.vault.runtime.client;
 
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static io.quarkus.vault.runtime.config.VaultUrlConverter.isUnixDomainSocket;
 import static java.util.Collections.emptyMap;
 
+import java.io.IOException;
 import java.net.ConnectException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.vault.VaultException;
+import io.quarkus.vault.VaultRequestPriority;
 import io.quarkus.vault.runtime.VaultIOException;
 import io.quarkus.vault.runtime.client.dto.AbstractVaultDTO;
+import io.quarkus.vault.runtime.config.VaultCircuitBreakerConfig;
+import io.quarkus.vault.runtime.config.VaultClusterConfig;
+import io.quarkus.vault.runtime.config.VaultCoalescingConfig;
+import io.quarkus.vault.runtime.config.VaultConcurrencyLimitConfig;
+import io.quarkus.vault.runtime.config.VaultHedgingConfig;
+import io.quarkus.vault.runtime.config.VaultRetryConfig;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.runtime.config.VaultTracingConfig;
+import io.quarkus.vault.runtime.jfr.VaultEvent;
+import io.quarkus.vault.runtime.jfr.VaultRequestEvent;
+import io.quarkus.vault.sys.VaultHealth;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.smallrye.mutiny.unchecked.Unchecked;
 import io.vertx.core.VertxException;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.mutiny.core.buffer.Buffer;
+import io.vertx.mutiny.core.net.SocketAddress;
 import io.vertx.mutiny.ext.web.client.HttpRequest;
 import io.vertx.mutiny.ext.web.client.HttpResponse;
 import io.vertx.mutiny.ext.web.client.WebClient;
@@ -37,48 +63,166 @@ import io.vertx.mutiny.ext.web.client.WebClient;
 public abstract class VertxVaultClient implements VaultClient {
     private static final Logger log = Logger.getLogger(VertxVaultClient.class.getName());
 
-    private static final HttpMethod LIST = HttpMethod.valueOf("LIST");
+    private static final HttpMethod LIST = VaultRequest.LIST;
 
     private static final List<String> ROOT_NAMESPACE_API = Arrays.asList("sys/init", "sys/license", "sys/leader", "sys/health",
             "sys/metrics", "sys/config/state", "sys/host-info", "sys/key-status", "sys/storage", "sys/storage/raft");
 
-    private URL baseUrl;
+    private volatile VaultEndpoints endpoints;
+    // the client that probes the endpoints, another client once they are shared
+    private volatile VertxVaultClient endpointsOwner = this;
     private Duration requestTimeout;
     private Optional<String> namespace;
-
-    private ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private Duration probeInterval;
+    private final AtomicReference<ScheduledFuture<?>> prober = new AtomicReference<>();
+    private final VaultClientMetrics metrics = new VaultClientMetrics();
+    private final long createdAt = System.nanoTime();
+    private VaultRetryPolicy retryPolicy = VaultRetryPolicy.none(metrics);
+    private VaultHedging hedging = VaultHedging.none(metrics);
+    private VaultRequestCoalescer coalescer = VaultRequestCoalescer.none(metrics);
+    private VaultTracing tracing = VaultTracing.NONE;
+
+    private final ObjectMapper mapper = createObjectMapper();
+    // readers and writers resolve their (de)serializers once, instead of looking them up for every request
+    private final ObjectWriter writer = mapper.writer();
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    protected VertxVaultClient(VaultRuntimeConfig vaultRuntimeConfig) {
+        this(vaultRuntimeConfig.url().orElseThrow(() -> new VaultException("no vault url provided")),
+                vaultRuntimeConfig.enterprise().namespace(),
+                vaultRuntimeConfig.readTimeout());
+        VaultClusterConfig cluster = vaultRuntimeConfig.cluster();
+        VaultCircuitBreakerConfig circuitBreaker = vaultRuntimeConfig.circuitBreaker();
+        Supplier<VaultCircuitBreaker> circuitBreakers = circuitBreaker != null && circuitBreaker.enabled()
+                ? () -> new VaultCircuitBreaker(circuitBreaker)
+                : () -> null;
+        VaultConcurrencyLimitConfig concurrencyLimit = vaultRuntimeConfig.concurrencyLimit();
+        Supplier<VaultConcurrencyLimiter> concurrencyLimiters = concurrencyLimit != null && concurrencyLimit.enabled()
+                ? () -> new VaultConcurrencyLimiter(concurrencyLimit, metrics)
+                : () -> null;
+        List<URL> urls = new ArrayList<>();
+        urls.add(endpoints.getEndpoints().get(0).getUrl());
+        boolean standbyReads = false;
+        if (cluster != null && cluster.nodes().isPresent()) {
+            urls.addAll(cluster.nodes().get());
+            standbyReads = cluster.standbyReads();
+            this.probeInterval = cluster.probeInterval();
+        }
+        this.endpoints = new VaultEndpoints(urls, standbyReads, circuitBreakers, concurrencyLimiters);
+        VaultRetryConfig retry = vaultRuntimeConfig.retry();
+        if (retry != null) {
+            this.retryPolicy = new VaultRetryPolicy(retry, metrics);
+        }
+        VaultHedgingConfig hedging = vaultRuntimeConfig.hedging();
+        if (hedging != null) {
+            this.hedging = new VaultHedging(hedging, metrics);
+        }
+        VaultCoalescingConfig coalescing = vaultRuntimeConfig.coalescing();
+        if (coalescing != null) {
+            this.coalescer = new VaultRequestCoalescer(coalescing, metrics);
+        }
+        VaultTracingConfig tracing = vaultRuntimeConfig.tracing();
+        if (tracing != null && tracing.enabled()) {
+            this.tracing = createTracing(tracing);
+        }
+    }
 
     protected VertxVaultClient(URL baseUrl, Optional<String> namespace, Duration requestTimeout) {
-        this.baseUrl = baseUrl;
+        this.endpoints = new VaultEndpoints(List.of(baseUrl), false);
         this.namespace = namespace;
         this.requestTimeout = requestTimeout;
-        this.mapper.configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
-        this.mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    private static VaultTracing createTracing(VaultTracingConfig config) {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return VaultTracing.NONE;
+        }
+        InstanceHandle<VaultTracing.Factory> factory = container.instance(VaultTracing.Factory.class);
+        return factory.isAvailable() ? factory.get().create(config) : VaultTracing.NONE;
+    }
+
+    /**
+     * Creates the mapper of the model DTOs. The client resolves a reader per result type and a single writer from it.
+     */
+    public static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        mapper.configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        return mapper;
     }
 
     protected abstract WebClient getWebClient();
 
+    public VaultEndpoints getEndpoints() {
+        return endpoints;
+    }
+
+    public VaultClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Opens connections to each Vault node, with a TLS handshake when applicable, and returns the number of
+     * connections that could be opened.
+     * <p>
+     * Concurrent unauthenticated health requests are sent to each node, so that the connection pool has to open
+     * one connection for each of them. Connections already in the pool are reused.
+     */
+    public Uni<Integer> prewarm(int connections) {
+        List<Uni<Boolean>> requests = new ArrayList<>();
+        for (VaultEndpoints.Endpoint endpoint : endpoints.getEndpoints()) {
+            for (int i = 0; i < connections; i++) {
+                requests.add(httpRequest(HttpMethod.GET, endpoint.getUrl(), "sys/health", "VAULT [SYS] Pre-warm").send()
+                        .ifNoItem().after(getRequestTimeout()).fail()
+                        .map(response -> true)
+                        .onFailure().recoverWithItem(e -> {
+                            log.debug("unable to open connection to vault node " + endpoint.getUrl() + ": " + e);
+                            return false;
+                        }));
+            }
+        }
+        return Uni.combine().all().unis(requests)
+                .with(results -> (int) results.stream().filter(Boolean.TRUE::equals).count());
+    }
+
+    /**
+     * Sends the next requests to the endpoints of another client, within their circuit breakers and concurrency
+     * limits, and leaves their probing to that client. Requests in flight complete on the endpoints they were sent
+     * to.
+     */
+    protected void shareEndpoints(VertxVaultClient owner) {
+        this.endpointsOwner = owner;
+        this.endpoints = owner.endpoints;
+        stopProbing();
+    }
+
+    @Override
+    public void close() {
+        stopProbing();
+    }
+
     // ---
 
     public <T> Uni<T> put(String operation, String path, String token, Object body, int expectedCode) {
-        HttpRequest<Buffer> request = builder(operation, HttpMethod.PUT, path, token);
-        return exec(request, body, null, expectedCode);
+        VaultRequest request = request(operation, HttpMethod.PUT, path, token).body(requestBody(body));
+        return exec(request, null, expectedCode);
     }
 
     public <T> Uni<T> list(String operationName, String path, String token, Class<T> resultClass) {
-        HttpRequest<Buffer> request = builder(operationName, LIST, path, token);
+        VaultRequest request = request(operationName, LIST, path, token);
         return exec(request, resultClass);
     }
 
     public <T> Uni<T> delete(String operationName, String path, String token, int expectedCode) {
-        HttpRequest<Buffer> request = builder(operationName, HttpMethod.DELETE, path, token);
-        return exec(request, expectedCode);
+        VaultRequest request = request(operationName, HttpMethod.DELETE, path, token);
+        return exec(request, null, expectedCode);
     }
 
     public <T> Uni<T> post(String operationName, String path, String token, Object body, Class<T> resultClass,
             int expectedCode) {
-        HttpRequest<Buffer> request = builder(operationName, HttpMethod.POST, path, token);
-        return exec(request, body, resultClass, expectedCode);
+        VaultRequest request = request(operationName, HttpMethod.POST, path, token).body(requestBody(body));
+        return exec(request, resultClass, expectedCode);
     }
 
     public <T> Uni<T> post(String operationName, String path, String token, Object body, Class<T> resultClass) {
@@ -87,73 +231,72 @@ public abstract class VertxVaultClient implements VaultClient {
 
     public <T> Uni<T> post(String operationName, String path, String token, Map<String, String> headers, Object body,
             Class<T> resultClass) {
-        HttpRequest<Buffer> request = builder(operationName, HttpMethod.POST, path, token);
-        headers.forEach(request::putHeader);
-        return exec(request, body, resultClass);
+        VaultRequest request = request(operationName, HttpMethod.POST, path, token).headers(headers)
+                .body(requestBody(body));
+        return exec(request, resultClass);
     }
 
     public <T> Uni<T> post(String operationName, String path, String token, Object body, int expectedCode) {
-        HttpRequest<Buffer> request = builder(operationName, HttpMethod.POST, path, token);
-        return exec(request, body, null, expectedCode);
+        VaultRequest request = request(operationName, HttpMethod.POST, path, token).body(requestBody(body));
+        return exec(request, null, expectedCode);
     }
 
     public <T> Uni<T> put(String operationName, String path, String token, Object body, Class<T> resultClass) {
-        HttpRequest<Buffer> request = builder(operationName, HttpMethod.PUT, path, token);
-        return exec(request, body, resultClass);
+        VaultRequest request = request(operationName, HttpMethod.PUT, path, token).body(requestBody(body));
+        return exec(request, resultClass);
     }
 
     public <T> Uni<T> put(String operationName, String path, Object body, Class<T> resultClass) {
-        HttpRequest<Buffer> request = builder(operationName, HttpMethod.PUT, path);
-        return exec(request, body, resultClass);
+        VaultRequest request = new VaultRequest(operationName, HttpMethod.PUT, path).body(requestBody(body));
+        return exec(request, resultClass);
     }
 
     public <T> Uni<T> get(String operationName, String path, String token, Class<T> resultClass) {
-        HttpRequest<Buffer> request = builder(operationName, HttpMethod.GET, path, token);
+        VaultRequest request = request(operationName, HttpMethod.GET, path, token);
         return exec(request, resultClass);
     }
 
     public <T> Uni<T> get(String operationName, String path, Map<String, String> queryParams, Class<T> resultClass) {
-        final HttpRequest<Buffer> request = builder(operationName, HttpMethod.GET, path, queryParams);
+        VaultRequest request = new VaultRequest(operationName, HttpMethod.GET, path).queryParams(queryParams);
         return exec(request, resultClass);
     }
 
     public Uni<Buffer> get(String operationName, String path, String token) {
-        final HttpRequest<Buffer> request = builder(operationName, HttpMethod.GET, path, token);
-        return request.send().ifNoItem().after(getRequestTimeout())
-                .fail().map(response -> {
+        final VaultRequest request = request(operationName, HttpMethod.GET, path, token);
+        return coalescer.apply(request, Buffer.class, () -> recorded(request, retryPolicy.apply(request,
+                ioFailures(send(request).map(response -> {
                     if (response.statusCode() != 200 && response.statusCode() != 204) {
                         throwVaultException(request, response);
                     }
-                    return response.body();
-                });
+                    Buffer body = response.body();
+                    if (request.event != null && body != null) {
+                        request.event.responseSize = body.length();
+                    }
+                    return body;
+                })))));
     }
 
     public Uni<Integer> head(String operationName, String path) {
-        final HttpRequest<Buffer> request = builder(operationName, HttpMethod.HEAD, path);
+        final VaultRequest request = new VaultRequest(operationName, HttpMethod.HEAD, path);
         return exec(request);
     }
 
     public Uni<Integer> head(String operationName, String path, Map<String, String> queryParams) {
-        final HttpRequest<Buffer> request = builder(operationName, HttpMethod.HEAD, path, queryParams);
+        final VaultRequest request = new VaultRequest(operationName, HttpMethod.HEAD, path).queryParams(queryParams);
         return exec(request);
     }
 
-    private <T> Uni<T> exec(HttpRequest<Buffer> request, Class<T> resultClass) {
-        return exec(request, null, resultClass, 200);
-    }
-
-    private <T> Uni<T> exec(HttpRequest<Buffer> request, int expectedCode) {
-        return exec(request, null, null, expectedCode);
+    private <T> Uni<T> exec(VaultRequest request, Class<T> resultClass) {
+        return exec(request, resultClass, 200);
     }
 
-    private <T> Uni<T> exec(HttpRequest<Buffer> request, Object body, Class<T> resultClass) {
-        return exec(request, body, resultClass, 200);
+    private <T> Uni<T> exec(VaultRequest request, Class<T> resultClass, int expectedCode) {
+        return coalescer.apply(request, Arrays.asList(resultClass, expectedCode),
+                () -> retry(request, resultClass, expectedCode));
     }
 
-    private <T> Uni<T> exec(HttpRequest<Buffer> request, Object body, Class<T> resultClass, int expectedCode) {
-        Uni<HttpResponse<Buffer>> send = body == null ? request.send() : request.sendBuffer(Buffer.buffer(requestBody(body)));
-
-        return send.ifNoItem().after(getRequestTimeout()).failWith(TimeoutException::new)
+    private <T> Uni<T> retry(VaultRequest request, Class<T> resultClass, int expectedCode) {
+        return recorded(request, retryPolicy.apply(request, ioFailures(send(request)
                 .map(Unchecked.function(response -> {
                     if (response.statusCode() != expectedCode) {
                         if (!handleWarningResponse(response, expectedCode)) {
@@ -163,17 +306,31 @@ public abstract class VertxVaultClient implements VaultClient {
 
                     Buffer responseBuffer = response.body();
                     if (responseBuffer != null && resultClass != null) {
-                        var result = mapper.readValue(responseBuffer.toString(), resultClass);
+                        long start = System.nanoTime();
+                        T result = readValue(responseBuffer, resultClass);
+                        if (request.event != null) {
+                            request.event.responseSize = responseBuffer.length();
+                            request.event.deserializationTime = System.nanoTime() - start;
+                        }
                         logResultWarnings(result);
                         return result;
                     } else {
                         return null;
                     }
                 }))
-                .onFailure(JsonProcessingException.class).transform(VaultException::new)
+                .onFailure(JsonProcessingException.class).transform(VaultException::new))));
+    }
+
+    /**
+     * Maps connection failures and timeouts to {@link VaultIOException}, so that the retry policy sees them as
+     * transient.
+     */
+    private static <T> Uni<T> ioFailures(Uni<T> send) {
+        return send
                 .onFailure(io.smallrye.mutiny.TimeoutException.class).transform(VaultIOException::new)
+                .onFailure(ConnectException.class).transform(VaultIOException::new)
                 .onFailure(VertxException.class).transform(e -> {
-                    if ("Connection was closed".equals(e.getMessage())) {
+                    if (isConnectionClosed(e)) {
                         // happens if the connection gets closed (idle timeout, reset by peer, ...)
                         return new VaultIOException(e);
                     } else {
@@ -191,13 +348,223 @@ public abstract class VertxVaultClient implements VaultClient {
                         return e;
                     }
                 });
+    }
+
+    private Uni<Integer> exec(VaultRequest request) {
+        return recorded(request, send(request).onItem().transform(HttpResponse::statusCode));
+    }
+
+    @Override
+    public <T> Uni<T> traced(String name, Uni<T> operation) {
+        return tracing.trace(name, null, operation);
+    }
 
+    /**
+     * Records the request as a client span, and as a {@link VaultRequestEvent} when the event is enabled.
+     */
+    private <T> Uni<T> recorded(VaultRequest request, Uni<T> send) {
+        return tracing.trace(request.operationName, request, VaultEvent.record(() -> {
+            VaultRequestEvent event = new VaultRequestEvent();
+            if (event.isEnabled()) {
+                event.operation = request.operationName;
+                event.method = request.method.name();
+                event.path = request.path;
+                event.requestSize = request.body == null ? 0 : request.body.length;
+                request.event = event;
+            }
+            return event;
+        }, send, null));
+    }
+
+    /**
+     * Sends a request, hedged if it is slower than usual.
+     */
+    private Uni<HttpResponse<Buffer>> send(VaultRequest request) {
+        return Uni.createFrom().deferred(() -> {
+            startProbing();
+            return hedging.apply(request, () -> attempt(request));
+        });
+    }
+
+    /**
+     * Sends a request to the node selected for it, within the node's circuit breaker and concurrency limit.
+     */
+    private Uni<HttpResponse<Buffer>> attempt(VaultRequest request) {
+        return Uni.createFrom().context(context -> {
+            VaultEndpoints endpoints = this.endpoints;
+            VaultEndpoints.Endpoint endpoint = endpoints.select(request);
+            VaultCircuitBreaker circuitBreaker = endpoint.getCircuitBreaker();
+            if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+                metrics.circuitBreakerRejections.increment();
+                return Uni.createFrom().failure(new VaultCircuitBreakerOpenException(
+                        request.operationName + " rejected: circuit breaker of vault node " + endpoint.getUrl()
+                                + " is open"));
+            }
+            VaultConcurrencyLimiter limiter = endpoint.getConcurrencyLimiter();
+            if (limiter == null) {
+                return exchange(request, endpoints, endpoint, 0);
+            }
+            long queued = System.nanoTime();
+            return limiter.acquire(VaultRequestPriority.of(context))
+                    .onFailure().invoke(() -> releaseCircuitBreaker(circuitBreaker))
+                    .onCancellation().invoke(() -> releaseCircuitBreaker(circuitBreaker))
+                    .onItem().transformToUni(ignored -> exchange(request, endpoints, endpoint, System.nanoTime() - queued));
+        });
     }
 
-    private boolean handleWarningResponse(HttpResponse<?> response, int expectedCode) {
+    private static void releaseCircuitBreaker(VaultCircuitBreaker circuitBreaker) {
+        if (circuitBreaker != null) {
+            circuitBreaker.release();
+        }
+    }
+
+    /**
+     * Sends a request to a node, and tracks the node's load, latency and failures.
+     */
+    private Uni<HttpResponse<Buffer>> exchange(VaultRequest request, VaultEndpoints endpoints,
+            VaultEndpoints.Endpoint endpoint, long queueWait) {
+        HttpRequest<Buffer> httpRequest = builder(request, endpoint.getUrl());
+        Uni<HttpResponse<Buffer>> send = request.body == null ? httpRequest.send()
+                : httpRequest.sendBuffer(Buffer.buffer(request.body));
+        long start = System.nanoTime();
+        metrics.requests.increment();
+        endpoints.started(endpoint);
+        VaultRequestEvent event = request.event;
+        if (event != null) {
+            event.attemptStarted(queueWait);
+        }
+        return send.ifNoItem().after(getRequestTimeout()).fail()
+                .onItemOrFailure().invoke((response, failure) -> {
+                    long latency = System.nanoTime() - start;
+                    boolean ioFailure = failure != null && isIOFailure(failure);
+                    int status = failure == null ? response.statusCode() : -1;
+                    if (status == 429) {
+                        rateLimited(endpoint, response);
+                    }
+                    VaultCircuitBreaker circuitBreaker = endpoint.getCircuitBreaker();
+                    if (circuitBreaker != null) {
+                        circuitBreaker.record(ioFailure || isUnavailable(status), latency);
+                    }
+                    VaultConcurrencyLimiter limiter = endpoint.getConcurrencyLimiter();
+                    if (limiter != null) {
+                        limiter.release(latency, ioFailure || status == 429 || status == 503);
+                    }
+                    if (failure != null ? ioFailure : status == 503) {
+                        endpoints.failed(endpoint);
+                        if (endpoints.isCluster()) {
+                            log.debug("ejected vault node " + endpoint.getUrl() + " after " + request.operationName
+                                    + " failure");
+                        }
+                    } else {
+                        endpoints.succeeded(endpoint, latency);
+                        if (failure == null) {
+                            hedging.record(request, latency);
+                        }
+                    }
+                    if (status >= 200 && status < 300) {
+                        firstSuccess(request);
+                    }
+                    if (request.span != null) {
+                        request.span.attempted(endpoint.getUrl(), status);
+                    }
+                    if (event != null) {
+                        event.attemptCompleted(endpoint.getUrl().toString(), status, latency);
+                    }
+                })
+                .onCancellation().invoke(() -> endpoints.cancelled(endpoint));
+    }
+
+    private void firstSuccess(VaultRequest request) {
+        if (metrics.timeToFirstSuccess.get() < 0
+                && metrics.timeToFirstSuccess.compareAndSet(-1, System.nanoTime() - createdAt)) {
+            log.info("first successful vault request " + request.operationName + " after "
+                    + metrics.getTimeToFirstSuccess().toMillis() + "ms");
+        }
+    }
+
+    private void rateLimited(VaultEndpoints.Endpoint endpoint, HttpResponse<Buffer> response) {
+        metrics.rateLimited.increment();
+        VaultConcurrencyLimiter limiter = endpoint.getConcurrencyLimiter();
+        String retryAfter = response.getHeader("Retry-After");
+        if (limiter == null || retryAfter == null) {
+            return;
+        }
+        try {
+            limiter.retryAfter(Duration.ofSeconds(Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            // Vault sends a number of seconds, ignore HTTP dates
+            log.debug("ignoring Retry-After " + retryAfter + " from vault node " + endpoint.getUrl());
+        }
+    }
+
+    private static boolean isUnavailable(int statusCode) {
+        return statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+
+    private static boolean isIOFailure(Throwable failure) {
+        if (failure instanceof java.util.concurrent.TimeoutException) {
+            return true;
+        }
+        if (failure instanceof VertxException) {
+            return isConnectionClosed(failure);
+        }
+        return failure instanceof CompletionException
+                && (failure.getCause() instanceof ConnectException
+                        || failure.getCause() instanceof java.util.concurrent.TimeoutException)
+                || failure instanceof ConnectException;
+    }
+
+    private static boolean isConnectionClosed(Throwable failure) {
+        return "Connection was closed".equals(failure.getMessage());
+    }
+
+    private void startProbing() {
+        VertxVaultClient owner = endpointsOwner;
+        if (owner != this) {
+            owner.startProbing();
+            return;
+        }
+        if (!endpoints.isCluster() || prober.get() != null) {
+            return;
+        }
+        long interval = probeInterval.toMillis();
+        ScheduledFuture<?> scheduled = Infrastructure.getDefaultWorkerPool().scheduleAtFixedRate(this::probe,
+                0, interval, TimeUnit.MILLISECONDS);
+        if (!prober.compareAndSet(null, scheduled)) {
+            scheduled.cancel(false);
+        } else if (endpointsOwner != this) {
+            // shared concurrently
+            stopProbing();
+        }
+    }
+
+    private void stopProbing() {
+        ScheduledFuture<?> prober = this.prober.getAndSet(null);
+        if (prober != null) {
+            prober.cancel(false);
+        }
+    }
+
+    private void probe() {
+        for (VaultEndpoints.Endpoint endpoint : endpoints.getEndpoints()) {
+            httpRequest(HttpMethod.GET, endpoint.getUrl(), "sys/health", "VAULT [SYS] Probe").send()
+                    .ifNoItem().after(getRequestTimeout()).fail()
+                    .subscribe().with(
+                            response -> endpoints.probed(endpoint, new VaultHealth(response.statusCode())),
+                            e -> {
+                                if (!endpoint.isEjected()) {
+                                    log.warn("vault node " + endpoint.getUrl() + " failed health probe: " + e);
+                                }
+                                endpoints.probeFailed(endpoint);
+                            });
+        }
+    }
+
+    private boolean handleWarningResponse(HttpResponse<Buffer> response, int expectedCode) throws IOException {
         if (expectedCode == 204 && response.statusCode() == 200) {
-            var result = response.bodyAsJson(AbstractVaultDTO.class);
-            logResultWarnings(result);
+            if (response.body() != null) {
+                logResultWarnings(readValue(response.body(), AbstractVaultDTO.class));
+            }
             return true;
         }
         return false;
@@ -215,33 +582,25 @@ public abstract class VertxVaultClient implements VaultClient {
         }
     }
 
-    private Duration getRequestTimeout() {
+    protected Duration getRequestTimeout() {
         return requestTimeout;
     }
 
-    private Uni<Integer> exec(HttpRequest<Buffer> request) {
-        return request.send()
-                .ifNoItem().after(getRequestTimeout()).failWith(TimeoutException::new)
-                .onItem().transform(HttpResponse::statusCode);
-    }
-
-    private void throwVaultException(HttpRequest<?> request, HttpResponse<Buffer> response) {
+    private void throwVaultException(VaultRequest request, HttpResponse<Buffer> response) {
         String body = null;
         try {
             body = response.body().toString();
         } catch (Exception e) {
             // ignore
         }
-        throw new VaultClientException(request.traceOperation(), request.uri(), response.statusCode(), body);
+        throw new VaultClientException(request.operationName, "/" + API_VERSION + "/" + request.path,
+                response.statusCode(), body);
     }
 
-    private HttpRequest<Buffer> builder(String operationName, HttpMethod method, String path, String token) {
-        HttpRequest<Buffer> request = builder(operationName, method, path);
-        if (token != null) {
-            request.putHeader(X_VAULT_TOKEN, token);
-        }
+    private VaultRequest request(String operationName, HttpMethod method, String path, String token) {
+        VaultRequest request = new VaultRequest(operationName, method, path).token(token);
         if (namespace.isPresent() && !isRootNamespaceAPI(path)) {
-            request.putHeader(X_VAULT_NAMESPACE, namespace.get());
+            request.headers(Map.of(X_VAULT_NAMESPACE, namespace.get()));
         }
         return request;
     }
@@ -250,30 +609,44 @@ public abstract class VertxVaultClient implements VaultClient {
         return ROOT_NAMESPACE_API.stream().anyMatch(path::startsWith);
     }
 
-    private HttpRequest<Buffer> builder(String operationName, HttpMethod method, String path) {
-        RequestOptions options = new RequestOptions()
-                .setAbsoluteURI(getUrl(path))
-                .setTraceOperation(operationName);
-        return getWebClient().request(method, options);
+    private HttpRequest<Buffer> builder(VaultRequest request, URL baseUrl) {
+        HttpRequest<Buffer> httpRequest = httpRequest(request.method, baseUrl, request.path, request.operationName);
+        if (request.token != null) {
+            httpRequest.putHeader(X_VAULT_TOKEN, request.token);
+        }
+        request.headers.forEach(httpRequest::putHeader);
+        if (request.queryParams != null) {
+            request.queryParams.forEach(httpRequest::addQueryParam);
+        }
+        return httpRequest;
     }
 
-    private HttpRequest<Buffer> builder(String operationName, HttpMethod method, String path, Map<String, String> queryParams) {
-        HttpRequest<Buffer> request = builder(operationName, method, path);
-        if (queryParams != null) {
-            queryParams.forEach(request::addQueryParam);
+    private HttpRequest<Buffer> httpRequest(HttpMethod method, URL baseUrl, String path, String operationName) {
+        RequestOptions options = new RequestOptions().setTraceOperation(operationName);
+        if (isUnixDomainSocket(baseUrl)) {
+            options.setHost("localhost").setURI("/" + API_VERSION + "/" + path);
+            return getWebClient().request(method, SocketAddress.domainSocketAddress(baseUrl.getPath()), options);
         }
-        return request;
+        return getWebClient().request(method, options.setAbsoluteURI(getUrl(baseUrl, path)));
     }
 
-    private String requestBody(Object body) {
+    private <T> T readValue(Buffer buffer, Class<T> resultClass) throws IOException {
+        // parse the bytes directly, rather than decoding them to a string first
+        return readers.computeIfAbsent(resultClass, mapper::readerFor).readValue(buffer.getBytes());
+    }
+
+    private byte[] requestBody(Object body) {
+        if (body == null) {
+            return null;
+        }
         try {
-            return mapper.writeValueAsString(body);
+            return writer.writeValueAsBytes(body);
         } catch (JsonProcessingException e) {
             throw new VaultException(e);
         }
     }
 
-    private URL getUrl(String path) {
+    private URL getUrl(URL baseUrl, String path) {
         try {
             return new URL(baseUrl, API_VERSION + "/" + path);
         } catch (MalformedURLException e) {
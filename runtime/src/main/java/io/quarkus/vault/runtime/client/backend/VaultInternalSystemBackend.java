@@ -90,6 +90,11 @@ public class VaultInternalSystemBackend extends VaultInternalBase {
         return vaultClient.put(opName("Renew Lease"), "sys/leases/renew", token, body, VaultRenewLease.class);
     }
 
+    public Uni<Void> revokeLease(VaultClient vaultClient, String token, String leaseId) {
+        VaultLeasesBody body = new VaultLeasesBody(leaseId);
+        return vaultClient.put(opName("Revoke Lease"), "sys/leases/revoke", token, body, 204);
+    }
+
     public Uni<Void> enableEngine(VaultClient vaultClient, String token, String mount, VaultEnableEngineBody body) {
         return vaultClient.post(opName("Enable Engine"), "sys/mounts/" + mount, token, body, 204);
     }
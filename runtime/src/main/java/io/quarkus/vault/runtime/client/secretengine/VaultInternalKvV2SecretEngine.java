@@ -30,6 +30,12 @@ public class VaultInternalKvV2SecretEngine extends VaultInternalBase {
         return vaultClient.delete(opName("Delete Secret"), secretEnginePath + "/data/" + path, token, 204);
     }
 
+    public Uni<VaultKvSecretV2MetadataResult> getSecretMetadata(VaultClient vaultClient, String token,
+            String secretEnginePath, String path) {
+        return vaultClient.get(opName("Get Secret Metadata"), secretEnginePath + "/metadata/" + path, token,
+                VaultKvSecretV2MetadataResult.class);
+    }
+
     public Uni<VaultKvListSecrets> listSecrets(VaultClient vaultClient, String token, String secretEnginePath, String path) {
         return vaultClient.list(opName("List Secrets"), secretEnginePath + "/metadata/" + path, token,
                 VaultKvListSecrets.class);
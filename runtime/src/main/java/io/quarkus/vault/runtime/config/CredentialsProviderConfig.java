@@ -2,9 +2,12 @@ package io.quarkus.vault.runtime.config;
 
 import static io.quarkus.credentials.CredentialsProvider.PASSWORD_PROPERTY_NAME;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
 import io.smallrye.config.WithDefault;
 
 @ConfigGroup
@@ -12,6 +15,7 @@ public interface CredentialsProviderConfig {
     String DATABASE_DEFAULT_MOUNT = "database";
     String RABBITMQ_DEFAULT_MOUNT = "rabbitmq";
     String DEFAULT_REQUEST_PATH = "creds";
+    String DEFAULT_KV_CACHE_PERIOD = "1M";
 
     /**
      * Database credentials role, as defined by
@@ -61,6 +65,25 @@ public interface CredentialsProviderConfig {
     @WithDefault(DEFAULT_REQUEST_PATH)
     String credentialsRequestPath();
 
+    /**
+     * Overlap between two generations of dynamic credentials.
+     * <p>
+     * By default, new credentials are created when the current ones are about to reach their max ttl, and the
+     * connections opened with the current ones fail when they expire. When an overlap is set, the next credentials
+     * are created that much earlier, while the current ones are still valid. The current lease is then left to drain
+     * for the duration of the overlap, and revoked at the end of it. Connection pools with a max lifetime shorter
+     * than the overlap replace their connections gradually.
+     * <p>
+     * The overlap is capped to half of the lease duration, and to the lease duration minus the `renew-grace-period`,
+     * so that new credentials are not rotated right after their creation.
+     * <p>
+     * Only used when `credentials-role` is defined.
+     *
+     * @asciidoclet
+     */
+    @WithConverter(DurationConverter.class)
+    Optional<Duration> credentialsRotationOverlap();
+
     /**
      * A path in vault kv store, where we will find the kv-key.
      * <p>
@@ -84,6 +107,33 @@ public interface CredentialsProviderConfig {
     @WithDefault(PASSWORD_PROPERTY_NAME)
     String kvKey();
 
+    /**
+     * Cache period of the credentials read from `kv-path`.
+     * <p>
+     * Connection pools ask for credentials every time they open a connection. The value read from Vault is
+     * reused for that period, and returned with an expiration timestamp at the end of it. Past half of the
+     * period, the next request refreshes the value in the background while the cached value is still returned.
+     * <p>
+     * Set to `0` to read the value from Vault on every request.
+     * <p>
+     * Only used when `kv-path` is defined.
+     *
+     * @asciidoclet
+     */
+    @WithDefault(DEFAULT_KV_CACHE_PERIOD)
+    @WithConverter(DurationConverter.class)
+    Duration kvCachePeriod();
+
+    /**
+     * What to do when the credentials cannot be resolved at startup.
+     * <p>
+     * Only used when `quarkus.vault.prewarm.credentials-providers` is enabled.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("warn")
+    VaultPrewarmFailure prewarmFailure();
+
     @Override
     String toString();
 }
@@ -0,0 +1,58 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface HealthRuntimeConfig {
+
+    /**
+     * Interval at which Vault health is polled in the background.
+     * <p>
+     * Readiness probes report the latest polled status instead of calling Vault themselves.
+     * Set to `0` to disable background polling, probes then call Vault, subject to `cache-ttl`.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("10S")
+    @WithConverter(DurationConverter.class)
+    Duration pollInterval();
+
+    /**
+     * Period during which a health status is reused without calling Vault again.
+     * <p>
+     * This coalesces concurrent probes, and probes following a background poll, into a single request. When the
+     * latest status is older than the poll interval (e.g. the background poll is late), a probe triggers a new
+     * request, shared with all the probes received in the meantime.
+     */
+    @WithDefault("1S")
+    @WithConverter(DurationConverter.class)
+    Duration cacheTtl();
+
+    /**
+     * Deprecated, build time, see {@link HealthConfig#enabled()}. Mapped so that the config source factory, which maps
+     * this config on its own, does not reject it as unknown.
+     */
+    @Deprecated
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Deprecated, build time, see {@link HealthConfig#standByOk()}.
+     */
+    @Deprecated
+    @WithDefault("false")
+    boolean standByOk();
+
+    /**
+     * Deprecated, build time, see {@link HealthConfig#performanceStandByOk()}.
+     */
+    @Deprecated
+    @WithDefault("false")
+    boolean performanceStandByOk();
+
+}
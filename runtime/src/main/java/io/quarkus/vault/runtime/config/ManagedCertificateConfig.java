@@ -0,0 +1,93 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ManagedCertificateConfig {
+
+    String DEFAULT_MOUNT = "pki";
+
+    /**
+     * Mount of the PKI secret engine issuing the certificate.
+     */
+    @WithDefault(DEFAULT_MOUNT)
+    String mount();
+
+    /**
+     * Role used to issue the certificate.
+     */
+    String role();
+
+    /**
+     * Common name of the certificate subject.
+     */
+    Optional<String> commonName();
+
+    /**
+     * DNS names and email addresses added as subject alternative names.
+     */
+    Optional<List<String>> altNames();
+
+    /**
+     * IP addresses added as subject alternative names.
+     */
+    Optional<List<String>> ipSans();
+
+    /**
+     * Requested time to live of the certificate, e.g. `72h`. Defaults to the role's time to live.
+     *
+     * @asciidoclet
+     */
+    Optional<String> ttl();
+
+    /**
+     * How long before its expiration the certificate is renewed.
+     * <p>
+     * By default the certificate is renewed once two thirds of its validity period have elapsed.
+     */
+    @WithConverter(DurationConverter.class)
+    Optional<Duration> renewBefore();
+
+    /**
+     * Generate the key pair locally and have Vault sign a certificate request, instead of having Vault generate
+     * the key pair.
+     */
+    @WithDefault("false")
+    boolean localKey();
+
+    /**
+     * Use the certificate as the server certificate of the Quarkus HTTPS server.
+     * <p>
+     * The HTTPS server must be enabled, e.g. through `quarkus.http.ssl.certificate.files`. Its key and trust
+     * options are replaced by the managed certificate, and the issuing CA chain (used to validate client
+     * certificates when `quarkus.http.ssl.client-auth` is set).
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean httpServer();
+
+    /**
+     * Maximum time the startup of the HTTPS server waits for the certificate to be issued, when `http-server` is
+     * set. Startup fails if the certificate is not issued in time.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("1M")
+    @WithConverter(DurationConverter.class)
+    Duration issueTimeout();
+
+    /**
+     * Use the certificate as the client certificate presented by the Vault client.
+     */
+    @WithDefault("false")
+    boolean vaultClient();
+
+}
@@ -3,6 +3,7 @@ package io.quarkus.vault.runtime.config;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
 
 @ConfigGroup
 public interface VaultAuthenticationConfig {
@@ -24,6 +25,16 @@ public interface VaultAuthenticationConfig {
      */
     Optional<String> clientTokenWrappingToken();
 
+    /**
+     * Rely on the auto-auth token of the Vault Agent or Proxy the client talks to (`use_auto_auth_token` in its
+     * `api_proxy` configuration). Requests are sent without a Vault token, and the Agent adds its own. No login
+     * is performed by the extension, and lease renewal does not apply.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean agentAutoAuth();
+
     /**
      * AppRole authentication method
      * <p>
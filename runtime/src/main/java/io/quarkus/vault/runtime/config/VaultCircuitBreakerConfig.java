@@ -0,0 +1,74 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultCircuitBreakerConfig {
+
+    /**
+     * Enable a circuit breaker per Vault node.
+     * <p>
+     * Once the rate of failed (connection failure, timeout, `502`, `503` or `504` response) or slow requests crosses
+     * its threshold, the breaker opens and requests fail immediately with a `VaultIOException` instead of waiting
+     * for the read timeout. After `open-duration`, a few requests are let through to probe the node: the breaker
+     * closes if they succeed, and opens again otherwise.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Number of most recent requests used to compute the failure and slow request rates.
+     */
+    @WithDefault("20")
+    int windowSize();
+
+    /**
+     * Minimum number of requests in the window before the breaker may open.
+     */
+    @WithDefault("10")
+    int minimumRequests();
+
+    /**
+     * Rate of failed requests in the window, between `0` and `1`, above which the breaker opens.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("0.5")
+    double failureRateThreshold();
+
+    /**
+     * Duration above which a request is considered slow.
+     */
+    @WithDefault("5S")
+    @WithConverter(DurationConverter.class)
+    Duration slowRequestDuration();
+
+    /**
+     * Rate of slow requests in the window, between `0` and `1`, above which the breaker opens.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("1")
+    double slowRequestRateThreshold();
+
+    /**
+     * Duration the breaker stays open before letting probe requests through.
+     */
+    @WithDefault("10S")
+    @WithConverter(DurationConverter.class)
+    Duration openDuration();
+
+    /**
+     * Number of successful probe requests needed to close the breaker.
+     */
+    @WithDefault("3")
+    int halfOpenRequests();
+
+}
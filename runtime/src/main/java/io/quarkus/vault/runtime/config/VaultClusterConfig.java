@@ -0,0 +1,47 @@
+package io.quarkus.vault.runtime.config;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultClusterConfig {
+
+    /**
+     * Urls of the other nodes of the Vault cluster, in addition to `quarkus.vault.url`.
+     * <p>
+     * Example: https://vault-1:8200,https://vault-2:8200
+     * <p>
+     * When set, the role of every node is discovered through `sys/health`. Requests are sent to the active node,
+     * and reads that a performance standby can serve (see `standby-reads`) are sent to the least loaded performance
+     * standby. Nodes failing to respond are ejected until a health probe succeeds again.
+     *
+     * @asciidoclet
+     */
+    Optional<List<URL>> nodes();
+
+    /**
+     * Send reads to performance standby nodes.
+     * <p>
+     * Reads are `GET` and `LIST` requests (except dynamic credentials, which create leases), and transit encrypt,
+     * decrypt, sign and verify operations.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("true")
+    boolean standbyReads();
+
+    /**
+     * Interval at which the role and health of every node is probed.
+     */
+    @WithDefault("5S")
+    @WithConverter(DurationConverter.class)
+    Duration probeInterval();
+
+}
@@ -0,0 +1,27 @@
+package io.quarkus.vault.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultCoalescingConfig {
+
+    /**
+     * Coalesce identical concurrent reads into a single request.
+     * <p>
+     * `GET` and `LIST` requests (except dynamic credentials) with the same path, query parameters, namespace and token
+     * share the response of the request already in flight, and receive the same deserialized result. Callers must
+     * therefore not modify the objects returned by the engines.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Maximum number of distinct requests tracked for coalescing, beyond which requests are sent without it.
+     */
+    @WithDefault("1000")
+    int maxInFlight();
+
+}
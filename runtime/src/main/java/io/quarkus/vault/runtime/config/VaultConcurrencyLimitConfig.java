@@ -0,0 +1,70 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultConcurrencyLimitConfig {
+
+    /**
+     * Limit the number of requests in flight to each Vault node.
+     * <p>
+     * The limit adapts to the node: it grows by one every `limit` successful requests, and shrinks by `backoff-ratio`
+     * when a request fails with an I/O error, is rejected by a rate limit quota (`429`) or a standby (`503`), or takes
+     * longer than `latency-threshold`. Requests above the limit wait in a queue, interactive requests first. A `429`
+     * response also holds the queue for the duration of its `Retry-After` header.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Initial number of concurrent requests.
+     */
+    @WithDefault("20")
+    int initialLimit();
+
+    /**
+     * Minimum number of concurrent requests.
+     */
+    @WithDefault("2")
+    int minLimit();
+
+    /**
+     * Maximum number of concurrent requests.
+     */
+    @WithDefault("200")
+    int maxLimit();
+
+    /**
+     * Factor applied to the limit when Vault shows signs of overload.
+     */
+    @WithDefault("0.9")
+    double backoffRatio();
+
+    /**
+     * Duration above which a request is considered a sign of overload.
+     */
+    @WithDefault("1S")
+    @WithConverter(DurationConverter.class)
+    Duration latencyThreshold();
+
+    /**
+     * Maximum number of requests waiting for the limit, beyond which requests are rejected immediately.
+     */
+    @WithDefault("500")
+    int maxQueueSize();
+
+    /**
+     * Maximum duration a request waits for the limit before being rejected.
+     */
+    @WithDefault("2S")
+    @WithConverter(DurationConverter.class)
+    Duration maxQueueWait();
+
+}
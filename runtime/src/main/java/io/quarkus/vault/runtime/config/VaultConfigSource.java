@@ -17,7 +17,9 @@ import org.jboss.logging.Logger;
 import io.quarkus.arc.Arc;
 import io.quarkus.vault.VaultException;
 import io.quarkus.vault.VaultKVSecretReactiveEngine;
+import io.quarkus.vault.runtime.VaultBlocking;
 import io.quarkus.vault.runtime.VaultIOException;
+import io.quarkus.vault.runtime.VaultSnapshot;
 import io.quarkus.vault.runtime.client.Private;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 
@@ -25,6 +27,8 @@ public class VaultConfigSource implements ConfigSource {
 
     private static final Logger log = Logger.getLogger(VaultConfigSource.class);
 
+    private static final String SNAPSHOT_KEY = "config";
+
     private AtomicReference<VaultCacheEntry<Map<String, String>>> cache = new AtomicReference<>(null);
     private VaultRuntimeConfig vaultRuntimeConfig;
     private volatile boolean firstTime = true;
@@ -78,6 +82,14 @@ public class VaultConfigSource implements ConfigSource {
         Map<String, String> properties = new HashMap<>();
 
         if (firstTime) {
+            Map<String, String> snapshot = readSnapshot();
+            if (snapshot != null) {
+                log.debug("loaded " + snapshot.size() + " properties from the vault snapshot, refreshing them");
+                firstTime = false;
+                cache.set(new VaultCacheEntry<>(snapshot));
+                Infrastructure.getDefaultWorkerPool().execute(this::refreshSnapshot);
+                return snapshot;
+            }
             log.debug("fetch secrets first time with attempts = " + vaultRuntimeConfig.mpConfigInitialAttempts());
             fetchSecretsFirstTime(properties);
             firstTime = false;
@@ -91,9 +103,37 @@ public class VaultConfigSource implements ConfigSource {
         }
 
         cache.set(new VaultCacheEntry<>(properties));
+        if (vaultRuntimeConfig.snapshot().enabled()) {
+            getVaultSnapshot().put(SNAPSHOT_KEY, properties);
+        }
         return properties;
     }
 
+    private Map<String, String> readSnapshot() {
+        if (!vaultRuntimeConfig.snapshot().enabled()) {
+            return null;
+        }
+        try {
+            return VaultBlocking.await(getVaultSnapshot().get(SNAPSHOT_KEY));
+        } catch (RuntimeException e) {
+            log.warn("unable to read the vault snapshot: " + e);
+            return null;
+        }
+    }
+
+    private void refreshSnapshot() {
+        Map<String, String> properties = new HashMap<>();
+        try {
+            fetchSecrets(properties);
+        } catch (RuntimeException e) {
+            log.warn("unable to refresh the properties of the vault snapshot, keeping them: " + e);
+            return;
+        }
+        log.debug("refreshed " + properties.size() + " properties of the vault snapshot");
+        cache.set(new VaultCacheEntry<>(properties));
+        getVaultSnapshot().put(SNAPSHOT_KEY, properties);
+    }
+
     private void fetchSecretsFirstTime(Map<String, String> properties) {
         VaultIOException last = null;
         for (int i = 0; i < vaultRuntimeConfig.mpConfigInitialAttempts(); i++) {
@@ -130,7 +170,7 @@ public class VaultConfigSource implements ConfigSource {
 
     private Map<String, String> fetchSecrets(String path, String prefix) {
 
-        Map<String, Object> secretJson = getVaultKVSecretEngine().readSecretJson(path).await().indefinitely();
+        Map<String, Object> secretJson = VaultBlocking.await(getVaultKVSecretEngine().readSecretJson(path));
 
         // ignore list and map, honor null, get as string scalar types
         Map<String, String> secret = secretJson.entrySet().stream()
@@ -141,6 +181,10 @@ public class VaultConfigSource implements ConfigSource {
         return prefixMap(secret, prefix);
     }
 
+    private VaultSnapshot getVaultSnapshot() {
+        return Arc.container().instance(VaultSnapshot.class).get();
+    }
+
     private VaultKVSecretReactiveEngine getVaultKVSecretEngine() {
         return Arc.container().instance(VaultKVSecretReactiveEngine.class, Private.Literal.INSTANCE).get();
     }
@@ -10,8 +10,21 @@ import io.quarkus.arc.ArcContainer;
 import io.quarkus.vault.runtime.VaultConfigHolder;
 import io.smallrye.config.ConfigSourceContext;
 import io.smallrye.config.ConfigSourceFactory.ConfigurableConfigSourceFactory;
+import io.smallrye.config.SmallRyeConfigBuilder;
 
 public class VaultConfigSourceFactory implements ConfigurableConfigSourceFactory<VaultRuntimeConfig> {
+    @Override
+    public Iterable<ConfigSource> getConfigSources(final ConfigSourceContext context) {
+        // the properties of the named clients, quarkus.vault."name".*, are not part of the mapping
+        VaultRuntimeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new ConfigSourceContext.ConfigSourceContextConfigSource(context))
+                .withMapping(VaultRuntimeConfig.class)
+                .withValidateUnknown(false)
+                .build()
+                .getConfigMapping(VaultRuntimeConfig.class);
+        return getConfigSources(context, config);
+    }
+
     @Override
     public Iterable<ConfigSource> getConfigSources(final ConfigSourceContext context, final VaultRuntimeConfig config) {
         if (config.url().isPresent()) {
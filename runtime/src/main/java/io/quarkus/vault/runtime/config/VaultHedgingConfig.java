@@ -0,0 +1,40 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultHedgingConfig {
+
+    /**
+     * Send a second, hedged, request when a read takes longer than usual, and use the first response.
+     * <p>
+     * Only requests that are safe to send twice are hedged: reads (except dynamic credentials) and transit encrypt,
+     * decrypt, rewrap, sign and verify operations. The hedging delay is the `percentile` of the recent latencies of
+     * the same operation.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Latency percentile, between `0` and `1`, after which a hedged request is sent.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("0.95")
+    double percentile();
+
+    /**
+     * Minimum delay before sending a hedged request, to avoid doubling the load of fast operations.
+     */
+    @WithDefault("5MS")
+    @WithConverter(DurationConverter.class)
+    Duration minDelay();
+
+}
@@ -3,9 +3,12 @@ package io.quarkus.vault.runtime.config;
 import static io.quarkus.vault.runtime.config.VaultRuntimeConfig.DEFAULT_KUBERNETES_AUTH_MOUNT_PATH;
 import static io.quarkus.vault.runtime.config.VaultRuntimeConfig.DEFAULT_KUBERNETES_JWT_TOKEN_PATH;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
 import io.smallrye.config.WithDefault;
 
 @ConfigGroup
@@ -25,6 +28,19 @@ public interface VaultKubernetesAuthenticationConfig {
     @WithDefault(DEFAULT_KUBERNETES_JWT_TOKEN_PATH)
     String jwtTokenPath();
 
+    /**
+     * Interval at which the file at `jwt-token-path` is checked for changes.
+     * <p>
+     * The token is read once and kept in memory. Projected service account tokens are rotated on disk by the
+     * kubelet, so the file is checked in the background, and a new login is made as soon as the token changes.
+     * Set to `0` to read the token again on each login instead.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("30S")
+    @WithConverter(DurationConverter.class)
+    Duration jwtTokenCheckInterval();
+
     /**
      * Allows configure Kubernetes authentication mount path.
      */
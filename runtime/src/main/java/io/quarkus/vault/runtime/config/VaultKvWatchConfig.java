@@ -0,0 +1,41 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultKvWatchConfig {
+
+    /**
+     * Interval between two polls of the secrets metadata, right after a change was detected.
+     */
+    @WithDefault("5S")
+    @WithConverter(DurationConverter.class)
+    Duration minInterval();
+
+    /**
+     * Maximum interval between two polls of the secrets metadata. The interval doubles after every poll that did
+     * not detect any change or that failed, up to that value.
+     */
+    @WithDefault("1M")
+    @WithConverter(DurationConverter.class)
+    Duration maxInterval();
+
+    /**
+     * Random variation of the interval between two polls, as a fraction of the interval, so that the pods of
+     * a deployment do not poll Vault at the same time.
+     */
+    @WithDefault("0.2")
+    double jitter();
+
+    /**
+     * Maximum number of metadata requests in flight during a poll.
+     */
+    @WithDefault("8")
+    int concurrency();
+
+}
@@ -0,0 +1,65 @@
+package io.quarkus.vault.runtime.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.microprofile.config.Config;
+
+import io.quarkus.vault.VaultException;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Configuration of the named Vault clients, read from {@code quarkus.vault."name".*} with the same properties as
+ * the default client under {@code quarkus.vault.*}. Named clients do not inherit the properties of the default
+ * client.
+ */
+public final class VaultNamedConfigs {
+
+    static final String PREFIX = "quarkus.vault.";
+    static final String URL = "url";
+
+    private VaultNamedConfigs() {
+    }
+
+    /**
+     * Names of the clients with a {@code quarkus.vault."name".url}.
+     */
+    public static Set<String> names(Config config) {
+        Set<String> names = new TreeSet<>();
+        for (String property : config.getPropertyNames()) {
+            if (property.startsWith(PREFIX) && property.endsWith("." + URL)
+                    && property.length() > PREFIX.length() + URL.length() + 1) {
+                String name = property.substring(PREFIX.length(), property.length() - URL.length() - 1);
+                if (name.startsWith("\"") && name.endsWith("\"") && name.length() > 1) {
+                    names.add(name.substring(1, name.length() - 1));
+                } else if (!name.isEmpty() && !name.contains(".")) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    public static VaultRuntimeConfig load(Config config, String name) {
+        String prefix = PREFIX + (name.contains(".") ? "\"" + name + "\"" : name) + ".";
+        Map<String, String> properties = new HashMap<>();
+        for (String property : config.getPropertyNames()) {
+            if (property.startsWith(prefix)) {
+                config.getOptionalValue(property, String.class)
+                        .ifPresent(value -> properties.put(PREFIX + property.substring(prefix.length()), value));
+            }
+        }
+        if (!properties.containsKey(PREFIX + URL)) {
+            throw new VaultException("unknown vault client " + name + ": " + prefix + URL + " is not configured");
+        }
+        return new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "vault client " + name, 0))
+                .withMapping(VaultRuntimeConfig.class)
+                .withValidateUnknown(false)
+                .build()
+                .getConfigMapping(VaultRuntimeConfig.class);
+    }
+}
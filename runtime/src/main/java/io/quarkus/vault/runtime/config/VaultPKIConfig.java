@@ -0,0 +1,17 @@
+package io.quarkus.vault.runtime.config;
+
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+@ConfigGroup
+public interface VaultPKIConfig {
+
+    /**
+     * Certificates issued from the PKI secret engine, and renewed automatically before they expire.
+     */
+    @ConfigDocMapKey("certificate-name")
+    Map<String, ManagedCertificateConfig> certificate();
+
+}
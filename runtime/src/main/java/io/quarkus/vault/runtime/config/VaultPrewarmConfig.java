@@ -0,0 +1,68 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultPrewarmConfig {
+
+    /**
+     * Open connections to each Vault node at startup, so that the first requests do not pay for the DNS
+     * resolution, the TCP connection and the TLS handshake.
+     * <p>
+     * The TLS sessions negotiated by these connections are cached, so connections opened later (e.g. after an
+     * idle timeout) resume them instead of going through a full handshake.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Number of connections opened to each Vault node.
+     */
+    @WithDefault("2")
+    int connections();
+
+    /**
+     * Maximum duration startup waits for the connections to be opened. Startup goes on, without failing, when
+     * the connections could not be opened in time.
+     */
+    @WithDefault("5S")
+    @WithConverter(DurationConverter.class)
+    Duration timeout();
+
+    /**
+     * Interval at which the connections are used again to keep them open. Connections are otherwise closed once
+     * they have been idle for twice the `read-timeout`.
+     *
+     * @asciidoclet
+     */
+    @WithConverter(DurationConverter.class)
+    Optional<Duration> keepAliveInterval();
+
+    /**
+     * Resolve every configured credentials provider at startup, concurrently, so that the first connections of
+     * the pools find their credentials in the caches. The readiness check reports down until they are resolved.
+     * <p>
+     * What happens when a credentials provider cannot be resolved is defined by its `prewarm-failure`.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean credentialsProviders();
+
+    /**
+     * Maximum duration to resolve each credentials provider. A credentials provider not resolved in time is handled
+     * as a failure.
+     */
+    @WithDefault("30S")
+    @WithConverter(DurationConverter.class)
+    Duration credentialsProvidersTimeout();
+
+}
@@ -0,0 +1,16 @@
+package io.quarkus.vault.runtime.config;
+
+public enum VaultPrewarmFailure {
+
+    /**
+     * Resolve the credentials in the background, and log a warning when they cannot be resolved. The credentials
+     * are resolved again on first use.
+     */
+    WARN,
+
+    /**
+     * Wait for the credentials on startup, and fail it when they cannot be resolved.
+     */
+    FAIL
+
+}
@@ -0,0 +1,60 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultRetryConfig {
+
+    /**
+     * Maximum number of attempts of a request that is safe to retry, when it fails with a transient error
+     * (connection failure, timeout, or `502`, `503` and `504` responses).
+     * <p>
+     * Only reads are retried: `GET` and `LIST` requests (except dynamic credentials, which create leases), and
+     * transit encrypt, decrypt, rewrap, sign and verify operations. Requests that create leases, tokens or secret ids
+     * are never retried.
+     * <p>
+     * The default value of `1` disables retries.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("1")
+    int maxAttempts();
+
+    /**
+     * Delay before the first retry, doubled on every subsequent retry.
+     */
+    @WithDefault("100MS")
+    @WithConverter(DurationConverter.class)
+    Duration initialBackoff();
+
+    /**
+     * Maximum delay between two attempts.
+     */
+    @WithDefault("2S")
+    @WithConverter(DurationConverter.class)
+    Duration maxBackoff();
+
+    /**
+     * Random factor applied to the delays, between `0` (no jitter) and `1`.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("0.5")
+    double jitter();
+
+    /**
+     * Number of retries allowed per request, on average.
+     * <p>
+     * Every request adds this ratio to a retry budget, and every retry consumes one from it, so that an
+     * unavailable Vault does not receive a multiple of the regular traffic. A small reserve allows retries when
+     * traffic is low.
+     */
+    @WithDefault("0.1")
+    double budgetRatio();
+
+}
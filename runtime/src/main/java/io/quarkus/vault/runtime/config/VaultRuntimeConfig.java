@@ -58,13 +58,77 @@ public interface VaultRuntimeConfig {
      * <p>
      * Example: https://localhost:8200
      * <p>
+     * A Vault Agent or Proxy listening on a unix domain socket is reached with `unix:///path/to/agent.sock`,
+     * which requires the Vert.x native transport (e.g. `io.netty:netty-transport-native-epoll` on Linux).
+     * <p>
      * See also the documentation for the `kv-secret-engine-mount-path` property for some insights on how
      * the full Vault url gets built.
      *
      * @asciidoclet
      */
+    @WithConverter(VaultUrlConverter.class)
     Optional<URL> url();
 
+    /**
+     * Vault Cluster
+     */
+    @ConfigDocSection
+    VaultClusterConfig cluster();
+
+    /**
+     * Retries
+     */
+    @ConfigDocSection
+    VaultRetryConfig retry();
+
+    /**
+     * Circuit breaker
+     */
+    @ConfigDocSection
+    VaultCircuitBreakerConfig circuitBreaker();
+
+    /**
+     * Hedged requests
+     */
+    @ConfigDocSection
+    VaultHedgingConfig hedging();
+
+    /**
+     * Concurrency limit
+     */
+    @ConfigDocSection
+    VaultConcurrencyLimitConfig concurrencyLimit();
+
+    /**
+     * Request coalescing
+     */
+    @ConfigDocSection
+    VaultCoalescingConfig coalescing();
+
+    /**
+     * Connection pre-warming
+     */
+    @ConfigDocSection
+    VaultPrewarmConfig prewarm();
+
+    /**
+     * Tracing
+     */
+    @ConfigDocSection
+    VaultTracingConfig tracing();
+
+    /**
+     * Snapshot
+     */
+    @ConfigDocSection
+    VaultSnapshotConfig snapshot();
+
+    /**
+     * KV changes subscriptions
+     */
+    @ConfigDocSection
+    VaultKvWatchConfig kvWatch();
+
     /**
      * Vault Enterprise
      */
@@ -259,6 +323,12 @@ public interface VaultRuntimeConfig {
     @ConfigDocSection
     VaultTransitConfig transit();
 
+    /**
+     * PKI Engine
+     */
+    @ConfigDocSection
+    VaultPKIConfig pki();
+
     /**
      * Deprecated.
      */
@@ -267,10 +337,9 @@ public interface VaultRuntimeConfig {
     Map<String, String> devServices();
 
     /**
-     * Deprecated.
+     * Health check
      */
-    @Deprecated
-    Map<String, String> health();
+    HealthRuntimeConfig health();
 
     default VaultAuthenticationType getAuthenticationType() {
         if (authentication().kubernetes().role().isPresent()) {
@@ -0,0 +1,49 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultSnapshotConfig {
+
+    /**
+     * Keep an encrypted copy of the properties read by the Vault config source, and of the KV-backed credentials,
+     * in a local file.
+     * <p>
+     * On startup, the config source serves the properties of the snapshot right away, and refreshes them from
+     * Vault in the background. The credentials providers fall back to the snapshot when Vault cannot be reached.
+     * <p>
+     * The snapshot is encrypted with a key generated locally, which is itself encrypted with the transit key
+     * `transit-key`, so Vault must be reachable to open the snapshot.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * File the snapshot is stored in. Required when the snapshot is enabled.
+     */
+    Optional<String> path();
+
+    /**
+     * Name of the transit key encrypting the key of the snapshot, in the `transit` secret engine. Required when
+     * the snapshot is enabled.
+     *
+     * @asciidoclet
+     */
+    Optional<String> transitKey();
+
+    /**
+     * Maximum age of the values served from the snapshot. Older values are ignored.
+     */
+    @WithDefault("24H")
+    @WithConverter(DurationConverter.class)
+    Duration maxStaleness();
+
+}
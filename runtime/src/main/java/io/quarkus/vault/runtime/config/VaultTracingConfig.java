@@ -0,0 +1,28 @@
+package io.quarkus.vault.runtime.config;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultTracingConfig {
+
+    /**
+     * Create OpenTelemetry spans for the requests sent to Vault, and for the work done on behalf of the callers
+     * (login, token validation and renewal, unwrapping, leases). Only applies when the `quarkus-opentelemetry`
+     * extension is present.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Ratio of the Vault calls that are traced, between `0` and `1`. The calls made within a trace that is not
+     * sampled are never traced.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("1")
+    double sampleRatio();
+
+}
@@ -0,0 +1,42 @@
+package io.quarkus.vault.runtime.config;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+/**
+ * Converts the Vault url, accepting {@code unix:///path/to/agent.sock} for a Vault Agent or Proxy listening on a
+ * unix domain socket in addition to the {@code http} and {@code https} urls.
+ */
+public class VaultUrlConverter implements Converter<URL> {
+
+    public static final String UNIX = "unix";
+
+    private static final URLStreamHandler UNIX_HANDLER = new URLStreamHandler() {
+        @Override
+        protected URLConnection openConnection(URL url) throws IOException {
+            throw new IOException("unix domain socket urls can only be used by the vault client: " + url);
+        }
+    };
+
+    @Override
+    public URL convert(String value) {
+        String url = value.trim();
+        if (url.isEmpty()) {
+            return null;
+        }
+        try {
+            return url.startsWith(UNIX + ":") ? new URL(null, url, UNIX_HANDLER) : new URL(url);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("invalid vault url " + url, e);
+        }
+    }
+
+    public static boolean isUnixDomainSocket(URL url) {
+        return UNIX.equals(url.getProtocol());
+    }
+}
@@ -1,59 +1,176 @@
 package io.quarkus.vault.runtime.health;
 
-import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
 
-import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
 import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 import org.eclipse.microprofile.health.Readiness;
 
-import io.quarkus.vault.VaultSystemBackendEngine;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.vault.VaultSystemBackendReactiveEngine;
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultCredentialsPrewarmer;
+import io.quarkus.vault.runtime.config.HealthRuntimeConfig;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
 import io.quarkus.vault.sys.VaultHealth;
-
+import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * Readiness check reporting the latest Vault health status, polled in the background.
+ * <p>
+ * Probes do not call Vault as long as the background poll is on time. Every response reports how old the status
+ * is ({@code staleness-ms}) and how long the request to Vault took ({@code latency-ms}).
+ * <p>
+ * Reports down while the credentials providers are pre-warmed on startup, and when no Vault url is configured.
+ */
 @Readiness
 @Singleton
-public class VaultHealthCheck implements HealthCheck {
+public class VaultHealthCheck implements AsyncHealthCheck {
+
+    private static final String NAME = "Vault connection health check";
+
+    private final VaultSystemBackendReactiveEngine vaultSystemBackendEngine;
+    private final VaultConfigHolder vaultConfigHolder;
+    private final VaultCredentialsPrewarmer credentialsPrewarmer;
+    private final AtomicReference<Uni<Status>> refresh = new AtomicReference<>();
+    private volatile Status status;
+    private volatile ScheduledFuture<?> poller;
+
+    public VaultHealthCheck(VaultSystemBackendReactiveEngine vaultSystemBackendEngine, VaultConfigHolder vaultConfigHolder,
+            VaultCredentialsPrewarmer credentialsPrewarmer) {
+        this.vaultSystemBackendEngine = vaultSystemBackendEngine;
+        this.vaultConfigHolder = vaultConfigHolder;
+        this.credentialsPrewarmer = credentialsPrewarmer;
+    }
 
-    @Inject
-    VaultSystemBackendEngine vaultSystemBackendEngine;
+    void startPolling(@Observes StartupEvent event) {
+        HealthRuntimeConfig config = getConfig();
+        if (config == null || config.pollInterval().toMillis() <= 0) {
+            return;
+        }
+        poller = Infrastructure.getDefaultWorkerPool().scheduleAtFixedRate(
+                () -> refresh(config).subscribe().with(ignored -> {
+                }),
+                0, config.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopPolling() {
+        ScheduledFuture<?> poller = this.poller;
+        if (poller != null) {
+            poller.cancel(false);
+        }
+    }
 
     @Override
-    public HealthCheckResponse call() {
+    public Uni<HealthCheckResponse> call() {
+        HealthRuntimeConfig config = getConfig();
+        if (config == null) {
+            return Uni.createFrom().item(HealthCheckResponse.named(NAME).down()
+                    .withData("reason", "Vault url is not configured").build());
+        }
+        if (!credentialsPrewarmer.isReady()) {
+            return Uni.createFrom().item(HealthCheckResponse.named(NAME).down()
+                    .withData("reason", "Resolving credentials providers").build());
+        }
+        Status current = status;
+        Duration maxAge = config.pollInterval().plus(config.cacheTtl());
+        if (current != null && current.ageNanos() <= maxAge.toNanos()) {
+            return Uni.createFrom().item(current.toResponse());
+        }
+        return refresh(config).map(Status::toResponse);
+    }
+
+    /**
+     * @return the health config, or {@code null} when no Vault url is configured
+     */
+    private HealthRuntimeConfig getConfig() {
+        VaultRuntimeConfig vaultRuntimeConfig = vaultConfigHolder.getVaultRuntimeConfig();
+        return vaultRuntimeConfig == null || vaultRuntimeConfig.url().isEmpty() ? null : vaultRuntimeConfig.health();
+    }
 
-        final HealthCheckResponseBuilder builder = HealthCheckResponse.named("Vault connection health check");
+    private Uni<Status> refresh(HealthRuntimeConfig config) {
+        Status current = status;
+        if (current != null && current.ageNanos() < config.cacheTtl().toNanos()) {
+            return Uni.createFrom().item(current);
+        }
+        Uni<Status> inFlight = refresh.get();
+        if (inFlight != null) {
+            return inFlight;
+        }
+        Uni<Status> check = Uni.createFrom().deferred(() -> {
+            long start = System.nanoTime();
+            return vaultSystemBackendEngine.health()
+                    .map(health -> new Status(health, null, start))
+                    .onFailure().recoverWithItem(e -> new Status(null, e, start));
+        })
+                .invoke(checked -> status = checked)
+                .onTermination().invoke(() -> refresh.set(null))
+                .memoize().indefinitely();
+        return refresh.compareAndSet(null, check) ? check : refresh(config);
+    }
 
-        try {
-            final VaultHealth vaultHealth = this.vaultSystemBackendEngine.health();
+    private static class Status {
+
+        final VaultHealth health;
+        final Throwable failure;
+        final long checkedAtNanos;
+        final long latencyNanos;
+
+        Status(VaultHealth health, Throwable failure, long startNanos) {
+            this.health = health;
+            this.failure = failure;
+            this.checkedAtNanos = System.nanoTime();
+            this.latencyNanos = checkedAtNanos - startNanos;
+        }
 
-            if (vaultHealth.isInitializedUnsealedActive()) {
+        long ageNanos() {
+            return System.nanoTime() - checkedAtNanos;
+        }
+
+        HealthCheckResponse toResponse() {
+            final HealthCheckResponseBuilder builder = HealthCheckResponse.named(NAME)
+                    .withData("staleness-ms", TimeUnit.NANOSECONDS.toMillis(ageNanos()))
+                    .withData("latency-ms", TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+
+            if (failure != null) {
+                return builder.down().withData("reason", String.valueOf(failure.getMessage())).build();
+            }
+
+            if (health.isInitializedUnsealedActive()) {
                 builder.up();
             }
 
-            if (vaultHealth.isUnsealedStandby()) {
+            if (health.isUnsealedStandby()) {
                 builder.down().withData("reason", "Unsealed and Standby");
             }
 
-            if (vaultHealth.isRecoveryReplicationSecondary()) {
+            if (health.isRecoveryReplicationSecondary()) {
                 builder.down().withData("reason", "Disaster recovery mode replication secondary and active");
             }
 
-            if (vaultHealth.isPerformanceStandby()) {
+            if (health.isPerformanceStandby()) {
                 builder.down().withData("reason", "Performance standby");
             }
 
-            if (vaultHealth.isNotInitialized()) {
+            if (health.isNotInitialized()) {
                 builder.down().withData("reason", "Not initialized");
             }
 
-            if (vaultHealth.isSealed()) {
+            if (health.isSealed()) {
                 builder.down().withData("reason", "Sealed");
             }
 
             return builder.build();
-
-        } catch (Exception e) {
-            return builder.down().withData("reason", e.getMessage()).build();
         }
     }
 }
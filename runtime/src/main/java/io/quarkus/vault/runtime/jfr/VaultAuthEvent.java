@@ -0,0 +1,30 @@
+package io.quarkus.vault.runtime.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A login, renewal or validation of the client token.
+ */
+@Name("io.quarkus.vault.Auth")
+@Label("Vault Authentication")
+@Description("Login, renewal or validation of the Vault client token")
+public class VaultAuthEvent extends VaultEvent {
+
+    @Label("Action")
+    public String action;
+
+    @Label("Authentication Type")
+    public String authenticationType;
+
+    @Label("Lease Duration")
+    @Timespan(Timespan.SECONDS)
+    public long leaseDuration;
+
+    public VaultAuthEvent(String action, String authenticationType) {
+        this.action = action;
+        this.authenticationType = authenticationType;
+    }
+}
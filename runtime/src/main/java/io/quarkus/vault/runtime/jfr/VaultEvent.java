@@ -0,0 +1,60 @@
+package io.quarkus.vault.runtime.jfr;
+
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Uni;
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the Flight Recorder events of the Vault client, disabled unless enabled in the recording settings.
+ * <p>
+ * A disabled event is created and dropped without doing anything else, so the events cost close to nothing
+ * unless they are recorded.
+ */
+@Category({ "Quarkus", "Vault" })
+@Enabled(false)
+@StackTrace(false)
+public abstract class VaultEvent extends Event {
+
+    @Label("Failure")
+    public String failure;
+
+    // set under the event lock once the event is committed, attempts that end later are not recorded
+    transient boolean terminated;
+
+    /**
+     * Records the duration and outcome of an operation as an event, if the event is enabled.
+     *
+     * @param factory creates the event, with the fields known before the operation
+     * @param operation to record
+     * @param completion sets the fields known once the operation has succeeded
+     */
+    public static <E extends VaultEvent, T> Uni<T> record(Supplier<E> factory, Uni<T> operation,
+            BiConsumer<E, T> completion) {
+        return Uni.createFrom().deferred(() -> {
+            E event = factory.get();
+            if (!event.isEnabled()) {
+                return operation;
+            }
+            event.begin();
+            return operation.onTermination().invoke((item, failure, cancelled) -> {
+                synchronized (event) {
+                    event.terminated = true;
+                    if (cancelled) {
+                        event.failure = "cancelled";
+                    } else if (failure != null) {
+                        event.failure = failure.getClass().getName() + ": " + failure.getMessage();
+                    } else if (completion != null) {
+                        completion.accept(event, item);
+                    }
+                    event.commit();
+                }
+            });
+        });
+    }
+}
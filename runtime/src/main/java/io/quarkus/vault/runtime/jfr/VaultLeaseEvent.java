@@ -0,0 +1,34 @@
+package io.quarkus.vault.runtime.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A creation, renewal or validation of the lease of dynamic credentials.
+ */
+@Name("io.quarkus.vault.Lease")
+@Label("Vault Lease")
+@Description("Creation, renewal or validation of the lease of Vault dynamic credentials")
+public class VaultLeaseEvent extends VaultEvent {
+
+    @Label("Action")
+    public String action;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Role")
+    public String role;
+
+    @Label("Lease Duration")
+    @Timespan(Timespan.SECONDS)
+    public long leaseDuration;
+
+    public VaultLeaseEvent(String action, String path, String role) {
+        this.action = action;
+        this.path = path;
+        this.role = role;
+    }
+}
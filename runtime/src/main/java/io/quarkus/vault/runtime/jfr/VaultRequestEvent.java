@@ -0,0 +1,81 @@
+package io.quarkus.vault.runtime.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A request sent to Vault, from the first attempt to the mapping of the response.
+ * <p>
+ * Retried and hedged attempts record themselves concurrently through {@link #attemptStarted} and
+ * {@link #attemptCompleted}.
+ */
+@Name("io.quarkus.vault.Request")
+@Label("Vault Request")
+@Description("Request sent to Vault, including retries and hedged attempts")
+public class VaultRequestEvent extends VaultEvent {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Path")
+    public String path;
+
+    @Label("Node")
+    public String node;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Attempts")
+    public int attempts;
+
+    @Label("Request Size")
+    @DataAmount
+    public long requestSize;
+
+    @Label("Response Size")
+    @DataAmount
+    public long responseSize;
+
+    @Label("Queue Wait")
+    @Description("Time spent waiting for the concurrency limit, summed over the attempts")
+    @Timespan
+    public long queueWait;
+
+    @Label("Network Time")
+    @Description("Time from sending the last completed attempt until its response was received")
+    @Timespan
+    public long networkTime;
+
+    @Label("Deserialization Time")
+    @Timespan
+    public long deserializationTime;
+
+    /**
+     * Counts an attempt, whether it completes, fails or is cancelled.
+     */
+    public synchronized void attemptStarted(long queueWaitNanos) {
+        if (!terminated) {
+            attempts++;
+            queueWait += queueWaitNanos;
+        }
+    }
+
+    /**
+     * Records the node and outcome of an attempt that received a response or failed, the last one before the end
+     * of the request wins.
+     */
+    public synchronized void attemptCompleted(String node, int status, long networkTimeNanos) {
+        if (!terminated) {
+            this.node = node;
+            this.status = status;
+            this.networkTime = networkTimeNanos;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal DER encoding and decoding, enough to build PKCS#10 certification requests and re-encode private keys.
+ */
+final class Der {
+
+    static final int INTEGER = 0x02;
+    static final int BIT_STRING = 0x03;
+    static final int OCTET_STRING = 0x04;
+    static final int NULL = 0x05;
+    static final int OBJECT_IDENTIFIER = 0x06;
+    static final int UTF8_STRING = 0x0c;
+    static final int SEQUENCE = 0x30;
+    static final int SET = 0x31;
+
+    private Der() {
+    }
+
+    static byte[] tlv(int tag, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length + 6);
+        out.write(tag);
+        int length = content.length;
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            int bytes = (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+            out.write(0x80 | bytes);
+            for (int i = bytes - 1; i >= 0; i--) {
+                out.write(length >>> (i * 8));
+            }
+        }
+        out.writeBytes(content);
+        return out.toByteArray();
+    }
+
+    static byte[] sequence(byte[]... elements) {
+        return tlv(SEQUENCE, concat(elements));
+    }
+
+    static byte[] set(byte[]... elements) {
+        return tlv(SET, concat(elements));
+    }
+
+    static byte[] contextSpecific(int number, boolean constructed, byte[] content) {
+        return tlv((constructed ? 0xa0 : 0x80) | number, content);
+    }
+
+    static byte[] integer(int value) {
+        return tlv(INTEGER, new byte[] { (byte) value });
+    }
+
+    static byte[] utf8String(String value) {
+        return tlv(UTF8_STRING, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static byte[] octetString(byte[] value) {
+        return tlv(OCTET_STRING, value);
+    }
+
+    static byte[] bitString(byte[] value) {
+        byte[] content = new byte[value.length + 1];
+        System.arraycopy(value, 0, content, 1, value.length);
+        return tlv(BIT_STRING, content);
+    }
+
+    static byte[] nullValue() {
+        return new byte[] { NULL, 0 };
+    }
+
+    static byte[] oid(String dotted) {
+        String[] arcs = dotted.split("\\.");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(Integer.parseInt(arcs[0]) * 40 + Integer.parseInt(arcs[1]));
+        for (int i = 2; i < arcs.length; i++) {
+            long arc = Long.parseLong(arcs[i]);
+            int groups = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(arc) + 6) / 7);
+            for (int g = groups - 1; g >= 0; g--) {
+                int b = (int) ((arc >>> (g * 7)) & 0x7f);
+                out.write(g > 0 ? b | 0x80 : b);
+            }
+        }
+        return tlv(OBJECT_IDENTIFIER, out.toByteArray());
+    }
+
+    static byte[] concat(byte[]... elements) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] element : elements) {
+            out.writeBytes(element);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * A decoded TLV, pointing into the encoded data.
+     */
+    static final class Element {
+
+        final byte[] data;
+        final int tag;
+        final int offset;
+        final int contentOffset;
+        final int contentLength;
+
+        private Element(byte[] data, int tag, int offset, int contentOffset, int contentLength) {
+            this.data = data;
+            this.tag = tag;
+            this.offset = offset;
+            this.contentOffset = contentOffset;
+            this.contentLength = contentLength;
+        }
+
+        static Element read(byte[] data, int offset) {
+            int tag = data[offset] & 0xff;
+            int length = data[offset + 1] & 0xff;
+            int contentOffset = offset + 2;
+            if (length >= 0x80) {
+                int bytes = length & 0x7f;
+                length = 0;
+                for (int i = 0; i < bytes; i++) {
+                    length = (length << 8) | (data[contentOffset++] & 0xff);
+                }
+            }
+            if (contentOffset + length > data.length) {
+                throw new IllegalArgumentException("truncated DER element");
+            }
+            return new Element(data, tag, offset, contentOffset, length);
+        }
+
+        int end() {
+            return contentOffset + contentLength;
+        }
+
+        /**
+         * First element contained in this constructed element.
+         */
+        Element first() {
+            return read(data, contentOffset);
+        }
+
+        /**
+         * Element following this one in its parent.
+         */
+        Element next() {
+            return read(data, end());
+        }
+
+        boolean hasNext(Element parent) {
+            return end() < parent.end();
+        }
+
+        byte[] content() {
+            byte[] content = new byte[contentLength];
+            System.arraycopy(data, contentOffset, content, 0, contentLength);
+            return content;
+        }
+
+        byte[] encoded() {
+            byte[] encoded = new byte[end() - offset];
+            System.arraycopy(data, offset, encoded, 0, encoded.length);
+            return encoded;
+        }
+    }
+}
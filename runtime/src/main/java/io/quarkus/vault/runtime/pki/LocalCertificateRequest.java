@@ -0,0 +1,212 @@
+package io.quarkus.vault.runtime.pki;
+
+import static io.quarkus.vault.runtime.pki.Der.bitString;
+import static io.quarkus.vault.runtime.pki.Der.contextSpecific;
+import static io.quarkus.vault.runtime.pki.Der.integer;
+import static io.quarkus.vault.runtime.pki.Der.nullValue;
+import static io.quarkus.vault.runtime.pki.Der.octetString;
+import static io.quarkus.vault.runtime.pki.Der.oid;
+import static io.quarkus.vault.runtime.pki.Der.sequence;
+import static io.quarkus.vault.runtime.pki.Der.set;
+import static io.quarkus.vault.runtime.pki.Der.utf8String;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.ECKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import io.quarkus.vault.VaultException;
+import io.quarkus.vault.pki.CertificateKeyType;
+import io.quarkus.vault.pki.DataFormat;
+import io.quarkus.vault.pki.GenerateCertificateOptions;
+import io.quarkus.vault.pki.PrivateKeyData;
+import io.quarkus.vault.pki.PrivateKeyEncoding;
+
+/**
+ * Key pair generated locally, along with a PKCS#10 certification request for it built from
+ * {@link GenerateCertificateOptions}.
+ * <p>
+ * Generating the key pair is CPU intensive (especially for large RSA keys) and must not happen on an event loop.
+ */
+public class LocalCertificateRequest {
+
+    public static final int DEFAULT_RSA_KEY_BITS = 2048;
+    public static final int DEFAULT_EC_KEY_BITS = 256;
+
+    private static final String OID_COMMON_NAME = "2.5.4.3";
+    private static final String OID_EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+    private static final String OID_SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String OID_SHA256_WITH_RSA = "1.2.840.113549.1.1.11";
+    private static final String OID_SHA256_WITH_ECDSA = "1.2.840.10045.4.3.2";
+    private static final String OID_SHA384_WITH_ECDSA = "1.2.840.10045.4.3.3";
+    private static final String OID_SHA512_WITH_ECDSA = "1.2.840.10045.4.3.4";
+
+    private static final int SAN_RFC822_NAME = 1;
+    private static final int SAN_DNS_NAME = 2;
+    private static final int SAN_URI = 6;
+    private static final int SAN_IP_ADDRESS = 7;
+
+    private static final Pattern IPV4_LITERAL = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+    private static final Base64.Encoder PEM_ENCODER = Base64.getMimeEncoder(64, new byte[] { '\n' });
+
+    private final CertificateKeyType keyType;
+    private final KeyPair keyPair;
+    private final String pemSigningRequest;
+
+    public static LocalCertificateRequest generate(CertificateKeyType keyType, Integer keyBits,
+            GenerateCertificateOptions options) {
+        CertificateKeyType type = keyType == null ? CertificateKeyType.RSA : keyType;
+        try {
+            return new LocalCertificateRequest(type, generateKeyPair(type, keyBits), options);
+        } catch (GeneralSecurityException e) {
+            throw new VaultException("unable to generate " + type + " certificate request", e);
+        }
+    }
+
+    private LocalCertificateRequest(CertificateKeyType keyType, KeyPair keyPair, GenerateCertificateOptions options)
+            throws GeneralSecurityException {
+        this.keyType = keyType;
+        this.keyPair = keyPair;
+        this.pemSigningRequest = pem("CERTIFICATE REQUEST", signingRequest(options));
+    }
+
+    public CertificateKeyType getKeyType() {
+        return keyType;
+    }
+
+    public String getPemSigningRequest() {
+        return pemSigningRequest;
+    }
+
+    public PrivateKeyData getPrivateKeyData(DataFormat format, PrivateKeyEncoding encoding) {
+        boolean pkcs8 = encoding == null || encoding == PrivateKeyEncoding.PKCS8;
+        byte[] der = pkcs8 ? keyPair.getPrivate().getEncoded() : rawPrivateKey();
+        if (format == DataFormat.DER) {
+            return new PrivateKeyData.DER(der, pkcs8);
+        }
+        String type = pkcs8 ? "PRIVATE KEY" : keyType == CertificateKeyType.EC ? "EC PRIVATE KEY" : "RSA PRIVATE KEY";
+        return new PrivateKeyData.PEM(pem(type, der), pkcs8);
+    }
+
+    private static KeyPair generateKeyPair(CertificateKeyType keyType, Integer keyBits) throws GeneralSecurityException {
+        if (keyType == CertificateKeyType.EC) {
+            int bits = keyBits == null ? DEFAULT_EC_KEY_BITS : keyBits;
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec(bits == 521 ? "secp521r1" : "secp" + bits + "r1"));
+            return generator.generateKeyPair();
+        }
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(keyBits == null ? DEFAULT_RSA_KEY_BITS : keyBits);
+        return generator.generateKeyPair();
+    }
+
+    private byte[] signingRequest(GenerateCertificateOptions options) throws GeneralSecurityException {
+        byte[] subject = options.subjectCommonName == null
+                ? sequence()
+                : sequence(set(sequence(oid(OID_COMMON_NAME), utf8String(options.subjectCommonName))));
+
+        byte[] generalNames = subjectAlternativeNames(options);
+        byte[] attributes = generalNames.length == 0
+                ? new byte[0]
+                : sequence(oid(OID_EXTENSION_REQUEST),
+                        set(sequence(sequence(oid(OID_SUBJECT_ALT_NAME), octetString(sequence(generalNames))))));
+
+        byte[] requestInfo = sequence(
+                integer(0),
+                subject,
+                keyPair.getPublic().getEncoded(),
+                contextSpecific(0, true, attributes));
+
+        String algorithm;
+        byte[] algorithmIdentifier;
+        if (keyType == CertificateKeyType.EC) {
+            int fieldSize = ((ECKey) keyPair.getPublic()).getParams().getCurve().getField()
+                    .getFieldSize();
+            if (fieldSize > 384) {
+                algorithm = "SHA512withECDSA";
+                algorithmIdentifier = sequence(oid(OID_SHA512_WITH_ECDSA));
+            } else if (fieldSize > 256) {
+                algorithm = "SHA384withECDSA";
+                algorithmIdentifier = sequence(oid(OID_SHA384_WITH_ECDSA));
+            } else {
+                algorithm = "SHA256withECDSA";
+                algorithmIdentifier = sequence(oid(OID_SHA256_WITH_ECDSA));
+            }
+        } else {
+            algorithm = "SHA256withRSA";
+            algorithmIdentifier = sequence(oid(OID_SHA256_WITH_RSA), nullValue());
+        }
+
+        Signature signature = Signature.getInstance(algorithm);
+        signature.initSign(keyPair.getPrivate());
+        signature.update(requestInfo);
+
+        return sequence(requestInfo, algorithmIdentifier, bitString(signature.sign()));
+    }
+
+    private static byte[] subjectAlternativeNames(GenerateCertificateOptions options) {
+        ByteArrayOutputStream names = new ByteArrayOutputStream();
+        for (String name : nonNull(options.subjectAlternativeNames)) {
+            int type = name.contains("@") ? SAN_RFC822_NAME : SAN_DNS_NAME;
+            names.writeBytes(contextSpecific(type, false, name.getBytes(US_ASCII)));
+        }
+        for (String ip : nonNull(options.ipSubjectAlternativeNames)) {
+            names.writeBytes(contextSpecific(SAN_IP_ADDRESS, false, ipAddress(ip)));
+        }
+        for (String uri : nonNull(options.uriSubjectAlternativeNames)) {
+            names.writeBytes(contextSpecific(SAN_URI, false, uri.getBytes(US_ASCII)));
+        }
+        return names.toByteArray();
+    }
+
+    private static byte[] ipAddress(String ip) {
+        // only accept literals, InetAddress would otherwise resolve host names
+        if (!ip.contains(":") && !IPV4_LITERAL.matcher(ip).matches()) {
+            throw new VaultException("invalid IP subject alternative name " + ip);
+        }
+        try {
+            return InetAddress.getByName(ip).getAddress();
+        } catch (UnknownHostException e) {
+            throw new VaultException("invalid IP subject alternative name " + ip, e);
+        }
+    }
+
+    /**
+     * Re-encodes the private key in its algorithm specific format: PKCS#1 for RSA, SEC 1 for EC.
+     */
+    private byte[] rawPrivateKey() {
+        // PrivateKeyInfo ::= SEQUENCE { version, AlgorithmIdentifier, privateKey OCTET STRING }
+        Der.Element privateKeyInfo = Der.Element.read(keyPair.getPrivate().getEncoded(), 0);
+        Der.Element algorithmIdentifier = privateKeyInfo.first().next();
+        byte[] privateKey = algorithmIdentifier.next().content();
+        if (keyType != CertificateKeyType.EC) {
+            return privateKey;
+        }
+
+        // ECPrivateKey ::= SEQUENCE { version, privateKey OCTET STRING, [0] parameters, [1] publicKey }
+        // the JDK omits the optional fields that OpenSSL expects, add them back
+        byte[] d = Der.Element.read(privateKey, 0).first().next().encoded();
+        byte[] curve = algorithmIdentifier.first().next().encoded();
+        Der.Element subjectPublicKeyInfo = Der.Element.read(keyPair.getPublic().getEncoded(), 0);
+        byte[] publicKey = subjectPublicKeyInfo.first().next().encoded();
+        return sequence(integer(1), d, contextSpecific(0, true, curve), contextSpecific(1, true, publicKey));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n" + PEM_ENCODER.encodeToString(der) + "\n-----END " + type + "-----";
+    }
+
+    private static List<String> nonNull(List<String> values) {
+        return values == null ? List.of() : values;
+    }
+}
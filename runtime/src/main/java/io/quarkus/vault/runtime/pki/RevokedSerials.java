@@ -0,0 +1,163 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.math.BigInteger;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable set of revoked certificate serial numbers.
+ * <p>
+ * Serial numbers that fit in 63 bits are stored as primitive longs, larger ones (Vault issues 160 bits serials
+ * by default) as {@link BigInteger}. Both live in open addressing hash tables, so that lookups are constant time
+ * and do not allocate.
+ */
+public final class RevokedSerials {
+
+    public static final RevokedSerials EMPTY = new RevokedSerials(List.of());
+
+    private static final long EMPTY_SLOT = 0L;
+
+    private final long[] longTable;
+    private final int longMask;
+    private final boolean containsZero;
+    private final BigInteger[] bigTable;
+    private final int bigMask;
+    private final int size;
+
+    public static RevokedSerials of(X509CRL crl) {
+        Set<? extends X509CRLEntry> entries = crl.getRevokedCertificates();
+        if (entries == null) {
+            return EMPTY;
+        }
+        List<BigInteger> serials = new ArrayList<>(entries.size());
+        for (X509CRLEntry entry : entries) {
+            serials.add(entry.getSerialNumber());
+        }
+        return new RevokedSerials(serials);
+    }
+
+    public static RevokedSerials of(Collection<BigInteger> serials) {
+        return serials.isEmpty() ? EMPTY : new RevokedSerials(serials);
+    }
+
+    private RevokedSerials(Collection<BigInteger> serials) {
+        int longCount = 0;
+        int bigCount = 0;
+        for (BigInteger serial : serials) {
+            if (fitsInLong(serial)) {
+                longCount++;
+            } else {
+                bigCount++;
+            }
+        }
+
+        longTable = new long[tableSize(longCount)];
+        longMask = longTable.length - 1;
+        bigTable = new BigInteger[tableSize(bigCount)];
+        bigMask = bigTable.length - 1;
+
+        boolean zero = false;
+        int count = 0;
+        for (BigInteger serial : serials) {
+            boolean added;
+            if (!fitsInLong(serial)) {
+                added = addBig(serial);
+            } else if (serial.signum() == 0) {
+                added = !zero;
+                zero = true;
+            } else {
+                added = addLong(serial.longValue());
+            }
+            if (added) {
+                count++;
+            }
+        }
+        containsZero = zero;
+        size = count;
+    }
+
+    public boolean contains(BigInteger serial) {
+        if (serial == null) {
+            return false;
+        }
+        if (fitsInLong(serial)) {
+            return contains(serial.longValue());
+        }
+        int i = mix(serial.hashCode()) & bigMask;
+        BigInteger candidate;
+        while ((candidate = bigTable[i]) != null) {
+            if (candidate.equals(serial)) {
+                return true;
+            }
+            i = (i + 1) & bigMask;
+        }
+        return false;
+    }
+
+    public boolean contains(long serial) {
+        if (serial == EMPTY_SLOT) {
+            return containsZero;
+        }
+        int i = mix(Long.hashCode(serial)) & longMask;
+        long candidate;
+        while ((candidate = longTable[i]) != EMPTY_SLOT) {
+            if (candidate == serial) {
+                return true;
+            }
+            i = (i + 1) & longMask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean addLong(long serial) {
+        int i = mix(Long.hashCode(serial)) & longMask;
+        long candidate;
+        while ((candidate = longTable[i]) != EMPTY_SLOT) {
+            if (candidate == serial) {
+                return false;
+            }
+            i = (i + 1) & longMask;
+        }
+        longTable[i] = serial;
+        return true;
+    }
+
+    private boolean addBig(BigInteger serial) {
+        int i = mix(serial.hashCode()) & bigMask;
+        BigInteger candidate;
+        while ((candidate = bigTable[i]) != null) {
+            if (candidate.equals(serial)) {
+                return false;
+            }
+            i = (i + 1) & bigMask;
+        }
+        bigTable[i] = serial;
+        return true;
+    }
+
+    private static boolean fitsInLong(BigInteger serial) {
+        return serial.bitLength() < Long.SIZE;
+    }
+
+    /**
+     * Smallest power of 2 keeping the load factor at or below 0.5, so that probe sequences stay short.
+     * A table always has at least one free slot, which terminates unsuccessful lookups.
+     */
+    private static int tableSize(int count) {
+        return Integer.highestOneBit(Math.max(1, count) * 2) << 1;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
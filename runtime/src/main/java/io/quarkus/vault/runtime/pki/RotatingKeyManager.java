@@ -0,0 +1,122 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.net.Socket;
+import java.security.Principal;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedKeyManager;
+
+/**
+ * Key manager serving a single certificate that can be replaced at any time.
+ * <p>
+ * Each certificate gets its own alias, and the previous certificate is kept: a handshake that chose its alias
+ * before a rotation still gets a consistent certificate chain and private key.
+ */
+public class RotatingKeyManager extends X509ExtendedKeyManager {
+
+    private final String name;
+    private volatile Entry current;
+    private volatile Entry previous;
+
+    public RotatingKeyManager(String name) {
+        this.name = name;
+    }
+
+    public synchronized void update(PrivateKey privateKey, X509Certificate[] chain) {
+        previous = current;
+        current = new Entry(name + "-" + chain[0].getSerialNumber().toString(16), privateKey, chain.clone());
+    }
+
+    public boolean hasCertificate() {
+        return current != null;
+    }
+
+    @Override
+    public String chooseClientAlias(String[] keyTypes, Principal[] issuers, Socket socket) {
+        return chooseAlias(keyTypes);
+    }
+
+    @Override
+    public String chooseEngineClientAlias(String[] keyTypes, Principal[] issuers, SSLEngine engine) {
+        return chooseAlias(keyTypes);
+    }
+
+    @Override
+    public String chooseServerAlias(String keyType, Principal[] issuers, Socket socket) {
+        return chooseAlias(keyType);
+    }
+
+    @Override
+    public String chooseEngineServerAlias(String keyType, Principal[] issuers, SSLEngine engine) {
+        return chooseAlias(keyType);
+    }
+
+    @Override
+    public String[] getClientAliases(String keyType, Principal[] issuers) {
+        return getAliases(keyType);
+    }
+
+    @Override
+    public String[] getServerAliases(String keyType, Principal[] issuers) {
+        return getAliases(keyType);
+    }
+
+    @Override
+    public X509Certificate[] getCertificateChain(String alias) {
+        Entry entry = get(alias);
+        return entry == null ? null : entry.chain.clone();
+    }
+
+    @Override
+    public PrivateKey getPrivateKey(String alias) {
+        Entry entry = get(alias);
+        return entry == null ? null : entry.privateKey;
+    }
+
+    private String chooseAlias(String... keyTypes) {
+        Entry entry = current;
+        if (entry != null && keyTypes != null) {
+            for (String keyType : keyTypes) {
+                if (entry.matches(keyType)) {
+                    return entry.alias;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String[] getAliases(String keyType) {
+        Entry entry = current;
+        return entry != null && entry.matches(keyType) ? new String[] { entry.alias } : null;
+    }
+
+    private Entry get(String alias) {
+        Entry entry = current;
+        if (entry != null && entry.alias.equals(alias)) {
+            return entry;
+        }
+        entry = previous;
+        return entry != null && entry.alias.equals(alias) ? entry : null;
+    }
+
+    private static class Entry {
+
+        final String alias;
+        final PrivateKey privateKey;
+        final X509Certificate[] chain;
+
+        Entry(String alias, PrivateKey privateKey, X509Certificate[] chain) {
+            this.alias = alias;
+            this.privateKey = privateKey;
+            this.chain = chain;
+        }
+
+        boolean matches(String keyType) {
+            // key types are either the key algorithm, or <key algorithm>_<signature algorithm> before TLS 1.3
+            String algorithm = privateKey.getAlgorithm();
+            return keyType != null && (keyType.equals(algorithm) || keyType.startsWith(algorithm + "_"));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Collection;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import io.quarkus.vault.VaultException;
+
+/**
+ * Trust manager whose trusted certificates can be replaced at any time.
+ * <p>
+ * Trusts nothing until {@link #update(Collection)} has been called.
+ */
+public class RotatingTrustManager extends X509ExtendedTrustManager {
+
+    private static final X509Certificate[] NO_ISSUERS = new X509Certificate[0];
+
+    private volatile X509ExtendedTrustManager delegate;
+
+    public void update(Collection<X509Certificate> trustedCertificates) {
+        try {
+            KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            keyStore.load(null, null);
+            int i = 0;
+            for (X509Certificate certificate : trustedCertificates) {
+                keyStore.setCertificateEntry("ca-" + i++, certificate);
+            }
+            TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            factory.init(keyStore);
+            for (TrustManager trustManager : factory.getTrustManagers()) {
+                if (trustManager instanceof X509ExtendedTrustManager) {
+                    delegate = (X509ExtendedTrustManager) trustManager;
+                    return;
+                }
+            }
+            throw new VaultException("no X509 trust manager available");
+        } catch (GeneralSecurityException | IOException e) {
+            throw new VaultException("unable to build trust manager", e);
+        }
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket)
+            throws CertificateException {
+        delegate().checkClientTrusted(chain, authType, socket);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket)
+            throws CertificateException {
+        delegate().checkServerTrusted(chain, authType, socket);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+            throws CertificateException {
+        delegate().checkClientTrusted(chain, authType, engine);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine)
+            throws CertificateException {
+        delegate().checkServerTrusted(chain, authType, engine);
+    }
+
+    @Override
+    public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        delegate().checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
+        delegate().checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+        X509ExtendedTrustManager trustManager = delegate;
+        return trustManager == null ? NO_ISSUERS : trustManager.getAcceptedIssuers();
+    }
+
+    private X509ExtendedTrustManager delegate() throws CertificateException {
+        X509ExtendedTrustManager trustManager = delegate;
+        if (trustManager == null) {
+            throw new CertificateException("no trusted certificate available yet");
+        }
+        return trustManager;
+    }
+}
@@ -0,0 +1,15 @@
+package io.quarkus.vault.runtime.pki;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Client certificate presented by the Vault client, updated by the managed certificate configured with
+ * {@code vault-client=true}.
+ */
+@Singleton
+public class VaultClientKeyManager extends RotatingKeyManager {
+
+    public VaultClientKeyManager() {
+        super("vault-client");
+    }
+}
@@ -0,0 +1,46 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.time.Duration;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.vault.VaultException;
+import io.quarkus.vertx.http.HttpServerOptionsCustomizer;
+import io.smallrye.mutiny.TimeoutException;
+import io.vertx.core.http.HttpServerOptions;
+
+/**
+ * Installs the managed certificate configured with {@code http-server=true} into the Quarkus HTTPS server.
+ * <p>
+ * Registered only when {@code quarkus-vertx-http} is present.
+ */
+@Singleton
+public class VaultHttpServerOptionsCustomizer implements HttpServerOptionsCustomizer {
+
+    private final VaultManagedCertificates managedCertificates;
+
+    public VaultHttpServerOptionsCustomizer(VaultManagedCertificates managedCertificates) {
+        this.managedCertificates = managedCertificates;
+    }
+
+    @Override
+    public void customizeHttpsServer(HttpServerOptions options) {
+        VaultManagedCertificate certificate = managedCertificates.getHttpServerCertificate();
+        if (certificate == null) {
+            return;
+        }
+        // the server must not start without a certificate, later renewals are picked up by the key manager
+        Duration timeout = certificate.getConfig().issueTimeout();
+        try {
+            certificate.ready().await().atMost(timeout);
+        } catch (TimeoutException e) {
+            throw new VaultException("managed certificate " + certificate.getName()
+                    + " for the HTTPS server was not issued within " + timeout, e);
+        } catch (RuntimeException e) {
+            throw new VaultException("unable to issue managed certificate " + certificate.getName()
+                    + " for the HTTPS server", e);
+        }
+        options.setKeyCertOptions(certificate.getKeyCertOptions());
+        options.setTrustOptions(certificate.getTrustOptions());
+    }
+}
@@ -0,0 +1,199 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.net.ssl.X509ExtendedKeyManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vault.VaultException;
+import io.quarkus.vault.VaultPKISecretReactiveEngine;
+import io.quarkus.vault.pki.CertificateData;
+import io.quarkus.vault.pki.CertificateKeyType;
+import io.quarkus.vault.pki.DataFormat;
+import io.quarkus.vault.pki.GenerateCertificateOptions;
+import io.quarkus.vault.pki.GeneratedCertificate;
+import io.quarkus.vault.pki.ManagedCertificate;
+import io.quarkus.vault.pki.PrivateKeyEncoding;
+import io.quarkus.vault.runtime.config.ManagedCertificateConfig;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * {@link ManagedCertificate} renewed on the Mutiny worker pool.
+ * <p>
+ * Renewals happen once two thirds of the validity period have elapsed, or {@code renew-before} the expiration.
+ * A failed renewal keeps the current certificate, and is retried with an exponential backoff of up to a minute.
+ */
+public class VaultManagedCertificate implements ManagedCertificate {
+
+    private static final Logger log = Logger.getLogger(VaultManagedCertificate.class.getName());
+
+    static final Duration MIN_RETRY_DELAY = Duration.ofSeconds(1);
+    static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final String name;
+    private final ManagedCertificateConfig config;
+    private final VaultPKISecretReactiveEngine engine;
+    private final RotatingKeyManager keyManager;
+    private final RotatingTrustManager trustManager = new RotatingTrustManager();
+    private final AtomicReference<Uni<GeneratedCertificate>> renewal = new AtomicReference<>();
+    private volatile GeneratedCertificate certificate;
+    private volatile List<X509Certificate> caChain = List.of();
+    private volatile ScheduledFuture<?> scheduledRenewal;
+    private volatile Duration retryDelay = MIN_RETRY_DELAY;
+    private volatile boolean closed;
+
+    public VaultManagedCertificate(String name, ManagedCertificateConfig config, VaultPKISecretReactiveEngine engine,
+            RotatingKeyManager keyManager) {
+        this.name = name;
+        this.config = config;
+        this.engine = engine;
+        this.keyManager = keyManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public GeneratedCertificate getCertificate() {
+        return certificate;
+    }
+
+    @Override
+    public Uni<GeneratedCertificate> ready() {
+        GeneratedCertificate current = certificate;
+        return current != null ? Uni.createFrom().item(current) : renew();
+    }
+
+    @Override
+    public Uni<GeneratedCertificate> renew() {
+        Uni<GeneratedCertificate> current = renewal.get();
+        if (current != null) {
+            return current;
+        }
+        Uni<GeneratedCertificate> issue = issue()
+                .invoke(this::install)
+                .onTermination().invoke(() -> renewal.set(null))
+                .onFailure().invoke(this::scheduleRetry)
+                .memoize().indefinitely();
+        return renewal.compareAndSet(null, issue) ? issue : renew();
+    }
+
+    @Override
+    public X509ExtendedKeyManager getKeyManager() {
+        return keyManager;
+    }
+
+    @Override
+    public X509ExtendedTrustManager getTrustManager() {
+        return trustManager;
+    }
+
+    public ManagedCertificateConfig getConfig() {
+        return config;
+    }
+
+    public void close() {
+        closed = true;
+        ScheduledFuture<?> scheduled = scheduledRenewal;
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+    }
+
+    private Uni<GeneratedCertificate> issue() {
+        GenerateCertificateOptions options = new GenerateCertificateOptions()
+                .setSubjectCommonName(config.commonName().orElse(null))
+                .setSubjectAlternativeNames(config.altNames().orElse(null))
+                .setIpSubjectAlternativeNames(config.ipSans().orElse(null))
+                .setTimeToLive(config.ttl().orElse(null))
+                .setFormat(DataFormat.DER)
+                .setPrivateKeyEncoding(PrivateKeyEncoding.PKCS8);
+        String role = config.role();
+        return config.localKey()
+                ? engine.generateCertificateWithLocalKey(role, options, null, null)
+                : engine.generateCertificate(role, options);
+    }
+
+    private void install(GeneratedCertificate generated) {
+        X509Certificate x509Certificate;
+        List<X509Certificate> chain = new ArrayList<>();
+        PrivateKey privateKey;
+        try {
+            x509Certificate = (X509Certificate) generated.certificate.getCertificate();
+            chain.add(x509Certificate);
+            if (generated.caChain != null && !generated.caChain.isEmpty()) {
+                for (CertificateData ca : generated.caChain) {
+                    chain.add((X509Certificate) ca.getCertificate());
+                }
+            } else if (generated.issuingCA != null) {
+                chain.add((X509Certificate) generated.issuingCA.getCertificate());
+            }
+            String algorithm = generated.privateKeyType == CertificateKeyType.EC ? "EC" : "RSA";
+            privateKey = KeyFactory.getInstance(algorithm).generatePrivate(generated.privateKey.getKeySpec());
+        } catch (GeneralSecurityException e) {
+            throw new VaultException("unable to parse managed certificate " + name, e);
+        }
+
+        // keep trusting the previous CA chain, in case the issuer was rotated along with this certificate
+        List<X509Certificate> newCaChain = chain.subList(1, chain.size());
+        Set<X509Certificate> trusted = new LinkedHashSet<>(newCaChain);
+        trusted.addAll(caChain);
+        if (!trusted.isEmpty()) {
+            trustManager.update(trusted);
+        }
+        keyManager.update(privateKey, chain.toArray(new X509Certificate[0]));
+        caChain = List.copyOf(newCaChain);
+        certificate = generated;
+        retryDelay = MIN_RETRY_DELAY;
+
+        Instant notBefore = x509Certificate.getNotBefore().toInstant();
+        Instant notAfter = x509Certificate.getNotAfter().toInstant();
+        Instant renewAt = config.renewBefore()
+                .map(notAfter::minus)
+                .orElseGet(() -> notBefore.plus(Duration.between(notBefore, notAfter).multipliedBy(2).dividedBy(3)));
+        log.debug("issued managed certificate " + name + " with serial " + generated.serialNumber + ", expiring at "
+                + notAfter + ", renewal at " + renewAt);
+        schedule(Duration.between(Instant.now(), renewAt));
+    }
+
+    private void scheduleRetry(Throwable failure) {
+        Duration delay = retryDelay;
+        retryDelay = delay.multipliedBy(2).compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay.multipliedBy(2);
+        log.warn("unable to issue managed certificate " + name + ", retrying in " + delay + ": " + failure);
+        schedule(delay);
+    }
+
+    private void schedule(Duration delay) {
+        if (closed) {
+            return;
+        }
+        ScheduledFuture<?> previous = scheduledRenewal;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        long delayMillis = Math.max(delay.toMillis(), MIN_RETRY_DELAY.toMillis());
+        scheduledRenewal = Infrastructure.getDefaultWorkerPool().schedule(
+                () -> renew().subscribe().with(ignored -> {
+                }, ignored -> {
+                    // already logged and rescheduled
+                }),
+                delayMillis, TimeUnit.MILLISECONDS);
+    }
+}
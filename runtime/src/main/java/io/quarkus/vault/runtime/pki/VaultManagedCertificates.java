@@ -0,0 +1,92 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.vault.VaultException;
+import io.quarkus.vault.VaultPKISecretEngineFactory;
+import io.quarkus.vault.pki.ManagedCertificates;
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.config.ManagedCertificateConfig;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+
+@Singleton
+public class VaultManagedCertificates implements ManagedCertificates {
+
+    private static final Logger log = Logger.getLogger(VaultManagedCertificates.class.getName());
+
+    private final VaultConfigHolder vaultConfigHolder;
+    private final VaultPKISecretEngineFactory engineFactory;
+    private final VaultClientKeyManager vaultClientKeyManager;
+    private final Map<String, VaultManagedCertificate> certificates = new ConcurrentHashMap<>();
+
+    public VaultManagedCertificates(VaultConfigHolder vaultConfigHolder, VaultPKISecretEngineFactory engineFactory,
+            VaultClientKeyManager vaultClientKeyManager) {
+        this.vaultConfigHolder = vaultConfigHolder;
+        this.engineFactory = engineFactory;
+        this.vaultClientKeyManager = vaultClientKeyManager;
+    }
+
+    void issueOnStartup(@Observes StartupEvent event) {
+        checkSingleUse("http-server", ManagedCertificateConfig::httpServer);
+        checkSingleUse("vault-client", ManagedCertificateConfig::vaultClient);
+        configs().keySet().forEach(name -> get(name).ready().subscribe().with(
+                ignored -> {
+                },
+                e -> log.warn("unable to issue managed certificate " + name + " on startup: " + e)));
+    }
+
+    @Override
+    public VaultManagedCertificate get(String name) {
+        ManagedCertificateConfig config = configs().get(name);
+        if (config == null) {
+            throw new VaultException("unknown managed certificate " + name);
+        }
+        return certificates.computeIfAbsent(name, ignored -> new VaultManagedCertificate(name, config,
+                engineFactory.reactiveEngine(config.mount()),
+                config.vaultClient() ? vaultClientKeyManager : new RotatingKeyManager(name)));
+    }
+
+    /**
+     * Returns the certificate configured with {@code http-server=true}, or {@code null}.
+     */
+    public VaultManagedCertificate getHttpServerCertificate() {
+        return configs().entrySet().stream()
+                .filter(e -> e.getValue().httpServer())
+                .map(e -> get(e.getKey()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @PreDestroy
+    void close() {
+        certificates.values().forEach(VaultManagedCertificate::close);
+    }
+
+    private Map<String, ManagedCertificateConfig> configs() {
+        // no configuration when vault is not enabled
+        VaultRuntimeConfig vaultRuntimeConfig = vaultConfigHolder.getVaultRuntimeConfig();
+        return vaultRuntimeConfig == null ? Map.of() : vaultRuntimeConfig.pki().certificate();
+    }
+
+    private void checkSingleUse(String use, Predicate<ManagedCertificateConfig> usedFor) {
+        List<String> names = configs().entrySet().stream()
+                .filter(e -> usedFor.test(e.getValue()))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+        if (names.size() > 1) {
+            throw new VaultException("only one managed certificate can be used for " + use + ", found " + names);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.security.cert.CertificateException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vault.VaultException;
+import io.quarkus.vault.pki.CertificatePool;
+import io.quarkus.vault.pki.CertificatePoolOptions;
+import io.quarkus.vault.pki.CertificatePoolStatistics;
+import io.quarkus.vault.pki.GeneratedCertificate;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * {@link CertificatePool} refilled through a certificate generator, with a bounded number of concurrent
+ * generations.
+ * <p>
+ * A refill is attempted every time a certificate is taken or the available certificates are counted, after discarding
+ * the pooled certificates that no longer have the min remaining validity. Failed refills are not retried eagerly, the
+ * next {@link #take()} tries again.
+ */
+public class VaultPKICertificatePool implements CertificatePool {
+
+    private static final Logger log = Logger.getLogger(VaultPKICertificatePool.class.getName());
+
+    private final String name;
+    private final Supplier<Uni<GeneratedCertificate>> generator;
+    private final int size;
+    private final int maxConcurrentRefills;
+    private final Duration minRemainingValidity;
+
+    private final ConcurrentLinkedQueue<PooledCertificate> certificates = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final AtomicInteger refilling = new AtomicInteger();
+    private volatile boolean closed;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder refillFailures = new LongAdder();
+    private final LongAdder refillNanos = new LongAdder();
+    private final AtomicLong maxRefillNanos = new AtomicLong();
+
+    public VaultPKICertificatePool(String name, Supplier<Uni<GeneratedCertificate>> generator,
+            CertificatePoolOptions options) {
+        if (options.size < 1 || options.maxConcurrentRefills < 1) {
+            throw new IllegalArgumentException("pool size and max concurrent refills must be positive");
+        }
+        this.name = name;
+        this.generator = generator;
+        this.size = options.size;
+        this.maxConcurrentRefills = options.maxConcurrentRefills;
+        this.minRemainingValidity = options.minRemainingValidity == null ? Duration.ZERO : options.minRemainingValidity;
+        refill();
+    }
+
+    @Override
+    public Uni<GeneratedCertificate> take() {
+        return Uni.createFrom().deferred(() -> {
+            Instant validUntil = Instant.now().plus(minRemainingValidity);
+            PooledCertificate pooledCertificate;
+            while ((pooledCertificate = certificates.poll()) != null) {
+                pooled.decrementAndGet();
+                if (pooledCertificate.notAfter.isAfter(validUntil)) {
+                    hits.increment();
+                    refill();
+                    return Uni.createFrom().item(pooledCertificate.certificate);
+                }
+                discarded.increment();
+            }
+            misses.increment();
+            refill();
+            return Uni.createFrom().deferred(generator::get);
+        });
+    }
+
+    @Override
+    public int available() {
+        refill();
+        return pooled.get();
+    }
+
+    @Override
+    public CertificatePoolStatistics getStatistics() {
+        long refillCount = refills.sum();
+        Duration average = refillCount == 0 ? Duration.ZERO : Duration.ofNanos(refillNanos.sum() / refillCount);
+        return new CertificatePoolStatistics(hits.sum(), misses.sum(), discarded.sum(), refillCount, refillFailures.sum(),
+                average, Duration.ofNanos(maxRefillNanos.get()));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        certificates.clear();
+        pooled.set(0);
+    }
+
+    private void refill() {
+        evictExpired();
+        // a refill failing right away is not retried by this call, which would otherwise keep generating
+        long failures = refillFailures.sum();
+        while (!closed && refillFailures.sum() == failures) {
+            int inFlight = refilling.get();
+            if (inFlight >= maxConcurrentRefills || pooled.get() + inFlight >= size) {
+                return;
+            }
+            if (refilling.compareAndSet(inFlight, inFlight + 1)) {
+                generate();
+            }
+        }
+    }
+
+    private void evictExpired() {
+        Instant validUntil = Instant.now().plus(minRemainingValidity);
+        for (PooledCertificate pooledCertificate : certificates) {
+            if (!pooledCertificate.notAfter.isAfter(validUntil) && certificates.remove(pooledCertificate)) {
+                pooled.decrementAndGet();
+                discarded.increment();
+            }
+        }
+    }
+
+    private void generate() {
+        long start = System.nanoTime();
+        // deferred, so that a generator throwing instead of returning a failed Uni still releases the slot
+        Uni.createFrom().deferred(generator::get)
+                .map(certificate -> new PooledCertificate(certificate, notAfter(certificate)))
+                .subscribe().with(
+                        pooledCertificate -> {
+                            long latency = System.nanoTime() - start;
+                            refills.increment();
+                            refillNanos.add(latency);
+                            maxRefillNanos.accumulateAndGet(latency, Math::max);
+                            if (!closed) {
+                                certificates.add(pooledCertificate);
+                                pooled.incrementAndGet();
+                            }
+                            refilling.decrementAndGet();
+                            refill();
+                        },
+                        e -> {
+                            refillFailures.increment();
+                            refilling.decrementAndGet();
+                            log.warn("unable to refill certificate pool " + name + ": " + e);
+                        });
+    }
+
+    private Instant notAfter(GeneratedCertificate certificate) {
+        try {
+            return certificate.certificate.getCertificate().getNotAfter().toInstant();
+        } catch (CertificateException e) {
+            throw new VaultException("unable to parse generated certificate", e);
+        }
+    }
+
+    private static class PooledCertificate {
+
+        final GeneratedCertificate certificate;
+        final Instant notAfter;
+
+        PooledCertificate(GeneratedCertificate certificate, Instant notAfter) {
+            this.certificate = certificate;
+            this.notAfter = notAfter;
+        }
+    }
+}
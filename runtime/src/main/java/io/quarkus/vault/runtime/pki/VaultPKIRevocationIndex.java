@@ -0,0 +1,157 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.math.BigInteger;
+import java.security.cert.CRLException;
+import java.security.cert.X509CRL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vault.VaultException;
+import io.quarkus.vault.pki.CRLData;
+import io.quarkus.vault.pki.RevocationIndex;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * {@link RevocationIndex} of a PKI mount.
+ * <p>
+ * Lookups read the current {@link RevokedSerials} snapshot. Once the CRL's {@code nextUpdate} has passed, or
+ * after {@link #invalidate()}, the next lookup triggers a single background download of the DER CRL and keeps
+ * answering from the previous snapshot until the new one is ready.
+ */
+public class VaultPKIRevocationIndex implements RevocationIndex {
+
+    private static final Logger log = Logger.getLogger(VaultPKIRevocationIndex.class.getName());
+
+    static final Duration DEFAULT_REFRESH_PERIOD = Duration.ofHours(1);
+    static final Duration FAILED_REFRESH_RETRY_PERIOD = Duration.ofSeconds(30);
+
+    private final String mount;
+    private final Supplier<Uni<CRLData>> crlLoader;
+    private final AtomicReference<Uni<RevocationIndex>> refresh = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile RevokedSerials serials = RevokedSerials.EMPTY;
+    private volatile Instant thisUpdate;
+    private volatile Instant nextUpdate;
+    private volatile long refreshAtMillis = Long.MIN_VALUE;
+
+    public VaultPKIRevocationIndex(String mount, Supplier<Uni<CRLData>> crlLoader) {
+        this.mount = mount;
+        this.crlLoader = crlLoader;
+    }
+
+    @Override
+    public boolean isRevoked(BigInteger serialNumber) {
+        refreshIfStale();
+        return serials.contains(serialNumber);
+    }
+
+    @Override
+    public int size() {
+        return serials.size();
+    }
+
+    @Override
+    public Instant getThisUpdate() {
+        return thisUpdate;
+    }
+
+    @Override
+    public Instant getNextUpdate() {
+        return nextUpdate;
+    }
+
+    /**
+     * Returns this index once it has been loaded at least once.
+     */
+    public Uni<RevocationIndex> ready() {
+        if (thisUpdate != null) {
+            refreshIfStale();
+            return Uni.createFrom().item(this);
+        }
+        return refresh();
+    }
+
+    /**
+     * Forces a refresh on the next lookup, e.g. after the CRL has been rotated.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        refreshAtMillis = Long.MIN_VALUE;
+    }
+
+    private void refreshIfStale() {
+        if (System.currentTimeMillis() >= refreshAtMillis && refresh.get() == null) {
+            refresh().subscribe().with(
+                    ignored -> {
+                    },
+                    e -> log.warn("unable to refresh revocation index of pki mount " + mount + ": " + e));
+        }
+    }
+
+    private Uni<RevocationIndex> refresh() {
+        // the download is only shared once subscribed, so an unsubscribed ready() leaves no state behind
+        return Uni.createFrom().deferred(() -> {
+            while (true) {
+                Uni<RevocationIndex> current = refresh.get();
+                if (current != null) {
+                    return current;
+                }
+                long loadGeneration = generation.get();
+                AtomicReference<Uni<RevocationIndex>> self = new AtomicReference<>();
+                Uni<RevocationIndex> load = Uni.createFrom().deferred(crlLoader::get)
+                        .map(crlData -> update(crlData, loadGeneration))
+                        // before the download is cleared, so that a concurrent lookup does not start another one
+                        .onFailure().invoke(e -> refreshAtMillis = System.currentTimeMillis()
+                                + FAILED_REFRESH_RETRY_PERIOD.toMillis())
+                        .onTermination().invoke(() -> refresh.compareAndSet(self.get(), null))
+                        .memoize().indefinitely();
+                self.set(load);
+                if (refresh.compareAndSet(null, load)) {
+                    return load;
+                }
+            }
+        });
+    }
+
+    private RevocationIndex update(CRLData crlData, long loadGeneration) {
+        X509CRL crl = parse(crlData);
+        Instant now = Instant.now();
+        if (crl == null) {
+            serials = RevokedSerials.EMPTY;
+            thisUpdate = now;
+            nextUpdate = null;
+        } else {
+            serials = RevokedSerials.of(crl);
+            thisUpdate = toInstant(crl.getThisUpdate(), now);
+            nextUpdate = toInstant(crl.getNextUpdate(), null);
+        }
+        Instant refreshAt = nextUpdate != null && nextUpdate.isAfter(now) ? nextUpdate : now.plus(DEFAULT_REFRESH_PERIOD);
+        // an invalidation that raced with the download may not be reflected in this CRL
+        refreshAtMillis = generation.get() == loadGeneration ? refreshAt.toEpochMilli() : Long.MIN_VALUE;
+        log.debug("loaded " + serials.size() + " revoked serials for pki mount " + mount + ", next refresh at " + refreshAt);
+        return this;
+    }
+
+    private X509CRL parse(CRLData crlData) {
+        Object data = crlData.getData();
+        if (data == null || (data instanceof byte[] && ((byte[]) data).length == 0)) {
+            // no CRL has been generated yet
+            return null;
+        }
+        try {
+            return crlData.getCRL();
+        } catch (CRLException e) {
+            throw new VaultException("unable to parse CRL of pki mount " + mount, e);
+        }
+    }
+
+    private static Instant toInstant(Date date, Instant defaultValue) {
+        return date == null ? defaultValue : date.toInstant();
+    }
+}
@@ -0,0 +1,29 @@
+package io.quarkus.vault.runtime.pki;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import jakarta.inject.Singleton;
+
+import io.quarkus.vault.pki.CRLData;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Holds the revocation index of each PKI mount, so that they are shared by all engines targeting the same mount.
+ */
+@Singleton
+public class VaultPKIRevocationIndexes {
+
+    private final ConcurrentHashMap<String, VaultPKIRevocationIndex> indexes = new ConcurrentHashMap<>();
+
+    public VaultPKIRevocationIndex get(String mount, Supplier<Uni<CRLData>> crlLoader) {
+        return indexes.computeIfAbsent(mount, m -> new VaultPKIRevocationIndex(m, crlLoader));
+    }
+
+    public void invalidate(String mount) {
+        VaultPKIRevocationIndex index = indexes.get(mount);
+        if (index != null) {
+            index.invalidate();
+        }
+    }
+}
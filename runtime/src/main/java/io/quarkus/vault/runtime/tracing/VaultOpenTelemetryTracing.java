@@ -0,0 +1,149 @@
+package io.quarkus.vault.runtime.tracing;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.quarkus.vault.runtime.client.VaultRequest;
+import io.quarkus.vault.runtime.client.VaultTracing;
+import io.quarkus.vault.runtime.config.VaultTracingConfig;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+
+/**
+ * OpenTelemetry spans of the Vault clients, registered when the OpenTelemetry extension is present.
+ * <p>
+ * The spans of the requests have the engine, mount, key (the last segment of the path) and status as attributes,
+ * never the request or response bodies. The internal work (login, token and lease validation and renewal,
+ * unwrapping) appears as spans between the caller's span and the spans of the requests it sends.
+ * <p>
+ * The OpenTelemetry context is carried from the outermost Vault call to the nested ones in the Mutiny context, since
+ * the nested calls are subscribed on the event loop that completed the previous request.
+ */
+@Singleton
+public class VaultOpenTelemetryTracing implements VaultTracing.Factory {
+
+    static final String INSTRUMENTATION_NAME = "io.quarkus.vault";
+
+    private static final String CONTEXT_KEY = VaultOpenTelemetryTracing.class.getName();
+    private static final Object NOT_SAMPLED = new Object();
+
+    private final Tracer tracer;
+
+    @Inject
+    public VaultOpenTelemetryTracing(OpenTelemetry openTelemetry) {
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+
+    @Override
+    public VaultTracing create(VaultTracingConfig config) {
+        return new Tracing(tracer, config.sampleRatio());
+    }
+
+    static class Tracing extends VaultTracing {
+
+        private final Tracer tracer;
+        private final double sampleRatio;
+
+        Tracing(Tracer tracer, double sampleRatio) {
+            this.tracer = tracer;
+            this.sampleRatio = sampleRatio;
+        }
+
+        @Override
+        public <T> Uni<T> trace(String name, VaultRequest request, Uni<T> traced) {
+            return Uni.createFrom().context(context -> {
+                Object current = context.getOrElse(CONTEXT_KEY, () -> null);
+                if (current == NOT_SAMPLED) {
+                    return traced;
+                }
+                if (current != null) {
+                    return span(name, request, traced, context);
+                }
+                // outermost vault call: the calls made after it in the same pipeline see the caller's span if the
+                // pipeline has a context, and the calls nested in it are subscribed with a context of their own
+                Context parent = Context.current();
+                Object decision = sampled(parent) ? parent : NOT_SAMPLED;
+                context.put(CONTEXT_KEY, decision);
+                Map<String, Object> entries = new HashMap<>();
+                context.keys().forEach(key -> entries.put(key, context.get(key)));
+                io.smallrye.mutiny.Context shared = io.smallrye.mutiny.Context.from(entries);
+                Uni<T> subscribed = decision == NOT_SAMPLED ? traced : span(name, request, traced, shared);
+                return Uni.createFrom().emitter(emitter -> {
+                    Cancellable cancellable = subscribed.subscribe().with(shared, emitter::complete, emitter::fail);
+                    emitter.onTermination(cancellable::cancel);
+                });
+            });
+        }
+
+        private boolean sampled(Context parent) {
+            SpanContext parentSpan = Span.fromContext(parent).getSpanContext();
+            if (parentSpan.isValid() && !parentSpan.isSampled()) {
+                return false;
+            }
+            return sampleRatio >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRatio;
+        }
+
+        private <T> Uni<T> span(String name, VaultRequest request, Uni<T> traced, io.smallrye.mutiny.Context context) {
+            Context parent = context.get(CONTEXT_KEY);
+            Span span = tracer.spanBuilder(name)
+                    .setParent(parent)
+                    .setSpanKind(request == null ? SpanKind.INTERNAL : SpanKind.CLIENT)
+                    .startSpan();
+            if (request != null) {
+                describe(span, request);
+                request.setSpan((node, status) -> {
+                    span.setAttribute("server.address", node.getHost());
+                    span.setAttribute("server.port", port(node));
+                    if (status > 0) {
+                        span.setAttribute("http.response.status_code", status);
+                    }
+                });
+            }
+            context.put(CONTEXT_KEY, parent.with(span));
+            return traced.onTermination().invoke((item, failure, cancelled) -> {
+                context.put(CONTEXT_KEY, parent);
+                if (failure != null) {
+                    span.setStatus(StatusCode.ERROR);
+                    span.setAttribute("error.type", failure.getClass().getName());
+                } else if (cancelled) {
+                    span.setAttribute("error.type", "cancelled");
+                }
+                span.end();
+            });
+        }
+    }
+
+    static void describe(Span span, VaultRequest request) {
+        span.setAttribute("http.request.method", request.getMethod().name());
+        String operation = request.getOperationName();
+        if (operation != null) {
+            int start = operation.indexOf('[');
+            int end = operation.indexOf(']', start + 1);
+            if (start >= 0 && end > start) {
+                span.setAttribute("vault.engine", operation.substring(start + 1, end));
+            }
+        }
+        String[] segments = request.getPath().split("/");
+        boolean auth = segments.length > 1 && segments[0].equals("auth");
+        span.setAttribute("vault.mount", auth ? segments[0] + "/" + segments[1] : segments[0]);
+        if (segments.length > (auth ? 2 : 1)) {
+            span.setAttribute("vault.key", segments[segments.length - 1]);
+        }
+    }
+
+    private static long port(URL node) {
+        return node.getPort() != -1 ? node.getPort() : node.getDefaultPort();
+    }
+}
@@ -0,0 +1,83 @@
+package io.quarkus.vault.secrets.kv;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * New version of a secret of the kv secret engine.
+ */
+public class SecretChange {
+
+    private String path;
+    private int version;
+    private Map<String, Object> data;
+
+    public SecretChange() {
+    }
+
+    public SecretChange(String path, int version, Map<String, Object> data) {
+        this.path = path;
+        this.version = version;
+        this.data = data;
+    }
+
+    /**
+     * Path of the secret, without the kv engine mount path.
+     *
+     * @return Path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Current version of the secret. When the secret is deleted or destroyed, the version that was deleted, or
+     * {@code 0} if the metadata of the secret does not exist anymore either.
+     *
+     * @return Version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Values of the current version, or {@code null} if it has been deleted or destroyed.
+     *
+     * @return Data.
+     */
+    public Map<String, Object> getData() {
+        return data;
+    }
+
+    public boolean isDeleted() {
+        return data == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        final SecretChange that = (SecretChange) o;
+        return version == that.version &&
+                Objects.equals(path, that.path) &&
+                Objects.equals(data, that.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(path, version, data);
+    }
+
+    @Override
+    public String toString() {
+        // data left out, it may be confidential
+        final StringBuilder sb = new StringBuilder("SecretChange{");
+        sb.append("path='").append(path).append('\'');
+        sb.append(", version=").append(version);
+        sb.append(", deleted=").append(isDeleted());
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -59,10 +59,20 @@ import io.quarkus.vault.runtime.client.dto.sys.VaultInitResponse;
 import io.quarkus.vault.runtime.client.dto.sys.VaultPolicyBody;
 import io.quarkus.vault.runtime.client.dto.sys.VaultSealStatusResult;
 import io.quarkus.vault.runtime.config.VaultAuthenticationConfig;
+import io.quarkus.vault.runtime.config.VaultCircuitBreakerConfig;
+import io.quarkus.vault.runtime.config.VaultClusterConfig;
+import io.quarkus.vault.runtime.config.VaultCoalescingConfig;
+import io.quarkus.vault.runtime.config.VaultConcurrencyLimitConfig;
 import io.quarkus.vault.runtime.config.VaultEnterpriseConfig;
+import io.quarkus.vault.runtime.config.VaultHedgingConfig;
 import io.quarkus.vault.runtime.config.VaultKubernetesAuthenticationConfig;
+import io.quarkus.vault.runtime.config.VaultPKIConfig;
+import io.quarkus.vault.runtime.config.VaultPrewarmConfig;
+import io.quarkus.vault.runtime.config.VaultRetryConfig;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.runtime.config.VaultSnapshotConfig;
 import io.quarkus.vault.runtime.config.VaultTlsConfig;
+import io.quarkus.vault.runtime.config.VaultTracingConfig;
 import io.quarkus.vault.test.client.TestVaultClient;
 
 public class VaultTestExtension {
@@ -201,6 +211,44 @@ public class VaultTestExtension {
         when(tls.caCert()).thenReturn(Optional.empty());
         when(tls.useKubernetesCaCert()).thenReturn(true);
 
+        VaultClusterConfig cluster = mock(VaultClusterConfig.class);
+        when(config.cluster()).thenReturn(cluster);
+        when(cluster.nodes()).thenReturn(Optional.empty());
+
+        VaultRetryConfig retry = mock(VaultRetryConfig.class);
+        when(config.retry()).thenReturn(retry);
+        when(retry.maxAttempts()).thenReturn(1);
+
+        VaultCircuitBreakerConfig circuitBreaker = mock(VaultCircuitBreakerConfig.class);
+        when(config.circuitBreaker()).thenReturn(circuitBreaker);
+        when(circuitBreaker.enabled()).thenReturn(false);
+
+        VaultHedgingConfig hedging = mock(VaultHedgingConfig.class);
+        when(config.hedging()).thenReturn(hedging);
+        when(hedging.enabled()).thenReturn(false);
+
+        VaultConcurrencyLimitConfig concurrencyLimit = mock(VaultConcurrencyLimitConfig.class);
+        when(config.concurrencyLimit()).thenReturn(concurrencyLimit);
+        when(concurrencyLimit.enabled()).thenReturn(false);
+
+        VaultCoalescingConfig coalescing = mock(VaultCoalescingConfig.class);
+        when(config.coalescing()).thenReturn(coalescing);
+        when(coalescing.enabled()).thenReturn(false);
+
+        VaultPrewarmConfig prewarm = mock(VaultPrewarmConfig.class);
+        when(config.prewarm()).thenReturn(prewarm);
+        when(prewarm.enabled()).thenReturn(false);
+        VaultTracingConfig tracing = mock(VaultTracingConfig.class);
+        when(config.tracing()).thenReturn(tracing);
+        when(tracing.enabled()).thenReturn(false);
+        VaultSnapshotConfig snapshot = mock(VaultSnapshotConfig.class);
+        when(config.snapshot()).thenReturn(snapshot);
+        when(snapshot.enabled()).thenReturn(false);
+
+        VaultPKIConfig pki = mock(VaultPKIConfig.class);
+        when(config.pki()).thenReturn(pki);
+        when(pki.certificate()).thenReturn(Map.of());
+
         VaultEnterpriseConfig enterprise = mock(VaultEnterpriseConfig.class);
         when(config.enterprise()).thenReturn(enterprise);
         when(enterprise.namespace()).thenReturn(Optional.empty());
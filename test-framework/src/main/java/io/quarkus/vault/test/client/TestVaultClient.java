@@ -5,6 +5,7 @@ import io.quarkus.runtime.TlsConfig;
 import io.quarkus.vault.runtime.VaultConfigHolder;
 import io.quarkus.vault.runtime.client.PrivateVertxVaultClient;
 import io.quarkus.vault.runtime.client.dto.transit.VaultTransitRandomBody;
+import io.quarkus.vault.runtime.pki.VaultClientKeyManager;
 import io.quarkus.vault.test.client.dto.VaultAppRoleRoleId;
 import io.quarkus.vault.test.client.dto.VaultAppRoleSecretId;
 import io.quarkus.vault.test.client.dto.VaultTransitHash;
@@ -23,7 +24,7 @@ public class TestVaultClient extends PrivateVertxVaultClient {
     }
 
     public TestVaultClient(VaultConfigHolder configHolder) {
-        super(configHolder, new TlsConfig());
+        super(configHolder, new TlsConfig(), new VaultClientKeyManager());
     }
 
     public Uni<VaultAppRoleSecretId> generateAppRoleSecretId(String token, String roleName) {